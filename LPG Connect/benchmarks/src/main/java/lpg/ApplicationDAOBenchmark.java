@@ -0,0 +1,152 @@
+package lpg;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hot ApplicationDAO paths at a given store size.
+ *
+ * backend=memory (the default) runs against a fresh InMemoryDAO in each fork. backend=mysql
+ * runs against the database MySQLDAO is configured for; it is topped up to the requested
+ * size but never emptied, so use a scratch schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationDAOBenchmark {
+    private static final String[] STATUSES = {"PENDING", "APPROVED", "REJECTED"};
+    private static final int APPS_PER_USER = 10;
+    private static final int SEED_CHUNK = 10_000;
+
+    // 10M needs roughly 4 GB of heap for the in-memory store: -p size=10000000 -jvmArgsAppend -Xmx4g
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"memory"})
+    public String backend;
+
+    private ApplicationDAO dao;
+    private StatisticsEngine statisticsEngine;
+    private int[] appIds;
+    private int users;
+
+    @State(Scope.Thread)
+    public static class ThreadRandom {
+        final SplittableRandom random = new SplittableRandom(Thread.currentThread().getId());
+    }
+
+    @Setup(Level.Trial)
+    public void seed() {
+        dao = "mysql".equals(backend) ? new MySQLDAO() : new InMemoryDAO();
+        users = Math.max(1, size / APPS_PER_USER);
+
+        if (!dao.validateUser(username(0), "pw").isPresent()) {
+            for (int u = 0; u < users; u++) {
+                dao.registerUser(new RegularUser(username(u), "pw"));
+            }
+        }
+
+        long existing = dao.getApplicationStats().getTotalApplications();
+        List<Application> chunk = new ArrayList<>(SEED_CHUNK);
+        SplittableRandom random = new SplittableRandom(42);
+        for (long i = existing; i < size; i++) {
+            chunk.add(newApplication(random, (int) (i % users)));
+            if (chunk.size() == SEED_CHUNK) {
+                dao.saveApplications(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            dao.saveApplications(chunk);
+        }
+
+        List<Integer> ids = new ArrayList<>(size);
+        dao.forEachApplication(null, app -> {
+            if (ids.size() < size) {
+                ids.add(app.getAppId());
+            }
+        });
+        appIds = ids.stream().mapToInt(Integer::intValue).toArray();
+        statisticsEngine = new StatisticsEngine(dao, ApplicationEventBus.shared(), TimeUnit.HOURS.toMillis(1));
+        statisticsEngine.getApplicationStats(); // seed the counters outside the measurement
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        statisticsEngine.shutdown();
+    }
+
+    @Benchmark
+    public Optional<User> validateUser(ThreadRandom t) {
+        return dao.validateUser(username(t.random.nextInt(users)), "pw");
+    }
+
+    @Benchmark
+    public Optional<Application> findApplicationById(ThreadRandom t) {
+        return dao.findApplicationById(appIds[t.random.nextInt(appIds.length)]);
+    }
+
+    @Benchmark
+    public List<Application> findApplicationsByUsername(ThreadRandom t) {
+        return dao.findApplicationsByUsername(username(t.random.nextInt(users)));
+    }
+
+    // Aggregates computed by the store (GROUP BY / index sizes)
+    @Benchmark
+    public ApplicationStats statsFromStore() {
+        return dao.getApplicationStats();
+    }
+
+    // What the dashboard actually reads: StatisticsEngine counters
+    @Benchmark
+    public ApplicationStats statsFromCounters() {
+        return statisticsEngine.getApplicationStats();
+    }
+
+    @Benchmark
+    public int updateStatus(ThreadRandom t) {
+        int appId = appIds[t.random.nextInt(appIds.length)];
+        return dao.updateApplicationStatuses(List.of(appId), STATUSES[t.random.nextInt(STATUSES.length)]);
+    }
+
+    // One full lifecycle per call, so the store stays at the requested size
+    @Benchmark
+    public int saveUpdateDelete(ThreadRandom t) {
+        Application app = newApplication(t.random, t.random.nextInt(users));
+        dao.saveApplication(app);
+        app.setStatus("APPROVED");
+        dao.updateApplication(app);
+        dao.deleteApplication(app.getAppId());
+        return app.getAppId();
+    }
+
+    private static String username(int index) {
+        return "bench" + index;
+    }
+
+    private static Application newApplication(SplittableRandom random, int user) {
+        Application app = new Application(username(user), "Applicant " + random.nextInt(1_000_000),
+            String.valueOf(7_000_000_000L + random.nextInt(999_999_999)), random.nextInt(900) + 1 + ", Main Road, City", 1);
+        app.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+        return app;
+    }
+}
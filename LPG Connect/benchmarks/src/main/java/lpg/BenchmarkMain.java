@@ -0,0 +1,46 @@
+package lpg;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks once per thread count and writes each run's results as JSON.
+ *
+ * Usage: java [-Dlpg.bench.threads=1,4,16] [-Dlpg.bench.out=target/jmh] -jar target/benchmarks.jar [JMH options]
+ *
+ * Any standard JMH option (-p size=1000, -f, -i, a benchmark regex, ...) is passed through;
+ * the thread count and result file are set here. Results go to
+ * {out}/results-threads-{n}.json, one file per thread count.
+ */
+public class BenchmarkMain {
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("-h") || Arrays.asList(args).contains("-l") || Arrays.asList(args).contains("-lp")) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Path out = Paths.get(System.getProperty("lpg.bench.out", "target/jmh"));
+        Files.createDirectories(out);
+
+        for (String count : System.getProperty("lpg.bench.threads", "1,4").split(",")) {
+            int threads = Integer.parseInt(count.trim());
+            Path result = out.resolve("results-threads-" + threads + ".json");
+            Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .threads(threads)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+            new Runner(options).run();
+            System.out.println("Results for " + threads + " thread(s): " + result);
+        }
+    }
+}
@@ -24,6 +24,9 @@ CREATE TABLE IF NOT EXISTS applications (
     FOREIGN KEY (applicant_username) REFERENCES users(username)
 );
 
+-- Indexes for paging, per-user history and status filters are created by the
+-- application's schema migrations on first start, so this script stays re-runnable
+
 -- Insert default users
 INSERT IGNORE INTO users (username, password, role) VALUES 
 ('admin', 'admin123', 'ADMIN'),
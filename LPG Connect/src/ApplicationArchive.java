@@ -0,0 +1,500 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archive tier of InMemoryDAO: settled applications moved out of the in-memory columns,
+ * kept compressed in archive-N.lpga files next to the journal.
+ *
+ * Every archived chunk is appended as blocks of up to BLOCK_ROWS applications, grouped by
+ * applicant. A block is an uncompressed header listing its application IDs, statuses and
+ * applicants, then the applications as a GZIP stream. Opening the archive reads only the
+ * headers, and only the sorted IDs and applicants stay in memory (a few bytes per archived
+ * application), so a lookup by ID or applicant inflates just the blocks that hold it. The
+ * blocks read last are kept decoded.
+ *
+ * Blocks are synced to disk before InMemoryDAO removes their rows and journals that. A
+ * crash in between leaves the rows in both tiers; the in-memory row wins on every read and
+ * is archived again later, and the newest block wins between archived copies. Blocks torn
+ * by a crash mid-append are cut off when the archive is opened.
+ *
+ * Blocks are framed as [payload length][CRC32C of payload][header length][header][GZIP data].
+ *
+ * Thread-safe: lookups run concurrently with each other and with an append.
+ */
+class ApplicationArchive {
+    private static final long FILE_BYTES = 64L << 20; // a new file is started once one passes this
+    private static final int FRAME_HEADER = 12;
+    private static final int MAX_BLOCK = 256 << 20;
+    private static final int BLOCK_ROWS = 64; // a lookup inflates one block, so blocks stay small
+    private static final int DECODED_BLOCKS = 64;
+    private static final Pattern FILE_NAME = Pattern.compile("archive-(\\d+)\\.lpga");
+
+    private final Path dir;
+    private final UnaryOperator<String> canonicalUsername;
+    private final List<Block> blocks = new CopyOnWriteArrayList<>(); // in append order
+    private final Map<Integer, FileChannel> files = new TreeMap<>();
+    private final Map<Block, List<Application>> decoded = new LinkedHashMap<>(DECODED_BLOCKS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Block, List<Application>> eldest) {
+            return size() > DECODED_BLOCKS;
+        }
+    };
+    private int currentFile;
+    private long currentFileSize;
+
+    private ApplicationArchive(Path dir, UnaryOperator<String> canonicalUsername) {
+        this.dir = dir;
+        this.canonicalUsername = canonicalUsername;
+    }
+
+    /**
+     * Opens (or creates) the archive in dir. active receives the applicant and ID of every
+     * archived application whose status is active, oldest block first, so the store can keep
+     * refusing new submissions from those applicants.
+     */
+    public static ApplicationArchive open(Path dir, UnaryOperator<String> canonicalUsername,
+                                          BiConsumer<String, Integer> active) throws IOException {
+        Files.createDirectories(dir);
+        ApplicationArchive archive = new ApplicationArchive(dir, canonicalUsername);
+        try {
+            List<Integer> numbers = fileNumbers(dir);
+            for (int i = 0; i < numbers.size(); i++) {
+                archive.load(numbers.get(i), i == numbers.size() - 1, active);
+            }
+            if (numbers.isEmpty()) {
+                archive.startFile(1);
+            } else {
+                archive.currentFile = numbers.get(numbers.size() - 1);
+                archive.currentFileSize = archive.files.get(archive.currentFile).size();
+            }
+        } catch (IOException | RuntimeException e) {
+            archive.close();
+            throw e;
+        }
+        return archive;
+    }
+
+    /**
+     * Appends the applications and syncs them. Returns once they are durable; only then may
+     * the store drop its own copies.
+     */
+    public synchronized void append(List<Application> apps) throws IOException {
+        // Grouped by applicant, so a history lookup inflates as few blocks as possible
+        List<Application> sorted = new ArrayList<>(apps);
+        sorted.sort(Comparator.comparing(Application::getApplicantUsername));
+        List<Block> appended = new ArrayList<>();
+        for (int from = 0; from < sorted.size(); from += BLOCK_ROWS) {
+            List<Application> group = sorted.subList(from, Math.min(from + BLOCK_ROWS, sorted.size()));
+            ByteBuffer frame = encode(group);
+            if (currentFileSize > 0 && currentFileSize + frame.remaining() > FILE_BYTES) {
+                files.get(currentFile).force(false);
+                startFile(currentFile + 1);
+            }
+            FileChannel channel = files.get(currentFile);
+            long offset = currentFileSize;
+            int length = frame.remaining();
+            while (frame.hasRemaining()) {
+                channel.write(frame, offset + frame.position());
+            }
+            currentFileSize += length;
+            appended.add(blockOf(currentFile, offset, length, group));
+        }
+        if (!appended.isEmpty()) {
+            files.get(currentFile).force(false);
+            blocks.addAll(appended);
+        }
+    }
+
+    // The newest archived copy of the application, if any
+    public Optional<Application> find(int appId) throws IOException {
+        for (int i = blocks.size() - 1; i >= 0; i--) {
+            Block block = blocks.get(i);
+            if (block.contains(appId)) {
+                for (Application app : read(block)) {
+                    if (app.getAppId() == appId) {
+                        return Optional.of(app.copy());
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Every archived application of the applicant, one copy per ID, in display order
+    public List<Application> findByUser(String username) throws IOException {
+        List<Application> found = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        for (int i = blocks.size() - 1; i >= 0; i--) {
+            Block block = blocks.get(i);
+            if (Arrays.binarySearch(block.users, username) >= 0) {
+                for (Application app : read(block)) {
+                    if (username.equals(app.getApplicantUsername()) && seen.add(app.getAppId())) {
+                        found.add(app.copy());
+                    }
+                }
+            }
+        }
+        found.sort((a, b) -> PageCursor.of(a).compareTo(PageCursor.of(b)));
+        return found;
+    }
+
+    /**
+     * Streams every archived application, one copy per ID, most recently archived block
+     * first. Blocks are decoded one at a time and not kept, so a full scan does not push
+     * out the blocks lookups are using.
+     */
+    public void forEach(Consumer<Application> action) throws IOException {
+        BitSet seen = new BitSet();
+        for (int i = blocks.size() - 1; i >= 0; i--) {
+            Block block = blocks.get(i);
+            List<Application> apps;
+            synchronized (decoded) {
+                apps = decoded.get(block);
+            }
+            for (Application app : apps != null ? apps : decode(block)) {
+                if (!seen.get(app.getAppId())) {
+                    seen.set(app.getAppId());
+                    action.accept(app.copy());
+                }
+            }
+        }
+    }
+
+    public synchronized void close() {
+        for (FileChannel channel : files.values()) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Nothing left to lose: every block was synced when it was appended
+            }
+        }
+        files.clear();
+    }
+
+    // --- Blocks ---
+
+    /**
+     * In-memory index entry of one block: where its frame is and which applications and
+     * applicants it holds, both sorted for binary search.
+     */
+    private static final class Block {
+        final int file;
+        final long offset;
+        final int length;
+        final int[] ids;
+        final String[] users;
+
+        Block(int file, long offset, int length, int[] ids, String[] users) {
+            this.file = file;
+            this.offset = offset;
+            this.length = length;
+            this.ids = ids;
+            this.users = users;
+        }
+
+        boolean contains(int appId) {
+            return ids.length > 0 && appId >= ids[0] && appId <= ids[ids.length - 1]
+                && Arrays.binarySearch(ids, appId) >= 0;
+        }
+    }
+
+    private Block blockOf(int file, long offset, int length, List<Application> apps) {
+        int[] ids = new int[apps.size()];
+        Set<String> users = new TreeSet<>();
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = apps.get(i).getAppId();
+            users.add(canonicalUsername.apply(apps.get(i).getApplicantUsername()));
+        }
+        Arrays.sort(ids);
+        return new Block(file, offset, length, ids, users.toArray(new String[0]));
+    }
+
+    // The block's applications, decoded from disk unless they were read recently
+    private List<Application> read(Block block) throws IOException {
+        synchronized (decoded) {
+            List<Application> apps = decoded.get(block);
+            if (apps != null) {
+                return apps;
+            }
+        }
+        List<Application> apps = decode(block);
+        synchronized (decoded) {
+            decoded.put(block, apps);
+        }
+        return apps;
+    }
+
+    private List<Application> decode(Block block) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(block.length);
+        FileChannel channel;
+        synchronized (this) {
+            channel = files.get(block.file);
+        }
+        if (channel == null) {
+            throw new IOException("archive is closed");
+        }
+        while (frame.hasRemaining()) {
+            if (channel.read(frame, block.offset + frame.position()) < 0) {
+                throw new IOException("archive block at " + block.offset + " of " + fileName(block.file) + " is truncated");
+            }
+        }
+        frame.flip();
+        int payloadLength = frame.getInt();
+        int crc = frame.getInt();
+        if (checksum(frame.array(), 8, payloadLength) != crc) {
+            throw new IOException("archive block at " + block.offset + " of " + fileName(block.file) + " is corrupt");
+        }
+        int headerLength = frame.getInt();
+        int dataStart = FRAME_HEADER + headerLength;
+        return decodeApplications(frame.array(), dataStart, block.length - dataStart, block.ids.length);
+    }
+
+    // Indexes every block of the file. The newest file may end in blocks of an append that was
+    // never synced (and so never acknowledged): its blocks are checked and a damaged tail cut off.
+    private void load(int number, boolean newest, BiConsumer<String, Integer> active) throws IOException {
+        FileChannel channel = FileChannel.open(dir.resolve(fileName(number)), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        files.put(number, channel);
+        long size = channel.size();
+        long offset = 0;
+        ByteBuffer frameHeader = ByteBuffer.allocate(FRAME_HEADER);
+        while (offset < size) {
+            boolean complete = size - offset >= FRAME_HEADER;
+            int payloadLength = 0;
+            int length = 0;
+            if (complete) {
+                frameHeader.clear();
+                readFully(channel, frameHeader, offset);
+                payloadLength = frameHeader.getInt(0);
+                length = 8 + payloadLength;
+                complete = payloadLength >= 4 && payloadLength <= MAX_BLOCK && offset + length <= size;
+            }
+            if (complete && newest) {
+                ByteBuffer frame = ByteBuffer.allocate(length);
+                readFully(channel, frame, offset);
+                complete = checksum(frame.array(), 8, payloadLength) == frameHeader.getInt(4);
+            }
+            if (!complete) {
+                if (!newest) {
+                    throw new IOException(fileName(number) + " is damaged at offset " + offset);
+                }
+                System.err.println("Cutting off an incomplete archive block at offset " + offset + " of " + fileName(number));
+                channel.truncate(offset);
+                channel.force(true);
+                return;
+            }
+            ByteBuffer header = ByteBuffer.allocate(frameHeader.getInt(8));
+            readFully(channel, header, offset + FRAME_HEADER);
+            blocks.add(decodeHeader(header, number, offset, length, active));
+            offset += length;
+        }
+    }
+
+    private void startFile(int number) throws IOException {
+        FileChannel channel = FileChannel.open(dir.resolve(fileName(number)),
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        files.put(number, channel);
+        currentFile = number;
+        currentFileSize = 0;
+        try (FileChannel directory = FileChannel.open(dir, StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            // Best effort, as for the journal
+        }
+    }
+
+    // --- Encoding ---
+
+    // Header: count, then ID and status code per application, then the distinct applicants
+    private static ByteBuffer encode(List<Application> apps) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(apps.size() * 64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(new byte[FRAME_HEADER]);
+        List<String> users = new ArrayList<>();
+        Map<String, Integer> userIndex = new LinkedHashMap<>();
+        out.writeInt(apps.size());
+        for (Application app : apps) {
+            out.writeInt(app.getAppId());
+            out.writeByte(ApplicationStatus.of(app.getStatus()).code());
+            Integer index = userIndex.get(app.getApplicantUsername());
+            if (index == null) {
+                index = users.size();
+                users.add(app.getApplicantUsername());
+                userIndex.put(app.getApplicantUsername(), index);
+            }
+            out.writeInt(index);
+        }
+        out.writeInt(users.size());
+        for (String user : users) {
+            writeString(out, user);
+        }
+        int headerLength = out.size() - FRAME_HEADER;
+
+        GZIPOutputStream gzip = new GZIPOutputStream(bytes, 64 * 1024);
+        DataOutputStream data = new DataOutputStream(gzip);
+        for (Application app : apps) {
+            data.writeInt(app.getAppId());
+            writeString(data, app.getApplicantUsername());
+            writeString(data, app.getName());
+            writeString(data, app.getMobileNo());
+            writeString(data, app.getAddress());
+            data.writeInt(app.getNumConnections());
+            writeString(data, app.getStatus());
+            LocalDateTime created = app.getCreatedAt();
+            data.writeLong(created != null ? created.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE);
+            data.writeInt(created != null ? created.getNano() : 0);
+        }
+        data.flush();
+        gzip.finish();
+
+        ByteBuffer frame = ByteBuffer.wrap(bytes.toByteArray());
+        int payloadLength = frame.remaining() - 8;
+        frame.putInt(0, payloadLength);
+        frame.putInt(8, headerLength);
+        frame.putInt(4, checksum(frame.array(), 8, payloadLength));
+        return frame;
+    }
+
+    private Block decodeHeader(ByteBuffer header, int file, long offset, int length, BiConsumer<String, Integer> active) {
+        int count = header.getInt();
+        int[] ids = new int[count];
+        byte[] statuses = new byte[count];
+        int[] userIndexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = header.getInt();
+            statuses[i] = header.get();
+            userIndexes[i] = header.getInt();
+        }
+        String[] users = new String[header.getInt()];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = canonicalUsername.apply(readString(header));
+        }
+        for (int i = 0; i < count; i++) {
+            if (ApplicationStatus.fromCode(statuses[i]).isActive()) {
+                active.accept(users[userIndexes[i]], ids[i]);
+            }
+        }
+        Arrays.sort(ids);
+        Arrays.sort(users);
+        return new Block(file, offset, length, ids, users);
+    }
+
+    private static List<Application> decodeApplications(byte[] bytes, int offset, int length, int count) throws IOException {
+        List<Application> apps = new ArrayList<>(count);
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(bytes, offset, length), 64 * 1024))) {
+            for (int i = 0; i < count; i++) {
+                int appId = in.readInt();
+                String username = readString(in);
+                String name = readString(in);
+                String mobile = readString(in);
+                String address = readString(in);
+                int connections = in.readInt();
+                String status = readString(in);
+                long seconds = in.readLong();
+                int nanos = in.readInt();
+                LocalDateTime created = seconds == Long.MIN_VALUE ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+                apps.add(new Application(appId, username, name, mobile, address, connections, status, created));
+            }
+        }
+        return apps;
+    }
+
+    // Length-prefixed UTF-8, -1 for null, as in the journal (writeUTF stops at 64 KB)
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    // --- Files ---
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("unexpected end of archive file");
+            }
+        }
+        buffer.flip();
+    }
+
+    private static String fileName(int number) {
+        return String.format("archive-%06d.lpga", number);
+    }
+
+    // Numbers of the archive files in dir, ascending
+    private static List<Integer> fileNumbers(Path dir) throws IOException {
+        List<Integer> found = new ArrayList<>();
+        try (Stream<Path> entries = Files.list(dir)) {
+            entries.forEach(file -> {
+                Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    found.add(Integer.parseInt(matcher.group(1)));
+                }
+            });
+        }
+        found.sort(null);
+        return found;
+    }
+}
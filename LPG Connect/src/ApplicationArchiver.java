@@ -0,0 +1,95 @@
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves settled (APPROVED or REJECTED) applications older than a configured age out of the
+ * hot store, so admin views, status filters, search and statistics only work through
+ * applications that can still change. MySQLDAO moves them to the applications_archive
+ * table and InMemoryDAO to compressed archive files; a lookup by ID and an applicant's
+ * history read both tiers. Archived applications are read-only.
+ *
+ * A run moves rows in chunks, each in its own short transaction (or write lock hold), and
+ * pauses between chunks so submissions and admin changes interleave with a large backlog
+ * instead of queueing behind it. Listeners see each moved row as an ARCHIVED event.
+ */
+class ApplicationArchiver {
+    private static final long MAX_INITIAL_DELAY_MILLIS = 600_000L;
+
+    // Moves up to maxRows settled applications created before the cutoff; returns how many, or -1 on failure
+    @FunctionalInterface
+    interface ChunkMover {
+        int archiveSettledApplications(LocalDateTime before, int maxRows);
+    }
+
+    private final String storeName;
+    private final ChunkMover mover;
+    private final Duration age;
+    private final int chunkRows;
+    private final long pauseMillis;
+    private final AtomicLong archived = new AtomicLong();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "lpg-archiver");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    public ApplicationArchiver(String storeName, ChunkMover mover, Duration age, int chunkRows, long pauseMillis) {
+        this.storeName = storeName;
+        this.mover = mover;
+        this.age = age;
+        this.chunkRows = chunkRows;
+        this.pauseMillis = pauseMillis;
+    }
+
+    // Runs every intervalMillis; the first run waits too, so it stays out of startup
+    public void start(long intervalMillis) {
+        scheduler.scheduleWithFixedDelay(this::runOnce, Math.min(intervalMillis, MAX_INITIAL_DELAY_MILLIS),
+            intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Moves everything that is due now, chunk by chunk, and returns how many applications
+     * moved. Stops at the first chunk that is not full, including a failed one.
+     */
+    public long runOnce() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(age);
+        long started = System.nanoTime();
+        long moved = 0;
+        try {
+            while (true) {
+                int chunk = mover.archiveSettledApplications(cutoff, chunkRows);
+                if (chunk > 0) {
+                    moved += chunk;
+                    archived.addAndGet(chunk);
+                }
+                if (chunk < chunkRows) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            System.err.println("Archiving the " + storeName + " store failed: " + e.getMessage());
+        }
+        if (moved > 0) {
+            System.out.printf("Archived %d settled applications older than %d days from the %s store in %d ms%n",
+                moved, age.toDays(), storeName, (System.nanoTime() - started) / 1_000_000);
+        }
+        return moved;
+    }
+
+    // Applications moved since this archiver was created
+    public long getArchivedCount() {
+        return archived.get();
+    }
+}
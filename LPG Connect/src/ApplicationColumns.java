@@ -0,0 +1,804 @@
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * InMemoryDAO's applications, stored column by column in primitive arrays.
+ *
+ * A row is a slot in the column arrays: the ID, the applicant as a code into a dictionary
+ * of usernames, the status as its one-byte code, the number of connections and the
+ * creation time as nanoseconds. Name, mobile number and address are UTF-8 in one shared
+ * byte array. Application and ApplicationSummary objects are built only when a row is
+ * read, so a stored application costs under a third of the heap it did as an object graph
+ * indexed by TreeMaps (see "workload footprint").
+ *
+ * Display order (newest first) is kept by RowOrder, once for all rows and once per status.
+ * Each applicant's rows form a linked list in display order, and IDs are found through an
+ * open-addressing hash table. Deleted rows and replaced text leave holes that are reused
+ * or compacted away.
+ *
+ * Not thread-safe: InMemoryDAO's lock guards every call.
+ */
+class ApplicationColumns {
+    static final int NO_ROW = -1;
+    private static final int INITIAL_ROWS = 1024;
+    private static final int BLOCK = 1024; // rows per RowOrder block
+    private static final int MIN_COMPACT_TEXT = 1 << 20;
+
+    // Row columns; a free row has ID 0
+    private int[] appIds = new int[INITIAL_ROWS];
+    private int[] userCodes = new int[INITIAL_ROWS];
+    private byte[] statuses = new byte[INITIAL_ROWS];
+    private int[] connections = new int[INITIAL_ROWS];
+    private long[] createdNanos = new long[INITIAL_ROWS];
+    private int[] textStarts = new int[INITIAL_ROWS];
+    private int[] nextOfUser = new int[INITIAL_ROWS];
+    private int rowLimit; // rows below this have been used at least once
+    private int[] freeRows = new int[16];
+    private int freeCount;
+    private int size;
+
+    // Name, mobile number and address of every row, each as [length + 1][UTF-8], 0 meaning null
+    private byte[] text = new byte[64 * 1024];
+    private int textUsed;
+    private long textGarbage;
+
+    // Username dictionary; codes are never reused. The table holds code + 1 (0 is empty) at
+    // the username's hash, so a code costs no boxed Integer or map entry.
+    private final UnaryOperator<String> canonicalUsername;
+    private String[] usernames = new String[256];
+    private int[] userHeads = new int[256]; // newest row of each applicant
+    private int[] userRowCounts = new int[256];
+    private int[] archivedActive = new int[256]; // ID of an active application moved to the archive, or 0
+    private int[] userTable = new int[512];
+    private int userCount;
+
+    private final IdTable rowsById = new IdTable();
+    private final RowOrder all = new RowOrder();
+    private final RowOrder[] byStatus = new RowOrder[ApplicationStatus.values().length];
+
+    /**
+     * canonicalUsername returns the instance to keep for a username, such as the one the
+     * user account already holds, so the dictionary does not keep a copy of every name.
+     */
+    ApplicationColumns(UnaryOperator<String> canonicalUsername) {
+        this.canonicalUsername = canonicalUsername;
+        for (int i = 0; i < byStatus.length; i++) {
+            byStatus[i] = new RowOrder();
+        }
+    }
+
+    public int size() { return size; }
+
+    public int rowOf(int appId) {
+        return appId == 0 ? NO_ROW : rowsById.get(appId);
+    }
+
+    public int appId(int row) { return appIds[row]; }
+    public ApplicationStatus status(int row) { return ApplicationStatus.fromCode(statuses[row]); }
+
+    /**
+     * Stores app, which must have an ID not stored yet and a creation time, and returns its row.
+     * Throws IllegalArgumentException for a status that is not an ApplicationStatus.
+     */
+    public int insert(Application app) {
+        ApplicationStatus status = ApplicationStatus.of(app.getStatus());
+        int row = allocateRow();
+        appIds[row] = app.getAppId();
+        userCodes[row] = userCode(app.getApplicantUsername());
+        statuses[row] = status.code();
+        connections[row] = app.getNumConnections();
+        createdNanos[row] = toNanos(app.getCreatedAt());
+        textStarts[row] = appendText(app.getName(), app.getMobileNo(), app.getAddress());
+        size++;
+
+        rowsById.put(app.getAppId(), row);
+        all.add(row);
+        byStatus[status.code()].add(row);
+        linkToUser(row);
+        return row;
+    }
+
+    public void remove(int row) {
+        all.remove(row);
+        byStatus[statuses[row]].remove(row);
+        unlinkFromUser(row);
+        rowsById.remove(appIds[row]);
+        textGarbage += textLength(textStarts[row]);
+        appIds[row] = 0;
+        size--;
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+        }
+        freeRows[freeCount++] = row;
+        compactTextIfWasteful();
+    }
+
+    public void setStatus(int row, ApplicationStatus status) {
+        if (statuses[row] != status.code()) {
+            byStatus[statuses[row]].remove(row);
+            statuses[row] = status.code();
+            byStatus[status.code()].add(row);
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(appIds, 0, rowLimit, 0);
+        rowLimit = 0;
+        freeCount = 0;
+        size = 0;
+        textUsed = 0;
+        textGarbage = 0;
+        Arrays.fill(userHeads, 0, userCount, NO_ROW);
+        Arrays.fill(userRowCounts, 0, userCount, 0);
+        Arrays.fill(archivedActive, 0, userCount, 0);
+        rowsById.clear();
+        all.clear();
+        for (RowOrder order : byStatus) {
+            order.clear();
+        }
+    }
+
+    // --- Reading rows ---
+
+    // The stored application as a new object, or null for a free row
+    public Application application(int row) {
+        if (appIds[row] == 0) {
+            return null;
+        }
+        int[] position = {textStarts[row]};
+        String name = readText(position);
+        String mobile = readText(position);
+        String address = readText(position);
+        return new Application(appIds[row], usernames[userCodes[row]], name, mobile, address,
+            connections[row], status(row).name(), toDateTime(createdNanos[row]));
+    }
+
+    public ApplicationSummary summary(int row) {
+        int[] position = {textStarts[row]};
+        String name = readText(position);
+        String mobile = readText(position);
+        return new ApplicationSummary(appIds[row], usernames[userCodes[row]], name, mobile,
+            connections[row], status(row).name(), toDateTime(createdNanos[row]));
+    }
+
+    /**
+     * Up to pageSize rows after the cursor in display order, restricted to one status when
+     * status is not null. Fetches one extra row to learn whether another page exists.
+     */
+    public <T> Page<T> page(ApplicationStatus status, PageCursor after, int pageSize, IntFunction<T> reader) {
+        RowList fetched = new RowList(pageSize);
+        (status == null ? all : byStatus[status.code()]).forEachAfter(after, fetched::add);
+        return fetched.toPage(reader);
+    }
+
+    // Visits rows in display order until the visitor returns false
+    public void forEachRow(IntPredicate visitor) {
+        all.forEachAfter(null, visitor);
+    }
+
+    // Visits one applicant's rows in display order, starting after the cursor when there is one
+    public void forEachRowOfUser(String username, PageCursor after, IntPredicate visitor) {
+        int code = findUserCode(username);
+        if (code < 0) {
+            return;
+        }
+        long afterNanos = after == null ? 0 : toNanos(after.getCreatedAt());
+        for (int row = userHeads[code]; row != NO_ROW; row = nextOfUser[row]) {
+            if (after != null && compare(createdNanos[row], appIds[row], afterNanos, after.getAppId()) <= 0) {
+                continue;
+            }
+            if (!visitor.test(row)) {
+                return;
+            }
+        }
+    }
+
+    // Up to limit rows with the status created before the time, oldest first
+    public int[] oldestRows(ApplicationStatus status, LocalDateTime before, int limit) {
+        long beforeNanos = toNanos(before);
+        int[] rows = new int[Math.min(limit, byStatus[status.code()].size())];
+        int[] count = {0};
+        byStatus[status.code()].forEachFromEnd(row -> {
+            if (count[0] == rows.length || createdNanos[row] >= beforeNanos) {
+                return false;
+            }
+            rows[count[0]++] = row;
+            return true;
+        });
+        return Arrays.copyOf(rows, count[0]);
+    }
+
+    // Rows of every application in display order
+    public int[] rowsInDisplayOrder() {
+        int[] rows = new int[size];
+        int[] count = {0};
+        forEachRow(row -> {
+            rows[count[0]++] = row;
+            return true;
+        });
+        return rows;
+    }
+
+    public Map<ApplicationStatus, Integer> countsByStatus() {
+        Map<ApplicationStatus, Integer> counts = new LinkedHashMap<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            if (byStatus[status.code()].size() > 0) {
+                counts.put(status, byStatus[status.code()].size());
+            }
+        }
+        return counts;
+    }
+
+    public Map<String, Long> countsByUser() {
+        Map<String, Long> counts = new HashMap<>();
+        for (int code = 0; code < userCount; code++) {
+            if (userRowCounts[code] > 0) {
+                counts.put(usernames[code], (long) userRowCounts[code]);
+            }
+        }
+        return counts;
+    }
+
+    // True when every word is in the name or address, ends the mobile number, or is the ID
+    public boolean matchesAll(int row, List<String> words) {
+        int[] position = {textStarts[row]};
+        String name = readText(position).toLowerCase();
+        String mobile = readText(position);
+        String address = readText(position).toLowerCase();
+        for (String word : words) {
+            if (!name.contains(word) && !address.contains(word) && !mobile.endsWith(word)
+                    && !word.equals(String.valueOf(appIds[row]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Rows fetched for one page plus the lookahead row that shows whether another page exists
+    private final class RowList {
+        private final int pageSize;
+        private int[] rows = new int[16];
+        private int count;
+
+        RowList(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        boolean add(int row) {
+            if (count == rows.length) {
+                rows = Arrays.copyOf(rows, count * 2);
+            }
+            rows[count++] = row;
+            return count <= pageSize;
+        }
+
+        <T> Page<T> toPage(IntFunction<T> reader) {
+            int shown = Math.min(count, pageSize);
+            List<T> items = new ArrayList<>(shown);
+            for (int i = 0; i < shown; i++) {
+                items.add(reader.apply(rows[i]));
+            }
+            if (count <= pageSize) {
+                return new Page<>(items, null);
+            }
+            int last = rows[pageSize - 1];
+            return new Page<>(items, new PageCursor(toDateTime(createdNanos[last]), appIds[last]));
+        }
+    }
+
+    // --- Rows and text ---
+
+    private int allocateRow() {
+        if (freeCount > 0) {
+            return freeRows[--freeCount];
+        }
+        if (rowLimit == appIds.length) {
+            int capacity = appIds.length + (appIds.length >> 1);
+            appIds = Arrays.copyOf(appIds, capacity);
+            userCodes = Arrays.copyOf(userCodes, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            connections = Arrays.copyOf(connections, capacity);
+            createdNanos = Arrays.copyOf(createdNanos, capacity);
+            textStarts = Arrays.copyOf(textStarts, capacity);
+            nextOfUser = Arrays.copyOf(nextOfUser, capacity);
+        }
+        return rowLimit++;
+    }
+
+    private int appendText(String... values) {
+        byte[][] encoded = new byte[values.length][];
+        int needed = 0;
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = values[i] == null ? null : values[i].getBytes(StandardCharsets.UTF_8);
+            needed += 5 + (encoded[i] == null ? 0 : encoded[i].length);
+        }
+        ensureText(needed);
+        int start = textUsed;
+        for (byte[] value : encoded) {
+            writeLength(value == null ? 0 : value.length + 1);
+            if (value != null) {
+                System.arraycopy(value, 0, text, textUsed, value.length);
+                textUsed += value.length;
+            }
+        }
+        return start;
+    }
+
+    private void ensureText(int needed) {
+        if ((long) textUsed + needed <= text.length) {
+            return;
+        }
+        long capacity = Math.max((long) textUsed + needed, (long) text.length + (text.length >> 1));
+        if (capacity > Integer.MAX_VALUE - 8) {
+            compactText();
+            capacity = (long) textUsed + needed;
+            if (capacity > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("In-memory store is full: application text exceeds 2 GB");
+            }
+        }
+        text = Arrays.copyOf(text, (int) Math.max(capacity, text.length));
+    }
+
+    // Variable-length: 7 bits per byte, high bit set on all but the last byte
+    private void writeLength(int value) {
+        while (value >= 0x80) {
+            text[textUsed++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        text[textUsed++] = (byte) value;
+    }
+
+    private int readLength(int[] position) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = text[position[0]++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private String readText(int[] position) {
+        int length = readLength(position) - 1;
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(text, position[0], length, StandardCharsets.UTF_8);
+        position[0] += length;
+        return value;
+    }
+
+    // Bytes a row's text takes, including the length prefixes
+    private int textLength(int start) {
+        int[] position = {start};
+        for (int field = 0; field < 3; field++) {
+            int length = Math.max(0, readLength(position) - 1);
+            position[0] += length;
+        }
+        return position[0] - start;
+    }
+
+    private void compactTextIfWasteful() {
+        if (textGarbage > MIN_COMPACT_TEXT && textGarbage > textUsed / 2) {
+            compactText();
+        }
+    }
+
+    // Copies live text to the front in text order, so no copy overwrites text still to be moved
+    private void compactText() {
+        long[] byPosition = new long[size]; // text start in the high half, row in the low half
+        int live = 0;
+        for (int row = 0; row < rowLimit; row++) {
+            if (appIds[row] != 0) {
+                byPosition[live++] = ((long) textStarts[row] << 32) | row;
+            }
+        }
+        Arrays.sort(byPosition, 0, live);
+        int used = 0;
+        for (long key : byPosition) {
+            int row = (int) key;
+            int start = textStarts[row];
+            int length = textLength(start);
+            System.arraycopy(text, start, text, used, length);
+            textStarts[row] = used;
+            used += length;
+        }
+        textUsed = used;
+        textGarbage = 0;
+        if (text.length > 2L * Math.max(used, 64 * 1024)) {
+            text = Arrays.copyOf(text, Math.max(used + (used >> 1), 64 * 1024));
+        }
+    }
+
+    // --- Applicants ---
+
+    /**
+     * Records an active application of the applicant that was moved to the archive, so a
+     * submission can still be checked against it. Cleared by clear(), like the rows.
+     */
+    public void setArchivedActive(String username, int appId) {
+        archivedActive[userCode(username)] = appId;
+    }
+
+    // ID of the applicant's archived active application, or 0
+    public int archivedActive(String username) {
+        int code = findUserCode(username);
+        return code < 0 ? 0 : archivedActive[code];
+    }
+
+    private int userCode(String username) {
+        int existing = findUserCode(username);
+        if (existing >= 0) {
+            return existing;
+        }
+        int code = userCount++;
+        if (code == usernames.length) {
+            usernames = Arrays.copyOf(usernames, code * 2);
+            userHeads = Arrays.copyOf(userHeads, code * 2);
+            userRowCounts = Arrays.copyOf(userRowCounts, code * 2);
+            archivedActive = Arrays.copyOf(archivedActive, code * 2);
+            userTable = new int[userTable.length * 2];
+            for (int i = 0; i < code; i++) {
+                userTable[freeUserSlot(usernames[i])] = i + 1;
+            }
+        }
+        usernames[code] = canonicalUsername.apply(username);
+        userHeads[code] = NO_ROW;
+        userTable[freeUserSlot(username)] = code + 1;
+        return code;
+    }
+
+    // Code of the username, or -1 if no application of theirs was ever stored
+    private int findUserCode(String username) {
+        int mask = userTable.length - 1;
+        for (int slot = userSlot(username, mask); userTable[slot] != 0; slot = (slot + 1) & mask) {
+            if (Objects.equals(usernames[userTable[slot] - 1], username)) {
+                return userTable[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private int freeUserSlot(String username) {
+        int mask = userTable.length - 1;
+        int slot = userSlot(username, mask);
+        while (userTable[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int userSlot(String username, int mask) {
+        int hash = Objects.hashCode(username) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    // Inserts the row into its applicant's list, keeping display order
+    private void linkToUser(int row) {
+        int code = userCodes[row];
+        int previous = NO_ROW;
+        int next = userHeads[code];
+        while (next != NO_ROW && compare(createdNanos[next], appIds[next], createdNanos[row], appIds[row]) < 0) {
+            previous = next;
+            next = nextOfUser[next];
+        }
+        nextOfUser[row] = next;
+        if (previous == NO_ROW) {
+            userHeads[code] = row;
+        } else {
+            nextOfUser[previous] = row;
+        }
+        userRowCounts[code]++;
+    }
+
+    private void unlinkFromUser(int row) {
+        int code = userCodes[row];
+        if (userHeads[code] == row) {
+            userHeads[code] = nextOfUser[row];
+        } else {
+            int previous = userHeads[code];
+            while (nextOfUser[previous] != row) {
+                previous = nextOfUser[previous];
+            }
+            nextOfUser[previous] = nextOfUser[row];
+        }
+        userRowCounts[code]--;
+    }
+
+    // --- Keys ---
+
+    // Negative when (createdA, idA) comes first in display order: newest first, then higher ID
+    private static int compare(long createdA, int idA, long createdB, int idB) {
+        return createdA != createdB ? Long.compare(createdB, createdA) : Integer.compare(idB, idA);
+    }
+
+    private int compareRows(int rowA, int rowB) {
+        return compare(createdNanos[rowA], appIds[rowA], createdNanos[rowB], appIds[rowB]);
+    }
+
+    static long toNanos(LocalDateTime time) {
+        return Math.addExact(Math.multiplyExact(time.toEpochSecond(ZoneOffset.UTC), 1_000_000_000L), time.getNano());
+    }
+
+    static LocalDateTime toDateTime(long nanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    /**
+     * Rows in display order, in blocks of up to BLOCK rows, so an insert or removal only
+     * shifts part of one block. Appending older rows at the end or newer rows at the front,
+     * which is how snapshots load and submissions arrive, fills blocks completely.
+     */
+    private final class RowOrder {
+        private final List<int[]> blocks = new ArrayList<>();
+        private int[] blockSizes = new int[16];
+        private int size;
+
+        int size() { return size; }
+
+        void clear() {
+            blocks.clear();
+            size = 0;
+        }
+
+        void add(int row) {
+            size++;
+            if (blocks.isEmpty()) {
+                insertBlock(0, row);
+                return;
+            }
+            int b = blockFor(row);
+            int[] block = blocks.get(b);
+            int count = blockSizes[b];
+            int position = positionIn(block, count, row);
+            if (count == BLOCK) {
+                if (position == BLOCK && b == blocks.size() - 1) {
+                    insertBlock(b + 1, row);
+                    return;
+                }
+                if (position == 0 && b == 0) {
+                    insertBlock(0, row);
+                    return;
+                }
+                // Split, moving the second half into a new block after this one
+                int[] upper = new int[BLOCK];
+                int half = BLOCK / 2;
+                System.arraycopy(block, half, upper, 0, BLOCK - half);
+                blocks.add(b + 1, upper);
+                shiftSizes(b + 1);
+                blockSizes[b] = half;
+                blockSizes[b + 1] = BLOCK - half;
+                if (position > half) {
+                    b++;
+                    block = upper;
+                    position -= half;
+                }
+                count = blockSizes[b];
+            }
+            System.arraycopy(block, position, block, position + 1, count - position);
+            block[position] = row;
+            blockSizes[b] = count + 1;
+        }
+
+        void remove(int row) {
+            int b = blockFor(row);
+            int[] block = blocks.get(b);
+            int count = blockSizes[b];
+            int position = positionIn(block, count, row);
+            if (position >= count || block[position] != row) {
+                throw new IllegalStateException("Row " + row + " is not in display order index");
+            }
+            System.arraycopy(block, position + 1, block, position, count - position - 1);
+            blockSizes[b] = --count;
+            size--;
+            if (count == 0) {
+                blocks.remove(b);
+                System.arraycopy(blockSizes, b + 1, blockSizes, b, blocks.size() - b);
+            } else if (b + 1 < blocks.size() && count + blockSizes[b + 1] <= BLOCK / 2) {
+                // Merge sparse neighbours so deletes do not leave a trail of tiny blocks
+                System.arraycopy(blocks.get(b + 1), 0, block, count, blockSizes[b + 1]);
+                blockSizes[b] = count + blockSizes[b + 1];
+                blocks.remove(b + 1);
+                System.arraycopy(blockSizes, b + 2, blockSizes, b + 1, blocks.size() - b - 1);
+            }
+        }
+
+        // Visits rows after the cursor (from the start when null) until the visitor returns false
+        void forEachAfter(PageCursor after, IntPredicate visitor) {
+            int b = 0;
+            int position = 0;
+            if (after != null) {
+                long afterNanos = toNanos(after.getCreatedAt());
+                int afterId = after.getAppId();
+                b = firstBlockEndingAfter(afterNanos, afterId);
+                if (b == blocks.size()) {
+                    return;
+                }
+                int[] block = blocks.get(b);
+                int low = 0;
+                int high = blockSizes[b];
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (compare(createdNanos[block[mid]], appIds[block[mid]], afterNanos, afterId) <= 0) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+                position = low;
+            }
+            for (; b < blocks.size(); b++, position = 0) {
+                int[] block = blocks.get(b);
+                for (int count = blockSizes[b]; position < count; position++) {
+                    if (!visitor.test(block[position])) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        // Visits rows from the last (oldest) backwards until the visitor returns false
+        void forEachFromEnd(IntPredicate visitor) {
+            for (int b = blocks.size() - 1; b >= 0; b--) {
+                int[] block = blocks.get(b);
+                for (int position = blockSizes[b] - 1; position >= 0; position--) {
+                    if (!visitor.test(block[position])) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        // The block the row belongs in: the first whose last row does not come before it
+        private int blockFor(int row) {
+            int b = firstBlockEnding(createdNanos[row], appIds[row], true);
+            return Math.min(b, blocks.size() - 1);
+        }
+
+        private int firstBlockEndingAfter(long createdNanosKey, int appIdKey) {
+            return firstBlockEnding(createdNanosKey, appIdKey, false);
+        }
+
+        // First block whose last row sorts after the key (or is the key, when inclusive), or blocks.size()
+        private int firstBlockEnding(long createdNanosKey, int appIdKey, boolean inclusive) {
+            int low = 0;
+            int high = blocks.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int last = blocks.get(mid)[blockSizes[mid] - 1];
+                int cmp = compare(createdNanos[last], appIds[last], createdNanosKey, appIdKey);
+                if (cmp < 0 || (cmp == 0 && !inclusive)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // First position in the block whose row does not come before row
+        private int positionIn(int[] block, int count, int row) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareRows(block[mid], row) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void insertBlock(int index, int row) {
+            int[] block = new int[BLOCK];
+            block[0] = row;
+            blocks.add(index, block);
+            shiftSizes(index);
+            blockSizes[index] = 1;
+        }
+
+        // Opens a slot in blockSizes at index after blocks.add(index, ...)
+        private void shiftSizes(int index) {
+            if (blocks.size() > blockSizes.length) {
+                blockSizes = Arrays.copyOf(blockSizes, blockSizes.length * 2);
+            }
+            System.arraycopy(blockSizes, index, blockSizes, index + 1, blocks.size() - 1 - index);
+        }
+    }
+
+    /**
+     * Application ID to row, open addressing with linear probing. IDs are never 0, so 0
+     * marks an empty slot; removal shifts later entries back instead of leaving tombstones.
+     */
+    private static final class IdTable {
+        private int[] keys = new int[1024];
+        private int[] rows = new int[1024];
+        private int size;
+
+        int get(int appId) {
+            int mask = keys.length - 1;
+            for (int slot = slotOf(appId, mask); keys[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == appId) {
+                    return rows[slot];
+                }
+            }
+            return NO_ROW;
+        }
+
+        void put(int appId, int row) {
+            if ((size + 1) * 4L > keys.length * 3L) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int slot = slotOf(appId, mask);
+            while (keys[slot] != 0 && keys[slot] != appId) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == 0) {
+                size++;
+            }
+            keys[slot] = appId;
+            rows[slot] = row;
+        }
+
+        void remove(int appId) {
+            int mask = keys.length - 1;
+            int slot = slotOf(appId, mask);
+            while (keys[slot] != appId) {
+                if (keys[slot] == 0) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            // Move back any later entry whose probe sequence passes through the emptied slot
+            for (int next = (slot + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+                int home = slotOf(keys[next], mask);
+                if (((next - home) & mask) >= ((next - slot) & mask)) {
+                    keys[slot] = keys[next];
+                    rows[slot] = rows[next];
+                    slot = next;
+                }
+            }
+            keys[slot] = 0;
+            size--;
+        }
+
+        void clear() {
+            keys = new int[1024];
+            rows = new int[1024];
+            size = 0;
+        }
+
+        private void resize(int capacity) {
+            int[] oldKeys = keys;
+            int[] oldRows = rows;
+            keys = new int[capacity];
+            rows = new int[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldRows[i]);
+                }
+            }
+        }
+
+        private static int slotOf(int appId, int mask) {
+            int hash = appId * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * Serves an ApplicationDAO to remote clients as a local HTTP/JSON API.
+ *
+ * Every DAO operation is a POST to /api/{operation} whose JSON body holds the arguments by
+ * name; the reply is {"result": ...} or, with status 500, {"error": "..."}. Requests run on
+ * virtual threads where the JVM has them (a cached thread pool otherwise), so a slow call
+ * never holds up the others.
+ *
+ * Committed changes are kept in a bounded in-memory log and handed to clients by the
+ * long-polling GET /api/events?after={seq}&epoch={epoch}, which lets every desktop update its
+ * tables live however many clients write. When lpg.server.token is set, every request must carry it in
+ * the X-LPG-Token header.
+ */
+class ApplicationDAOServer {
+    public static final String TOKEN_HEADER = "X-LPG-Token";
+    private static final int EVENT_LOG_CAPACITY = 10_000;
+    private static final long MAX_EVENT_WAIT_MILLIS = 30_000;
+
+    private final ApplicationDAO dao;
+    private final String token;
+    private final HttpServer http;
+    private final ExecutorService executor;
+    private final Map<String, Function<Map<String, Object>, Object>> operations = new HashMap<>();
+    private final EventLog eventLog = new EventLog(EVENT_LOG_CAPACITY);
+    private final Runnable unsubscribe;
+
+    public ApplicationDAOServer(ApplicationDAO dao, InetSocketAddress address, String token) throws IOException {
+        this.dao = dao;
+        this.token = token;
+        this.executor = DaoExecutors.newTaskExecutor("lpg-http");
+        this.http = HttpServer.create(address, 0);
+        http.setExecutor(executor);
+        http.createContext("/api/events", this::handleEvents);
+        http.createContext("/api/", this::handleOperation);
+        http.createContext("/health", exchange -> reply(exchange, 200, Map.of("status", "UP")));
+        registerOperations();
+        this.unsubscribe = ApplicationEventBus.shared().subscribe(eventLog::append);
+    }
+
+    public void start() {
+        http.start();
+    }
+
+    public InetSocketAddress getAddress() {
+        return http.getAddress();
+    }
+
+    public void stop() {
+        unsubscribe.run();
+        http.stop(1);
+        executor.shutdownNow();
+    }
+
+    private void registerOperations() {
+        operations.put("validateUser", args -> dao.validateUser(DaoProtocol.string(args, "username"), DaoProtocol.string(args, "password"))
+            .map(DaoProtocol::user).orElse(null));
+        operations.put("registerUser", args -> {
+            dao.registerUser(DaoProtocol.toUser(args.get("user")));
+            return null;
+        });
+        operations.put("findAllUsers", args -> DaoProtocol.list(dao.findAllUsers(), DaoProtocol::user));
+        operations.put("saveApplication", args -> {
+            Application app = DaoProtocol.toApplication(args.get("application"));
+            dao.saveApplication(app);
+            return DaoProtocol.application(app); // carries the assigned ID back
+        });
+        operations.put("submitApplication", args -> {
+            Application app = DaoProtocol.toApplication(args.get("application"));
+            return DaoProtocol.submission(dao.submitApplication(app), app);
+        });
+        operations.put("saveApplications", args -> {
+            List<Application> apps = DaoProtocol.toList(args.get("applications"), DaoProtocol::toApplication);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("saved", dao.saveApplications(apps));
+            result.put("applications", DaoProtocol.list(apps, DaoProtocol::application));
+            return result;
+        });
+        operations.put("findAllApplications", args -> DaoProtocol.list(dao.findAllApplications(), DaoProtocol::application));
+        operations.put("findApplicationById", args -> dao.findApplicationById(DaoProtocol.integer(args, "id"))
+            .map(DaoProtocol::application).orElse(null));
+        operations.put("findApplicationsByUsername", args ->
+            DaoProtocol.list(dao.findApplicationsByUsername(DaoProtocol.string(args, "username")), DaoProtocol::application));
+        operations.put("updateApplication", args -> {
+            dao.updateApplication(DaoProtocol.toApplication(args.get("application")));
+            return null;
+        });
+        operations.put("deleteApplication", args -> {
+            dao.deleteApplication(DaoProtocol.integer(args, "id"));
+            return null;
+        });
+        operations.put("updateApplicationStatuses", args -> dao.updateApplicationStatuses(
+            DaoProtocol.toList(args.get("appIds"), id -> ((Number) id).intValue()), DaoProtocol.string(args, "status")));
+        operations.put("findApplicationsPage", args -> DaoProtocol.page(dao.findApplicationsPage(
+            DaoProtocol.string(args, "status"), DaoProtocol.toCursor(args.get("after")), DaoProtocol.integer(args, "pageSize")),
+            DaoProtocol::application));
+        operations.put("findApplicationsByUsernamePage", args -> DaoProtocol.page(dao.findApplicationsByUsernamePage(
+            DaoProtocol.string(args, "username"), DaoProtocol.toCursor(args.get("after")), DaoProtocol.integer(args, "pageSize")),
+            DaoProtocol::application));
+        operations.put("findApplicationSummaries", args -> DaoProtocol.page(dao.findApplicationSummaries(
+            DaoProtocol.string(args, "status"), DaoProtocol.toCursor(args.get("after")), DaoProtocol.integer(args, "pageSize")),
+            DaoProtocol::summary));
+        operations.put("findApplicationSummariesByUsername", args -> DaoProtocol.page(dao.findApplicationSummariesByUsername(
+            DaoProtocol.string(args, "username"), DaoProtocol.toCursor(args.get("after")), DaoProtocol.integer(args, "pageSize")),
+            DaoProtocol::summary));
+        operations.put("searchApplications", args -> DaoProtocol.list(
+            dao.searchApplications(DaoProtocol.string(args, "query"), DaoProtocol.integer(args, "limit")), DaoProtocol::summary));
+        operations.put("countUsers", args -> dao.countUsers());
+        operations.put("countApplicationsByStatus", args -> dao.countApplicationsByStatus());
+        operations.put("countApplicationsByUser", args -> dao.countApplicationsByUser());
+        operations.put("getApplicationStats", args -> DaoProtocol.stats(dao.getApplicationStats()));
+    }
+
+    private void handleOperation(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!authorized(exchange)) {
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                reply(exchange, 405, Map.of("error", "Use POST"));
+                return;
+            }
+            String name = exchange.getRequestURI().getPath().substring("/api/".length());
+            Function<Map<String, Object>, Object> operation = operations.get(name);
+            if (operation == null) {
+                reply(exchange, 404, Map.of("error", "Unknown operation: " + name));
+                return;
+            }
+            Object result;
+            try {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                result = operation.apply(body.isBlank() ? new HashMap<>() : DaoProtocol.object(Json.parse(body)));
+            } catch (RuntimeException e) {
+                System.err.println("Service call " + name + " failed: " + e);
+                reply(exchange, 500, Map.of("error", String.valueOf(e.getMessage())));
+                return;
+            }
+            Map<String, Object> response = new HashMap<>();
+            response.put("result", result);
+            reply(exchange, 200, response);
+        }
+    }
+
+    private void handleEvents(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!authorized(exchange)) {
+                return;
+            }
+            long after;
+            long waitMillis;
+            String epoch;
+            try {
+                Map<String, String> query = queryParameters(exchange.getRequestURI());
+                after = Long.parseLong(query.getOrDefault("after", "-1"));
+                epoch = query.get("epoch");
+                waitMillis = Math.min(MAX_EVENT_WAIT_MILLIS, Long.parseLong(query.getOrDefault("waitMs", "25000")));
+            } catch (NumberFormatException e) {
+                reply(exchange, 400, Map.of("error", "Invalid event query"));
+                return;
+            }
+            try {
+                reply(exchange, 200, eventLog.since(epoch, after, waitMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private boolean authorized(HttpExchange exchange) throws IOException {
+        if (token == null || token.equals(exchange.getRequestHeaders().getFirst(TOKEN_HEADER))) {
+            return true;
+        }
+        reply(exchange, 401, Map.of("error", "Missing or wrong " + TOKEN_HEADER));
+        return false;
+    }
+
+    private static void reply(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = Json.write(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> queryParameters(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        if (uri.getRawQuery() != null) {
+            for (String pair : uri.getRawQuery().split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    params.put(pair.substring(0, eq), pair.substring(eq + 1));
+                }
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Numbered, bounded history of committed changes. A client that falls further behind
+     * than the log reaches is told so ("reset") and should reload what it shows.
+     *
+     * Numbering starts over when the server restarts, so every start has its own epoch. A
+     * client polling with another epoch's sequence number is reset too, rather than handed
+     * unrelated events that happen to follow the same number.
+     */
+    private static class EventLog {
+        private final String epoch = UUID.randomUUID().toString();
+        private final int capacity;
+        private final ArrayDeque<ApplicationEvent> events = new ArrayDeque<>();
+        private long lastSeq; // sequence number of the newest event in the log
+
+        EventLog(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized void append(List<ApplicationEvent> batch) {
+            for (ApplicationEvent event : batch) {
+                if (events.size() == capacity) {
+                    events.removeFirst();
+                }
+                events.addLast(event);
+                lastSeq++;
+            }
+            notifyAll();
+        }
+
+        // Events after the given sequence number of the given epoch (null = this one), waiting up
+        // to waitMillis for one to arrive. A negative sequence number means "from now": it
+        // returns at once with no events.
+        synchronized Map<String, Object> since(String clientEpoch, long after, long waitMillis) throws InterruptedException {
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("epoch", epoch);
+            boolean restarted = (clientEpoch != null && !clientEpoch.equals(epoch)) || after > lastSeq;
+            if (after < 0 || restarted) {
+                response.put("seq", lastSeq);
+                response.put("reset", after >= 0); // the server restarted since the client last polled
+                response.put("events", List.of());
+                return response;
+            }
+            long deadline = System.currentTimeMillis() + waitMillis;
+            while (lastSeq == after) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    break;
+                }
+                wait(remaining);
+            }
+            long oldestSeq = lastSeq - events.size() + 1;
+            int count = (int) Math.min(lastSeq - after, events.size());
+            List<Object> newer = new ArrayList<>(count);
+            Iterator<ApplicationEvent> newestFirst = events.descendingIterator();
+            for (int i = 0; i < count; i++) {
+                newer.add(DaoProtocol.event(newestFirst.next()));
+            }
+            Collections.reverse(newer);
+            response.put("seq", lastSeq);
+            response.put("reset", after + 1 < oldestSeq); // events were dropped before the client saw them
+            response.put("events", newer);
+            return response;
+        }
+    }
+}
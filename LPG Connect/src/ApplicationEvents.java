@@ -0,0 +1,134 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A committed change to one application, published by the DAO that made it.
+ */
+class ApplicationEvent {
+    // ARCHIVED: moved out of the hot table; gone from admin views but still in its applicant's history
+    // UPDATED: fields other than (or besides) the status were edited
+    enum Type { CREATED, STATUS_CHANGED, UPDATED, DELETED, ARCHIVED }
+
+    private final Type type;
+    private final int appId;
+    private final String applicantUsername;
+    private final String oldStatus; // null for CREATED
+    private final String newStatus; // null for DELETED and ARCHIVED
+    private final ApplicationSummary summary; // row as it is after the change; as it was for DELETED and ARCHIVED
+    private final String address; // CREATED and UPDATED only: the one field a summary leaves out
+
+    private ApplicationEvent(Type type, ApplicationSummary summary, String oldStatus, String newStatus, String address) {
+        this.type = type;
+        this.appId = summary.getAppId();
+        this.applicantUsername = summary.getApplicantUsername();
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+        this.summary = summary;
+        this.address = address;
+    }
+
+    public static ApplicationEvent created(ApplicationSummary summary, String address) {
+        return new ApplicationEvent(Type.CREATED, summary, null, summary.getStatus(), address);
+    }
+
+    public static ApplicationEvent statusChanged(ApplicationSummary before, String newStatus) {
+        return new ApplicationEvent(Type.STATUS_CHANGED, before.withStatus(newStatus), before.getStatus(), newStatus, null);
+    }
+
+    public static ApplicationEvent updated(ApplicationSummary before, ApplicationSummary after, String address) {
+        return new ApplicationEvent(Type.UPDATED, after, before.getStatus(), after.getStatus(), address);
+    }
+
+    public static ApplicationEvent deleted(ApplicationSummary before) {
+        return new ApplicationEvent(Type.DELETED, before, before.getStatus(), null, null);
+    }
+
+    public static ApplicationEvent archived(ApplicationSummary before) {
+        return new ApplicationEvent(Type.ARCHIVED, before, before.getStatus(), null, null);
+    }
+
+    public Type getType() { return type; }
+    public int getAppId() { return appId; }
+    public String getApplicantUsername() { return applicantUsername; }
+    public String getOldStatus() { return oldStatus; }
+    public String getNewStatus() { return newStatus; }
+    public ApplicationSummary getSummary() { return summary; }
+    public String getAddress() { return address; }
+
+    @Override
+    public String toString() {
+        return type + "[appId=" + appId + ", " + oldStatus + " -> " + newStatus + "]";
+    }
+}
+
+interface ApplicationEventListener {
+    // Called on the thread that committed the change; implementations must not block
+    void onEvents(List<ApplicationEvent> events);
+}
+
+/**
+ * In-process publish/subscribe channel for application changes. Each DAO write publishes
+ * the events it committed as one batch, so a bulk change reaches listeners in a single call.
+ *
+ * A reset says changes were missed (RemoteApplicationDAO lost its place in the server's
+ * event feed): anything kept current from events should be reloaded from the store.
+ */
+class ApplicationEventBus {
+    private static final ApplicationEventBus SHARED = new ApplicationEventBus();
+
+    private final List<ApplicationEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> resetListeners = new CopyOnWriteArrayList<>();
+
+    // The bus every DAO in this process publishes to
+    public static ApplicationEventBus shared() {
+        return SHARED;
+    }
+
+    /**
+     * Registers a listener; run the returned handle to unsubscribe.
+     */
+    public Runnable subscribe(ApplicationEventListener listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Registers a listener for resets; run the returned handle to unsubscribe.
+     */
+    public Runnable subscribeResets(Runnable listener) {
+        resetListeners.add(listener);
+        return () -> resetListeners.remove(listener);
+    }
+
+    public void publishReset() {
+        for (Runnable listener : resetListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                System.err.println("Application event reset listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    public void publish(List<ApplicationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<ApplicationEvent> batch = List.copyOf(events);
+        for (ApplicationEventListener listener : listeners) {
+            try {
+                listener.onEvents(batch);
+            } catch (RuntimeException e) {
+                // A faulty subscriber must not fail the write that has already committed
+                System.err.println("Application event listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    public void publish(ApplicationEvent event) {
+        List<ApplicationEvent> batch = new ArrayList<>(1);
+        batch.add(event);
+        publish(batch);
+    }
+}
@@ -0,0 +1,160 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPOutputStream;
+
+enum ExportFormat { CSV, NDJSON }
+
+/**
+ * Writes applications to a CSV or NDJSON (one JSON object per line) file as they stream
+ * out of ApplicationDAO.forEachApplication, so memory use is the same for ten thousand rows
+ * as for ten million.
+ *
+ * Output goes through a file channel with a large write buffer, gzip-compressed when the
+ * file name ends in ".gz". The file is written under a ".part" name and renamed when
+ * complete, so a failed or cancelled export never leaves a truncated file behind.
+ */
+class ApplicationExporter {
+    public static final String CSV_HEADER = "app_id,applicant_username,name,mobile_no,address,num_connections,status,created_at";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int PROGRESS_INTERVAL = 10_000;
+
+    private final ApplicationDAO dao;
+
+    public ApplicationExporter(ApplicationDAO dao) {
+        this.dao = dao;
+    }
+
+    // Format and compression follow the file name: .ndjson/.jsonl for NDJSON, a trailing .gz for gzip
+    public static ExportFormat formatFor(Path file) {
+        String name = stripGzip(file.getFileName().toString().toLowerCase(Locale.ROOT));
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? ExportFormat.NDJSON : ExportFormat.CSV;
+    }
+
+    public static boolean isGzip(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz");
+    }
+
+    public ExportResult export(String status, Path target) throws IOException {
+        return export(status, target, count -> { }, () -> false);
+    }
+
+    /**
+     * Exports every application with the given status (null = all), archived ones included,
+     * to target: the hot store newest first, then the archive.
+     * progress is told the running row count every few thousand rows; the export stops at
+     * the next row once cancelled returns true.
+     */
+    public ExportResult export(String status, Path target, LongConsumer progress, BooleanSupplier cancelled) throws IOException {
+        ExportFormat format = formatFor(target);
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        long[] written = {0};
+        long streamed;
+
+        try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE,
+                 StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             Writer writer = openWriter(channel, isGzip(target))) {
+
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            streamed = dao.forEachApplication(status, app -> {
+                if (cancelled.getAsBoolean()) {
+                    throw new ExportCancelledException();
+                }
+                try {
+                    writer.write(format == ExportFormat.CSV ? toCsv(app) : Json.write(DaoProtocol.application(app)));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (++written[0] % PROGRESS_INTERVAL == 0) {
+                    progress.accept(written[0]);
+                }
+            });
+        } catch (ExportCancelledException e) {
+            Files.deleteIfExists(partial);
+            return new ExportResult(written[0], false, "Export cancelled after " + written[0] + " rows");
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(partial);
+            throw e.getCause();
+        }
+
+        if (streamed < 0) {
+            Files.deleteIfExists(partial);
+            return new ExportResult(written[0], false, "Reading applications failed after " + written[0] + " rows; nothing was written");
+        }
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        progress.accept(written[0]);
+        return new ExportResult(written[0], true, "Exported " + written[0] + " applications to " + target);
+    }
+
+    private static Writer openWriter(FileChannel channel, boolean gzip) throws IOException {
+        OutputStream out = Channels.newOutputStream(channel);
+        if (gzip) {
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    static String toCsv(Application app) {
+        return app.getAppId() + ","
+            + csvField(app.getApplicantUsername()) + ","
+            + csvField(app.getName()) + ","
+            + csvField(app.getMobileNo()) + ","
+            + csvField(app.getAddress()) + ","
+            + app.getNumConnections() + ","
+            + csvField(app.getStatus()) + ","
+            + (app.getCreatedAt() != null ? app.getCreatedAt() : "");
+    }
+
+    // Quoted only when needed, the same way ApplicationImporter reads fields back
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return needsQuotes ? ApplicationImporter.quote(value) : value;
+    }
+
+    private static String stripGzip(String name) {
+        return name.endsWith(".gz") ? name.substring(0, name.length() - 3) : name;
+    }
+
+    private static class ExportCancelledException extends RuntimeException {
+        ExportCancelledException() {
+            super(null, null, false, false);
+        }
+    }
+}
+
+class ExportResult {
+    private final long exported;
+    private final boolean complete;
+    private final String message;
+
+    public ExportResult(long exported, boolean complete, String message) {
+        this.exported = exported;
+        this.complete = complete;
+        this.message = message;
+    }
+
+    public long getExported() { return exported; }
+    public boolean isComplete() { return complete; }
+    public String getMessage() { return message; }
+}
@@ -0,0 +1,274 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Streams applications from a CSV file into an ApplicationDAO in fixed-size chunks.
+ *
+ * Expected columns (header row required):
+ *   applicant_username,name,mobile_no,address,num_connections[,status]
+ * Fields containing commas must be double-quoted; each record must fit on one line.
+ *
+ * Every chunk is committed as one transaction together with the number of input lines it
+ * reaches, keyed by the file's absolute path, so a rerun after a failure (even a crash
+ * right after a commit) skips exactly what is already stored. Rows failing Validator
+ * checks, and rows whose applicant is not a registered user (the database would refuse the
+ * whole chunk for them), are written to a rejects file instead of aborting the import.
+ * Rejects are written before their chunk commits; a rerun first drops any past the
+ * committed line, so each rejected line is listed once.
+ */
+class ApplicationImporter {
+    // Where the rows go: the store's accounts, and chunks committed with the import position
+    interface Target {
+        List<User> findAllUsers();
+        long importedThrough(String source); // last committed line, 0 if none, -1 if the store failed
+        boolean saveImportChunk(String source, List<Application> apps, long lastLine); // one transaction
+        void clearImportProgress(String source);
+    }
+
+    private final Target target;
+    private final int chunkSize;
+
+    public ApplicationImporter(Target target, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.target = target;
+        this.chunkSize = chunkSize;
+    }
+
+    // The key an import's progress is stored under
+    public static String sourceOf(Path csv) {
+        return csv.toAbsolutePath().normalize().toString();
+    }
+
+    public static Path rejectsFor(Path csv) {
+        return csv.resolveSibling(csv.getFileName() + ".rejects.csv");
+    }
+
+    public ImportResult importCsv(Path csv) throws IOException {
+        String source = sourceOf(csv);
+        long resumeAfter = target.importedThrough(source);
+        if (resumeAfter < 0) {
+            return new ImportResult(0, 0, 0, false, "Could not read the import progress; rerun to retry");
+        }
+        if (resumeAfter > 0) {
+            System.out.println("Resuming after line " + resumeAfter + ", committed by an earlier run");
+        }
+        trimRejects(rejectsFor(csv), resumeAfter);
+        long committedLine = resumeAfter;
+        long lineNo = 0;
+        long imported = 0;
+        long rejected = 0;
+        long skipped = 0;
+
+        Set<String> applicants = registeredUsernames();
+        if (applicants.isEmpty()) {
+            return new ImportResult(0, 0, 0, false, "Could not read the registered users; rerun to retry");
+        }
+
+        List<Application> chunk = new ArrayList<>(chunkSize);
+        List<String> chunkRejects = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            String line = reader.readLine(); // header
+            lineNo++;
+            if (line == null) {
+                return new ImportResult(0, 0, 0, true, "File is empty");
+            }
+
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo <= resumeAfter) {
+                    skipped++;
+                    continue;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    Application app = parseRow(line);
+                    if (!applicants.contains(app.getApplicantUsername().toLowerCase(Locale.ROOT))) {
+                        throw new ValidationException("Applicant '" + app.getApplicantUsername() + "' is not a registered user.");
+                    }
+                    chunk.add(app);
+                } catch (ValidationException e) {
+                    chunkRejects.add(lineNo + "," + quote(e.getMessage()) + "," + quote(line));
+                }
+
+                if (chunk.size() + chunkRejects.size() >= chunkSize) {
+                    if (!commitChunk(chunk, chunkRejects, csv, source, lineNo)) {
+                        return new ImportResult(imported, rejected, skipped, false,
+                            "Chunk ending at line " + lineNo + " failed; rerun to resume after line " + committedLine);
+                    }
+                    committedLine = lineNo;
+                    imported += chunk.size();
+                    rejected += chunkRejects.size();
+                    chunk.clear();
+                    chunkRejects.clear();
+                    System.out.println("Committed through line " + lineNo + " (" + imported + " imported, " + rejected + " rejected)");
+                }
+            }
+
+            if (!chunk.isEmpty() || !chunkRejects.isEmpty()) {
+                if (!commitChunk(chunk, chunkRejects, csv, source, lineNo)) {
+                    return new ImportResult(imported, rejected, skipped, false,
+                        "Final chunk failed; rerun to resume after line " + committedLine);
+                }
+                imported += chunk.size();
+                rejected += chunkRejects.size();
+            }
+        }
+
+        target.clearImportProgress(source);
+        return new ImportResult(imported, rejected, skipped, true, "Import complete");
+    }
+
+    // Lower-cased, as MySQL compares usernames case-insensitively; empty if the store failed
+    // (the default accounts always exist)
+    private Set<String> registeredUsernames() {
+        Set<String> usernames = new HashSet<>();
+        for (User user : target.findAllUsers()) {
+            usernames.add(user.getUsername().toLowerCase(Locale.ROOT));
+        }
+        return usernames;
+    }
+
+    private boolean commitChunk(List<Application> chunk, List<String> rejects, Path csv, String source, long lastLine)
+            throws IOException {
+        // Rejects first: if the commit does not happen, the next run trims them off again
+        if (!rejects.isEmpty()) {
+            Path rejectsFile = rejectsFor(csv);
+            boolean newFile = !Files.exists(rejectsFile);
+            try (BufferedWriter writer = Files.newBufferedWriter(rejectsFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (newFile) {
+                    writer.write("line,reason,record");
+                    writer.newLine();
+                }
+                for (String reject : rejects) {
+                    writer.write(reject);
+                    writer.newLine();
+                }
+            }
+        }
+        return target.saveImportChunk(source, chunk, lastLine);
+    }
+
+    // Drops rejects for lines after the committed one, left by a run that stopped before its commit
+    private static void trimRejects(Path rejectsFile, long committedLine) throws IOException {
+        if (!Files.exists(rejectsFile)) {
+            return;
+        }
+        List<String> lines = Files.readAllLines(rejectsFile, StandardCharsets.UTF_8);
+        List<String> kept = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            int comma = line.indexOf(',');
+            String lineNo = comma > 0 ? line.substring(0, comma) : "";
+            if (lineNo.isEmpty() || !lineNo.chars().allMatch(Character::isDigit) || Long.parseLong(lineNo) <= committedLine) {
+                kept.add(line); // the header, or a line already committed past
+            }
+        }
+        if (kept.size() < lines.size()) {
+            // Write-then-rename so a crash never leaves a half-written rejects file behind
+            Path temp = rejectsFile.resolveSibling(rejectsFile.getFileName() + ".tmp");
+            Files.write(temp, kept, StandardCharsets.UTF_8);
+            Files.move(temp, rejectsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    static Application parseRow(String line) throws ValidationException {
+        List<String> fields = splitCsvLine(line);
+        if (fields.size() < 5 || fields.size() > 6) {
+            throw new ValidationException("Expected 5 or 6 columns but found " + fields.size() + ".");
+        }
+        String username = fields.get(0).trim();
+        String name = fields.get(1).trim();
+        String mobile = fields.get(2).trim();
+        String address = fields.get(3).trim();
+        String connections = fields.get(4).trim();
+
+        // Same rules the New Application form enforces
+        Validator.validateNotEmpty(username, "Username");
+        Validator.validateNotEmpty(name, "Name");
+        Validator.validateMobileNo(mobile);
+        Validator.validateNotEmpty(address, "Address");
+        Validator.validatePositiveInteger(connections);
+
+        Application app = new Application(username, name, mobile, address, Integer.parseInt(connections));
+        if (fields.size() == 6 && !fields.get(5).isBlank()) {
+            String status = fields.get(5).trim().toUpperCase();
+            Validator.validateStatus(status);
+            app.setStatus(status);
+        }
+        return app;
+    }
+
+    static List<String> splitCsvLine(String line) throws ValidationException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new ValidationException("Unterminated quoted field.");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    static String quote(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
+
+class ImportResult {
+    private final long imported;
+    private final long rejected;
+    private final long skipped;
+    private final boolean complete;
+    private final String message;
+
+    public ImportResult(long imported, long rejected, long skipped, boolean complete, String message) {
+        this.imported = imported;
+        this.rejected = rejected;
+        this.skipped = skipped;
+        this.complete = complete;
+        this.message = message;
+    }
+
+    public long getImported() { return imported; }
+    public long getRejected() { return rejected; }
+    public long getSkipped() { return skipped; } // lines already committed by an earlier run
+    public boolean isComplete() { return complete; }
+    public String getMessage() { return message; }
+}
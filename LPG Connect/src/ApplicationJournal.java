@@ -0,0 +1,797 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Write-ahead journal and snapshots that make InMemoryDAO durable.
+ *
+ * Every change is appended to the current journal segment (journal-N.log) while the store's
+ * write lock is held, so records are in commit order. A single flusher thread writes
+ * whatever has accumulated and fsyncs it once; callers wait for that after releasing the
+ * lock, so concurrent writers share one fsync (group commit). When a segment grows past the
+ * snapshot threshold, the store is written to snapshot-N.snap and older segments and
+ * snapshots are deleted. Files are read and written with plain channel I/O rather than
+ * mapped: a mapping stays in place until it is garbage collected, and on Windows a mapped
+ * file cannot be truncated or deleted.
+ *
+ * Recovery loads the newest snapshot and replays the segments written after it. Every
+ * record is idempotent (a full row, a delete or a status), so a snapshot taken while writes
+ * continue into the next segment still replays to the right state. A torn record at the end
+ * of the newest segment, left by a crash mid-write, was never acknowledged and is cut off.
+ * A bad record anywhere else means the files are damaged; recovery then fails rather than
+ * replay later segments over the gap.
+ *
+ * Records are framed as [payload length][CRC32C of payload][payload]; the payload starts
+ * with a record type.
+ */
+class ApplicationJournal implements Closeable {
+    // Receives recovered state; called with the store's write lock held
+    interface Replay {
+        void reset(); // discard the state built so far (initial data, or a snapshot that failed to load)
+        void user(User user);
+        void put(Application app);
+        void delete(int appId);
+        void status(int appId, String status);
+        void highWater(int nextId); // first application ID never handed out
+        void finish(); // everything has been replayed
+    }
+
+    private static final byte USER = 1;
+    private static final byte PUT = 2;
+    private static final byte PUTS = 3;
+    private static final byte DELETE = 4;
+    private static final byte STATUS = 5;
+    private static final byte SNAPSHOT_END = 6;
+
+    private static final long SNAPSHOT_MAGIC = 0x4C5047534E415031L; // "LPGSNAP1"
+    private static final int FRAME_HEADER = 8;
+    private static final int MAX_RECORD = 256 << 20;
+    private static final int IO_BUFFER = 1 << 20;
+    private static final int SNAPSHOT_CHUNK = 10_000; // rows per snapshot read-lock hold and per batch record
+    private static final int MAX_REPLAYED_SEGMENTS = 8; // more than this (one per restart) is worth a snapshot
+    private static final Pattern SEGMENT_NAME = Pattern.compile("journal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("snapshot-(\\d+)\\.snap");
+
+    private final Path dir;
+    private final long snapshotBytes;
+    private final Runnable compaction;
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final Thread flusher;
+
+    // Guarded by monitor
+    private final Object monitor = new Object();
+    private FileChannel segment;
+    private int generation;
+    private long segmentBytes;
+    private byte[] pending = new byte[64 * 1024];
+    private byte[] spare = new byte[64 * 1024];
+    private int pendingLength;
+    private long appendedSeq;
+    private long durableSeq;
+    private IOException failure;
+    private boolean closed;
+
+    private final boolean fresh;
+    private final boolean compactionDue;
+
+    private ApplicationJournal(Path dir, long snapshotBytes, Runnable compaction, int generation,
+                               boolean fresh, boolean compactionDue) throws IOException {
+        this.dir = dir;
+        this.snapshotBytes = snapshotBytes;
+        this.compaction = compaction;
+        this.generation = generation;
+        this.fresh = fresh;
+        this.compactionDue = compactionDue;
+        this.segment = openSegment(generation);
+        this.flusher = new Thread(this::flushLoop, "lpg-memory-journal");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Recovers the state stored in dir into replay, then opens a new segment for appending.
+     * compaction is run on a background thread whenever a snapshot is due; it should call
+     * rotate() and writeSnapshot().
+     */
+    public static ApplicationJournal open(Path dir, long snapshotBytes, Replay replay, Runnable compaction) throws IOException {
+        Files.createDirectories(dir);
+        long started = System.nanoTime();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().endsWith(".snap.tmp")) {
+                    Files.delete(file); // a snapshot interrupted by shutdown
+                }
+            }
+        }
+        List<Integer> segments = generations(dir, SEGMENT_NAME);
+        List<Integer> snapshots = generations(dir, SNAPSHOT_NAME);
+        boolean fresh = segments.isEmpty() && snapshots.isEmpty();
+
+        int snapshotGeneration = 0;
+        long snapshotRecords = 0;
+        for (int i = snapshots.size() - 1; i >= 0 && snapshotGeneration == 0; i--) {
+            replay.reset();
+            try {
+                snapshotRecords = loadSnapshot(snapshotFile(dir, snapshots.get(i)), replay);
+                snapshotGeneration = snapshots.get(i);
+            } catch (IOException e) {
+                System.err.println("Skipping unreadable snapshot " + snapshotFile(dir, snapshots.get(i)) + ": " + e.getMessage());
+            }
+        }
+        if (snapshotGeneration == 0 && !fresh) {
+            replay.reset();
+            if (!snapshots.isEmpty()) {
+                System.err.println("No usable snapshot in " + dir + "; recovering from the journal alone, which may be incomplete");
+            }
+        }
+
+        long logRecords = 0;
+        long logBytes = 0;
+        int logSegments = 0;
+        int lastGeneration = snapshotGeneration;
+        for (int i = 0; i < segments.size(); i++) {
+            int generation = segments.get(i);
+            lastGeneration = Math.max(lastGeneration, generation);
+            if (generation >= snapshotGeneration) {
+                long[] replayed = replaySegment(segmentFile(dir, generation), replay, i == segments.size() - 1);
+                logRecords += replayed[0];
+                logBytes += replayed[1];
+                logSegments++;
+            }
+        }
+
+        replay.finish();
+        if (!fresh) {
+            System.out.printf("Recovered in-memory store from %s in %d ms (snapshot %d with %d records, %d journal records)%n",
+                dir, (System.nanoTime() - started) / 1_000_000, snapshotGeneration, snapshotRecords, logRecords);
+        }
+        return new ApplicationJournal(dir, snapshotBytes, compaction, lastGeneration + 1, fresh,
+            logBytes >= snapshotBytes || logSegments > MAX_REPLAYED_SEGMENTS);
+    }
+
+    // True if the directory held no state, so the caller's initial data should be snapshotted
+    public boolean isFresh() { return fresh; }
+
+    // True if recovery replayed enough journal that a snapshot would speed up the next start
+    public boolean isCompactionDue() { return compactionDue; }
+
+    // --- Appending (called with the store's write lock held) ---
+
+    public long logUser(User user) {
+        RecordBuffer record = new RecordBuffer(USER);
+        writeUser(record, user);
+        return append(record);
+    }
+
+    public long logPut(Application app) {
+        RecordBuffer record = new RecordBuffer(PUT);
+        writeApplication(record, app);
+        return append(record);
+    }
+
+    // One record per chunk of the batch, keeping records well under MAX_RECORD
+    public long logPuts(List<Application> apps) {
+        long seq = 0;
+        RecordBuffer record = new RecordBuffer(PUTS);
+        for (int from = 0; from < apps.size(); from += SNAPSHOT_CHUNK) {
+            List<Application> chunk = apps.subList(from, Math.min(apps.size(), from + SNAPSHOT_CHUNK));
+            record.reset(PUTS);
+            record.putInt(chunk.size());
+            for (Application app : chunk) {
+                writeApplication(record, app);
+            }
+            seq = append(record);
+        }
+        return seq;
+    }
+
+    public long logDelete(int appId) {
+        RecordBuffer record = new RecordBuffer(DELETE);
+        record.putInt(appId);
+        return append(record);
+    }
+
+    public long logStatus(List<Integer> appIds, String status) {
+        RecordBuffer record = new RecordBuffer(STATUS);
+        record.putString(status);
+        record.putInt(appIds.size());
+        for (int appId : appIds) {
+            record.putInt(appId);
+        }
+        return append(record);
+    }
+
+    /**
+     * Waits until the record with the given sequence number is on disk. Call after releasing
+     * the store's lock. Returns false if the journal has failed; the change then lives in
+     * memory only.
+     */
+    public boolean awaitDurable(long seq) {
+        synchronized (monitor) {
+            while (durableSeq < seq && failure == null) {
+                try {
+                    monitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return durableSeq >= seq;
+        }
+    }
+
+    private long append(RecordBuffer record) {
+        ByteBuffer frame = record.frame();
+        synchronized (monitor) {
+            if (failure != null || closed) {
+                return 0;
+            }
+            int length = frame.remaining();
+            if (pendingLength + length > pending.length) {
+                pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLength + length));
+            }
+            frame.get(pending, pendingLength, length);
+            pendingLength += length;
+            appendedSeq++;
+            monitor.notifyAll();
+            return appendedSeq;
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            byte[] batch;
+            int length;
+            long target;
+            FileChannel channel;
+            synchronized (monitor) {
+                while (pendingLength == 0 && !closed) {
+                    try {
+                        monitor.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pendingLength == 0) {
+                    return; // closed and drained
+                }
+                batch = pending;
+                length = pendingLength;
+                target = appendedSeq;
+                channel = segment;
+                pending = spare;
+                pendingLength = 0;
+                spare = batch;
+            }
+
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(batch, 0, length);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                System.err.println("In-memory store journal failed, further changes are NOT durable: " + e.getMessage());
+                synchronized (monitor) {
+                    failure = e;
+                    monitor.notifyAll();
+                }
+                return;
+            }
+
+            boolean snapshotDue;
+            synchronized (monitor) {
+                durableSeq = target;
+                segmentBytes += length;
+                snapshotDue = segmentBytes >= snapshotBytes;
+                monitor.notifyAll();
+            }
+            if (snapshotDue) {
+                requestCompaction();
+            }
+        }
+    }
+
+    // --- Snapshots ---
+
+    public void requestCompaction() {
+        if (compacting.compareAndSet(false, true)) {
+            Thread thread = new Thread(() -> {
+                try {
+                    compaction.run();
+                } finally {
+                    compacting.set(false);
+                }
+            }, "lpg-memory-snapshot");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Starts a new segment once everything appended so far is on disk and returns its
+     * generation. Call with the store's write lock held, then capture the state to snapshot
+     * before releasing it.
+     */
+    public int rotate() throws IOException {
+        synchronized (monitor) {
+            while (durableSeq < appendedSeq && failure == null) {
+                try {
+                    monitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while rotating the journal");
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            FileChannel next = openSegment(generation + 1);
+            segment.close();
+            segment = next;
+            generation++;
+            segmentBytes = 0;
+            return generation;
+        }
+    }
+
+    /**
+     * Writes the captured state as snapshot-{generation}, then deletes the segments and
+     * snapshots it replaces. Rows are read and encoded under readLock a chunk at a time, so
+     * writers are only ever held up briefly; a null row (deleted since the capture) is
+     * skipped. Returns the number of applications written.
+     */
+    public long writeSnapshot(int generation, List<User> users, List<Application> apps, int nextId, Lock readLock) throws IOException {
+        Path target = snapshotFile(dir, generation);
+        Path temp = dir.resolve(target.getFileName() + ".tmp");
+        long written = 0;
+        try (ChannelOutput out = new ChannelOutput(temp)) {
+            ByteBuffer header = ByteBuffer.allocate(12);
+            header.putLong(SNAPSHOT_MAGIC).putInt(generation).flip();
+            out.write(header);
+
+            for (User user : users) {
+                RecordBuffer record = new RecordBuffer(USER);
+                writeUser(record, user);
+                out.write(record.frame());
+            }
+            RecordBuffer record = new RecordBuffer(PUT);
+            for (int from = 0; from < apps.size(); from += SNAPSHOT_CHUNK) {
+                readLock.lock();
+                try {
+                    for (Application app : apps.subList(from, Math.min(apps.size(), from + SNAPSHOT_CHUNK))) {
+                        if (app == null) {
+                            continue;
+                        }
+                        written++;
+                        record.reset(PUT);
+                        writeApplication(record, app);
+                        out.write(record.frame());
+                    }
+                } finally {
+                    readLock.unlock();
+                }
+            }
+            RecordBuffer end = new RecordBuffer(SNAPSHOT_END);
+            end.putLong(users.size());
+            end.putLong(written);
+            end.putInt(nextId);
+            out.write(end.frame());
+            out.finish();
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory();
+
+        for (int old : generations(dir, SEGMENT_NAME)) {
+            if (old < generation) {
+                Files.deleteIfExists(segmentFile(dir, old));
+            }
+        }
+        for (int old : generations(dir, SNAPSHOT_NAME)) {
+            if (old < generation) {
+                Files.deleteIfExists(snapshotFile(dir, old));
+            }
+        }
+        return written;
+    }
+
+    // Flushes what has been appended and stops the flusher; later appends are ignored
+    @Override
+    public void close() {
+        synchronized (monitor) {
+            closed = true;
+            monitor.notifyAll();
+        }
+        try {
+            flusher.join(10_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (monitor) {
+            try {
+                segment.close();
+                if (segmentBytes == 0 && failure == null) {
+                    Files.deleteIfExists(segmentFile(dir, generation)); // nothing was logged this run
+                }
+            } catch (IOException e) {
+                System.err.println("Error closing journal segment: " + e.getMessage());
+            }
+        }
+    }
+
+    // --- Recovery ---
+
+    private static long loadSnapshot(Path file, Replay replay) throws IOException {
+        try (ChannelInput in = new ChannelInput(file)) {
+            ByteBuffer header = in.require(12);
+            if (header == null || header.getLong() != SNAPSHOT_MAGIC) {
+                throw new IOException("not a snapshot file");
+            }
+            header.getInt(); // generation, also in the file name
+            long users = 0;
+            long apps = 0;
+            while (true) {
+                ByteBuffer payload = in.next();
+                if (payload == null) {
+                    throw new IOException("truncated or corrupt at byte " + in.position());
+                }
+                byte type = payload.get();
+                if (type == SNAPSHOT_END) {
+                    if (payload.getLong() != users || payload.getLong() != apps) {
+                        throw new IOException("record count mismatch");
+                    }
+                    replay.highWater(payload.getInt());
+                    return users + apps;
+                }
+                apply(type, payload, replay);
+                if (type == USER) {
+                    users++;
+                } else {
+                    apps++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns {records, bytes} replayed. Only the newest segment may end in an incomplete or
+     * corrupt record; it is truncated there, so the segment is whole once later ones follow.
+     */
+    private static long[] replaySegment(Path file, Replay replay, boolean newest) throws IOException {
+        long records = 0;
+        long valid;
+        long size;
+        try (ChannelInput in = new ChannelInput(file)) {
+            ByteBuffer payload;
+            while ((payload = in.next()) != null) {
+                apply(payload.get(), payload, replay);
+                records++;
+            }
+            valid = in.position();
+            size = in.size();
+        }
+        if (valid < size) {
+            if (!newest) {
+                throw new IOException(file + " is corrupt at byte " + valid + " and later segments depend on it");
+            }
+            System.err.println("Discarding " + (size - valid) + " bytes of incomplete journal at the end of " + file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(valid);
+                channel.force(true);
+            }
+        }
+        return new long[]{records, valid};
+    }
+
+    private static void apply(byte type, ByteBuffer payload, Replay replay) throws IOException {
+        switch (type) {
+            case USER:
+                replay.user(readUser(payload));
+                break;
+            case PUT:
+                replay.put(readApplication(payload));
+                break;
+            case PUTS:
+                for (int i = payload.getInt(); i > 0; i--) {
+                    replay.put(readApplication(payload));
+                }
+                break;
+            case DELETE:
+                replay.delete(payload.getInt());
+                break;
+            case STATUS:
+                String status = readString(payload);
+                for (int i = payload.getInt(); i > 0; i--) {
+                    replay.status(payload.getInt(), status);
+                }
+                break;
+            default:
+                throw new IOException("unknown record type " + type);
+        }
+    }
+
+    // --- Encoding ---
+
+    private static void writeUser(RecordBuffer record, User user) {
+        record.putString(user.getUsername());
+        record.putString(user.getPassword());
+        record.putString(user.getRole());
+    }
+
+    private static User readUser(ByteBuffer in) {
+        String username = readString(in);
+        String password = readString(in);
+        return "ADMIN".equals(readString(in)) ? new AdminUser(username, password) : new RegularUser(username, password);
+    }
+
+    private static void writeApplication(RecordBuffer record, Application app) {
+        record.putInt(app.getAppId());
+        record.putString(app.getApplicantUsername());
+        record.putString(app.getName());
+        record.putString(app.getMobileNo());
+        record.putString(app.getAddress());
+        record.putInt(app.getNumConnections());
+        record.putString(app.getStatus());
+        LocalDateTime created = app.getCreatedAt();
+        record.putLong(created != null ? created.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE);
+        record.putInt(created != null ? created.getNano() : 0);
+    }
+
+    private static Application readApplication(ByteBuffer in) {
+        int appId = in.getInt();
+        String username = readString(in);
+        String name = readString(in);
+        String mobile = readString(in);
+        String address = readString(in);
+        int connections = in.getInt();
+        String status = readString(in);
+        long seconds = in.getLong();
+        int nanos = in.getInt();
+        LocalDateTime created = seconds == Long.MIN_VALUE ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        return new Application(appId, username, name, mobile, address, connections, status, created);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // --- Files ---
+
+    private FileChannel openSegment(int generation) throws IOException {
+        FileChannel channel = FileChannel.open(segmentFile(dir, generation),
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        syncDirectory();
+        return channel;
+    }
+
+    // Makes a created or renamed file's directory entry durable (not supported everywhere)
+    private void syncDirectory() {
+        try (FileChannel directory = FileChannel.open(dir, StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            // Best effort
+        }
+    }
+
+    private static Path segmentFile(Path dir, int generation) {
+        return dir.resolve(String.format("journal-%06d.log", generation));
+    }
+
+    private static Path snapshotFile(Path dir, int generation) {
+        return dir.resolve(String.format("snapshot-%06d.snap", generation));
+    }
+
+    // Generations of the files matching the pattern, ascending
+    private static List<Integer> generations(Path dir, Pattern pattern) throws IOException {
+        List<Integer> found = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(file -> {
+                Matcher matcher = pattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    found.add(Integer.parseInt(matcher.group(1)));
+                }
+            });
+        }
+        found.sort(null);
+        return found;
+    }
+
+    /**
+     * One framed record being encoded. The buffer grows as needed and can be reused.
+     */
+    private static final class RecordBuffer {
+        private ByteBuffer buffer = ByteBuffer.allocate(256);
+
+        RecordBuffer(byte type) {
+            reset(type);
+        }
+
+        void reset(byte type) {
+            buffer.clear();
+            buffer.position(FRAME_HEADER);
+            buffer.put(type);
+        }
+
+        void putInt(int value) {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) {
+            ensure(8);
+            buffer.putLong(value);
+        }
+
+        void putString(String value) {
+            if (value == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        // The framed record, ready to write
+        ByteBuffer frame() {
+            int payloadLength = buffer.position() - FRAME_HEADER;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.array(), FRAME_HEADER, payloadLength);
+            buffer.putInt(0, payloadLength);
+            buffer.putInt(4, (int) crc.getValue());
+            return ByteBuffer.wrap(buffer.array(), 0, buffer.position());
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+    }
+
+    /**
+     * Reads a file through a buffer refilled with positional channel reads, growing it
+     * whenever a record is larger than the buffer.
+     */
+    private static final class ChannelInput implements Closeable {
+        private final FileChannel channel;
+        private final long size;
+        private long bufferStart; // file offset of the buffer's first byte
+        private ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER);
+
+        ChannelInput(Path file) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.size = channel.size();
+            buffer.limit(0);
+        }
+
+        long size() { return size; }
+
+        long position() {
+            return bufferStart + buffer.position();
+        }
+
+        // A buffer with at least n bytes readable from the current position, or null past the end
+        ByteBuffer require(int n) throws IOException {
+            if (buffer.remaining() < n) {
+                long position = position();
+                if (size - position < n) {
+                    return null;
+                }
+                ByteBuffer refill = buffer.capacity() >= n ? buffer.compact() : ByteBuffer.allocate(Math.max(buffer.capacity() * 2, n)).put(buffer);
+                while (refill.position() < n) {
+                    if (channel.read(refill, position + refill.position()) < 0) {
+                        throw new IOException("file shrank while being read");
+                    }
+                }
+                refill.flip();
+                buffer = refill;
+                bufferStart = position;
+            }
+            return buffer;
+        }
+
+        // Payload of the next valid record, or null at the end of the file or at a bad record
+        ByteBuffer next() throws IOException {
+            ByteBuffer header = require(FRAME_HEADER);
+            if (header == null) {
+                return null;
+            }
+            int length = header.getInt(header.position());
+            int checksum = header.getInt(header.position() + 4);
+            if (length <= 0 || length > MAX_RECORD) {
+                return null;
+            }
+            ByteBuffer record = require(FRAME_HEADER + length);
+            if (record == null) {
+                return null;
+            }
+            ByteBuffer payload = record.slice(record.position() + FRAME_HEADER, length);
+            CRC32C crc = new CRC32C();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return null;
+            }
+            record.position(record.position() + FRAME_HEADER + length);
+            return payload;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes a file through a buffer flushed with channel writes; finish() forces it to disk.
+     */
+    private static final class ChannelOutput implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER);
+
+        ChannelOutput(Path file) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        }
+
+        void write(ByteBuffer bytes) throws IOException {
+            if (buffer.remaining() < bytes.remaining()) {
+                flush();
+            }
+            if (buffer.remaining() < bytes.remaining()) {
+                writeFully(bytes); // larger than the buffer
+            } else {
+                buffer.put(bytes);
+            }
+        }
+
+        void finish() throws IOException {
+            flush();
+            channel.force(true);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            writeFully(buffer);
+            buffer.clear();
+        }
+
+        private void writeFully(ByteBuffer bytes) throws IOException {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
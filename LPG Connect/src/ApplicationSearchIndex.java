@@ -0,0 +1,707 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory search over applicant name, mobile number and address.
+ *
+ * A query is split into words and every word must match an application (AND). A word
+ * matches through any of:
+ *   - prefix of a name or address word ("prak" finds "Prakash", "kora" finds "Koramangala")
+ *   - trigram substring anywhere in the name or address ("ndheri" finds "Andheri")
+ *   - phonetic key of a name word, tuned for Indian spellings ("Laxmi" finds "Lakshmi")
+ *   - trailing digits of the mobile number, from three digits up, or the exact application ID
+ *     (digits also match address words such as house numbers and PIN codes, as above)
+ * Results are ranked by how strongly each word matched, then newest first.
+ *
+ * Documents are numbered in display order, so posting lists are sorted oldest to newest.
+ * A query walks only the most selective word's postings, newest first, checks the other
+ * words against each candidate directly and keeps the best results in a bounded heap. It
+ * stops as soon as the heap is full of results no older candidate could outscore, so a
+ * broad query costs about as much as a narrow one.
+ *
+ * The index is built from the wrapped store on the first search (which is answered by the
+ * store meanwhile) or by {@link #warmUp()}, and is then kept current from the
+ * ApplicationEventBus. Deleted and archived applications leave stale postings behind that
+ * are skipped at query time and purged once they pass a quarter of the index. The event
+ * bus only carries this process's changes, so when the store is shared (other desktops on
+ * the same MySQL database) the whole index is re-read from it every refreshMillis; changes
+ * arriving meanwhile are applied as usual and again on top of what was read.
+ */
+class ApplicationSearchIndex extends ForwardingApplicationDAO {
+    private static final int SEED_PAGE_SIZE = 5000;
+    private static final int MOBILE_KEY_DIGITS = 4;
+
+    private static final int SCORE_ID = 5;
+    private static final int SCORE_PREFIX = 3;
+    private static final int SCORE_PHONETIC = 2;
+    private static final int SCORE_SUBSTRING = 1;
+
+    private static final Comparator<Hit> BEST_FIRST = Comparator.<Hit>comparingInt(hit -> -hit.score)
+        .thenComparingInt(hit -> -hit.docNo);
+
+    // Postings refer to dense document numbers in display order (oldest first); a replaced or
+    // deleted document leaves a null slot
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<Integer, Integer> docNoByAppId = new HashMap<>();
+    private final TreeMap<String, IntList> words = new TreeMap<>(); // name and address words
+    private final Map<String, IntList> trigrams = new HashMap<>();
+    private final Map<String, IntList> phoneticKeys = new HashMap<>(); // name words only
+    private final Map<String, IntList> mobileSuffixes = new HashMap<>(); // last four digits
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Runnable unsubscribe;
+    private final ScheduledExecutorService refresher; // null when the index is never re-read
+
+    private volatile boolean ready;
+    private volatile boolean seeding; // a seed or refresh is running; guarded by this
+    private volatile boolean buffering; // set under the write lock while the store is read
+    // Changes committed while seeding, applied after the seeded rows so numbering stays in order
+    private final Map<Integer, Doc> createdWhileSeeding = new LinkedHashMap<>();
+    private final Map<Integer, String> statusChangedWhileSeeding = new HashMap<>();
+    private final Set<Integer> deletedWhileSeeding = new HashSet<>();
+    private int staleDocs;
+
+    public ApplicationSearchIndex(ApplicationDAO delegate, ApplicationEventBus bus) {
+        this(delegate, bus, 0);
+    }
+
+    // refreshMillis 0 keeps the index on events alone, for a store no other process writes to
+    public ApplicationSearchIndex(ApplicationDAO delegate, ApplicationEventBus bus, long refreshMillis) {
+        super(delegate);
+        this.unsubscribe = bus.subscribe(this::apply);
+        if (refreshMillis <= 0) {
+            this.refresher = null;
+            return;
+        }
+        this.refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "lpg-search-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        refresher.scheduleWithFixedDelay(this::refresh, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public List<ApplicationSummary> searchApplications(String query, int limit) {
+        if (!ready) {
+            startSeeding();
+            return delegate.searchApplications(query, limit);
+        }
+        lock.readLock().lock();
+        try {
+            return search(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Builds the index now instead of on the first search. Blocks until it is ready.
+     */
+    public void warmUp() {
+        synchronized (this) {
+            if (ready || seeding) {
+                return;
+            }
+            seeding = true;
+        }
+        seed();
+    }
+
+    public boolean isReady() { return ready; }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docNoByAppId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void shutdown() {
+        unsubscribe.run();
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Re-reads the index from the store, picking up changes other clients made and dropping
+     * stale postings. Searches keep using the current index meanwhile. Does nothing before
+     * the first build.
+     */
+    public void refresh() {
+        synchronized (this) {
+            if (!ready || seeding) {
+                return;
+            }
+            seeding = true;
+        }
+        seed();
+    }
+
+    private synchronized void startSeeding() {
+        if (ready || seeding) {
+            return;
+        }
+        seeding = true;
+        Thread seeder = new Thread(this::seed, "lpg-search-index");
+        seeder.setDaemon(true);
+        seeder.start();
+    }
+
+    private void seed() {
+        long start = System.nanoTime();
+        boolean rebuild = ready;
+        lock.writeLock().lock();
+        try {
+            buffering = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            List<Doc> newestFirst = new ArrayList<>();
+            PageCursor cursor = null;
+            do {
+                Page<Application> page = delegate.findApplicationsPage(null, cursor, SEED_PAGE_SIZE);
+                for (Application app : page.getItems()) {
+                    newestFirst.add(new Doc(ApplicationSummary.of(app), app.getAddress()));
+                }
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            lock.writeLock().lock();
+            try {
+                if (rebuild) {
+                    clear();
+                }
+                for (int i = newestFirst.size() - 1; i >= 0; i--) {
+                    Doc doc = newestFirst.get(i);
+                    int appId = doc.summary.getAppId();
+                    // Events received while seeding are newer than the pages that were read
+                    if (createdWhileSeeding.containsKey(appId) || deletedWhileSeeding.contains(appId)) {
+                        continue;
+                    }
+                    String status = statusChangedWhileSeeding.get(appId);
+                    add(status != null ? doc.withSummary(doc.summary.withStatus(status)) : doc);
+                }
+                createdWhileSeeding.values().forEach(this::add);
+                stopBuffering();
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!rebuild) {
+                System.out.printf("Search index ready: %d applications in %d ms%n", size(), (System.nanoTime() - start) / 1_000_000);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Search index " + (rebuild ? "refresh" : "build") + " failed: " + e.getMessage());
+            lock.writeLock().lock();
+            try {
+                stopBuffering(); // a refresh leaves the index as the events kept it
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            synchronized (this) {
+                seeding = false;
+            }
+        }
+    }
+
+    private void apply(List<ApplicationEvent> events) {
+        if (!ready && !buffering) {
+            return; // the seed will read the committed state, including these changes
+        }
+        lock.writeLock().lock();
+        try {
+            if (buffering) {
+                // A refresh applies them below as well, so searches see them before it finishes
+                for (ApplicationEvent event : events) {
+                    bufferWhileSeeding(event);
+                }
+            }
+            if (!ready) {
+                return;
+            }
+            for (ApplicationEvent event : events) {
+                Integer docNo = docNoByAppId.get(event.getAppId());
+                switch (event.getType()) {
+                    case CREATED:
+                        add(new Doc(event.getSummary(), event.getAddress()));
+                        break;
+                    case STATUS_CHANGED:
+                        // Only the displayed row changes; no indexed text does
+                        if (docNo != null) {
+                            docs.set(docNo, docs.get(docNo).withSummary(event.getSummary()));
+                        }
+                        break;
+                    case UPDATED:
+                        // Re-indexed as a new document, which ranks it as newest among equal
+                        // scores until the next rebuild restores display order
+                        if (docNo != null) {
+                            add(new Doc(event.getSummary(), event.getAddress()));
+                        }
+                        break;
+                    case DELETED:
+                    case ARCHIVED:
+                        if (docNo != null) {
+                            docNoByAppId.remove(event.getAppId());
+                            docs.set(docNo, null);
+                            staleDocs++;
+                        }
+                        break;
+                }
+            }
+            if (staleDocs > Math.max(1000, docNoByAppId.size() / 4)) {
+                rebuildPostings();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock
+    private void bufferWhileSeeding(ApplicationEvent event) {
+        int appId = event.getAppId();
+        switch (event.getType()) {
+            case CREATED:
+                createdWhileSeeding.put(appId, new Doc(event.getSummary(), event.getAddress()));
+                deletedWhileSeeding.remove(appId);
+                break;
+            case STATUS_CHANGED:
+                Doc created = createdWhileSeeding.get(appId);
+                if (created != null) {
+                    createdWhileSeeding.put(appId, created.withSummary(event.getSummary()));
+                } else {
+                    statusChangedWhileSeeding.put(appId, event.getNewStatus());
+                }
+                break;
+            case UPDATED:
+                // The pages read may hold the old text, so the edited document replaces them
+                createdWhileSeeding.put(appId, new Doc(event.getSummary(), event.getAddress()));
+                statusChangedWhileSeeding.remove(appId);
+                break;
+            case DELETED:
+            case ARCHIVED:
+                createdWhileSeeding.remove(appId);
+                statusChangedWhileSeeding.remove(appId);
+                deletedWhileSeeding.add(appId);
+                break;
+        }
+    }
+
+    // Callers hold the write lock
+    private void stopBuffering() {
+        buffering = false;
+        createdWhileSeeding.clear();
+        statusChangedWhileSeeding.clear();
+        deletedWhileSeeding.clear();
+    }
+
+    // Callers hold the write lock
+    private void add(Doc doc) {
+        int docNo = docs.size();
+        Integer replaced = docNoByAppId.put(doc.summary.getAppId(), docNo);
+        if (replaced != null) {
+            docs.set(replaced, null);
+            staleDocs++;
+        }
+        docs.add(doc);
+
+        Set<String> docTrigrams = new HashSet<>();
+        for (String word : tokenize(doc.name)) {
+            post(words, word, docNo);
+            addTrigrams(word, docTrigrams);
+        }
+        for (String key : doc.nameKeys) {
+            post(phoneticKeys, key, docNo);
+        }
+        for (String word : tokenize(doc.address)) {
+            post(words, word, docNo);
+            addTrigrams(word, docTrigrams);
+        }
+        for (String trigram : docTrigrams) {
+            post(trigrams, trigram, docNo);
+        }
+        if (doc.mobile.length() >= MOBILE_KEY_DIGITS) {
+            post(mobileSuffixes, doc.mobile.substring(doc.mobile.length() - MOBILE_KEY_DIGITS), docNo);
+        }
+    }
+
+    private void rebuildPostings() {
+        List<Doc> live = new ArrayList<>(docNoByAppId.size());
+        for (Doc doc : docs) {
+            if (doc != null) {
+                live.add(doc);
+            }
+        }
+        live.sort(Comparator.comparing((Doc doc) -> PageCursor.of(doc.summary)).reversed());
+        clear();
+        for (Doc doc : live) {
+            add(doc);
+        }
+    }
+
+    // Callers hold the write lock
+    private void clear() {
+        docs.clear();
+        docNoByAppId.clear();
+        words.clear();
+        trigrams.clear();
+        phoneticKeys.clear();
+        mobileSuffixes.clear();
+        staleDocs = 0;
+    }
+
+    // Callers hold the read lock
+    private List<ApplicationSummary> search(String query, int limit) {
+        List<QueryWord> queryWords = new ArrayList<>();
+        for (String word : tokenize(query)) {
+            if (word.length() >= 2 || isDigits(word)) {
+                queryWords.add(new QueryWord(word));
+            }
+        }
+        if (queryWords.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Drive the query from the word with the fewest candidate postings
+        List<IntList> driver = null;
+        long driverCost = Long.MAX_VALUE;
+        int bestPossible = 0;
+        for (QueryWord word : queryWords) {
+            List<IntList> lists = candidateLists(word);
+            long cost = 0;
+            for (IntList list : lists) {
+                cost += list.size;
+            }
+            if (cost < driverCost) {
+                driver = lists;
+                driverCost = cost;
+            }
+            bestPossible += bestPossibleScore(word);
+        }
+
+        PriorityQueue<Hit> best = new PriorityQueue<>(BEST_FIRST.reversed()); // worst kept hit at the head
+        NewestFirst candidates = new NewestFirst(driver);
+        for (int docNo = candidates.next(); docNo >= 0; docNo = candidates.next()) {
+            Doc doc = docs.get(docNo);
+            if (doc == null) {
+                continue;
+            }
+            int total = 0;
+            for (QueryWord word : queryWords) {
+                int score = score(doc, word);
+                if (score == 0) {
+                    total = 0;
+                    break;
+                }
+                total += score;
+            }
+            if (total > 0) {
+                best.add(new Hit(docNo, doc, total));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+                if (best.size() == limit && best.peek().score >= bestPossible) {
+                    break; // every remaining candidate is older, so none can rank higher
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(BEST_FIRST);
+        List<ApplicationSummary> results = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            results.add(hit.doc.summary);
+        }
+        return results;
+    }
+
+    // Every posting list that can contain a match for the word (a superset of the matches)
+    private List<IntList> candidateLists(QueryWord word) {
+        List<IntList> lists = new ArrayList<>();
+        if (word.digits) {
+            Integer docNo = word.appId >= 0 ? docNoByAppId.get(word.appId) : null;
+            if (docNo != null) {
+                IntList exact = new IntList();
+                exact.add(docNo);
+                lists.add(exact);
+            }
+            if (word.text.length() >= MOBILE_KEY_DIGITS) {
+                addIfPresent(lists, mobileSuffixes.get(word.text.substring(word.text.length() - MOBILE_KEY_DIGITS)));
+            } else if (word.text.length() == MOBILE_KEY_DIGITS - 1) {
+                for (char d = '0'; d <= '9'; d++) {
+                    addIfPresent(lists, mobileSuffixes.get(d + word.text));
+                }
+            }
+            // and, below, address words such as a house number or PIN code
+        }
+        lists.addAll(words.subMap(word.text, true, word.text + Character.MAX_VALUE, true).values());
+        if (word.phoneticKey.length() >= 2) {
+            addIfPresent(lists, phoneticKeys.get(word.phoneticKey));
+        }
+        if (word.text.length() >= 3) {
+            IntList rarest = null;
+            Set<String> wordTrigrams = new HashSet<>();
+            addTrigrams(word.text, wordTrigrams);
+            for (String trigram : wordTrigrams) {
+                IntList postings = trigrams.get(trigram);
+                if (postings == null) {
+                    rarest = null; // some trigram occurs nowhere, so no substring match exists
+                    break;
+                }
+                if (rarest == null || postings.size < rarest.size) {
+                    rarest = postings;
+                }
+            }
+            addIfPresent(lists, rarest);
+        }
+        return lists;
+    }
+
+    // Upper bound on what score() can return for the word against any indexed document
+    private int bestPossibleScore(QueryWord word) {
+        if (word.digits) {
+            return docNoByAppId.containsKey(word.appId) ? SCORE_ID : SCORE_PREFIX;
+        }
+        if (!words.subMap(word.text, true, word.text + Character.MAX_VALUE, true).isEmpty()) {
+            return SCORE_PREFIX;
+        }
+        return phoneticKeys.containsKey(word.phoneticKey) ? SCORE_PHONETIC : SCORE_SUBSTRING;
+    }
+
+    private static int score(Doc doc, QueryWord word) {
+        if (word.digits) {
+            if (word.appId == doc.summary.getAppId()) {
+                return SCORE_ID;
+            }
+            if (word.text.length() >= MOBILE_KEY_DIGITS - 1 && doc.mobile.endsWith(word.text)) {
+                return SCORE_PREFIX;
+            }
+        }
+        if (hasWordStartingWith(doc.name, word.text) || hasWordStartingWith(doc.address, word.text)) {
+            return SCORE_PREFIX;
+        }
+        if (word.phoneticKey.length() >= 2) {
+            for (String key : doc.nameKeys) {
+                if (key.equals(word.phoneticKey)) {
+                    return SCORE_PHONETIC;
+                }
+            }
+        }
+        if (word.text.length() >= 3 && (doc.name.contains(word.text) || doc.address.contains(word.text))) {
+            return SCORE_SUBSTRING;
+        }
+        return 0;
+    }
+
+    private static boolean hasWordStartingWith(String text, String prefix) {
+        for (int i = text.indexOf(prefix); i >= 0; i = text.indexOf(prefix, i + 1)) {
+            if (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addIfPresent(List<IntList> lists, IntList list) {
+        if (list != null) {
+            lists.add(list);
+        }
+    }
+
+    private static void post(Map<String, IntList> index, String key, int docNo) {
+        if (!key.isEmpty()) {
+            index.computeIfAbsent(key, k -> new IntList()).add(docNo);
+        }
+    }
+
+    private static void addTrigrams(String word, Set<String> out) {
+        for (int i = 0; i + 3 <= word.length(); i++) {
+            out.add(word.substring(i, i + 3));
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isDigits(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (!Character.isDigit(word.charAt(i))) {
+                return false;
+            }
+        }
+        return !word.isEmpty();
+    }
+
+    private static class QueryWord {
+        final String text;
+        final boolean digits;
+        final int appId; // -1 unless the word could be an application ID
+        final String phoneticKey;
+
+        QueryWord(String text) {
+            this.text = text;
+            this.digits = isDigits(text);
+            this.appId = digits && text.length() <= 9 ? Integer.parseInt(text) : -1;
+            this.phoneticKey = digits ? "" : IndianPhonetic.encode(text);
+        }
+    }
+
+    private static class Doc {
+        final ApplicationSummary summary;
+        final String name;    // lower case
+        final String mobile;
+        final String address; // lower case
+        final String[] nameKeys;
+
+        Doc(ApplicationSummary summary, String address) {
+            this(summary, summary.getName().toLowerCase(Locale.ROOT), address == null ? "" : address.toLowerCase(Locale.ROOT), null);
+        }
+
+        private Doc(ApplicationSummary summary, String name, String address, String[] nameKeys) {
+            this.summary = summary;
+            this.name = name;
+            this.mobile = summary.getMobileNo();
+            this.address = address;
+            this.nameKeys = nameKeys != null ? nameKeys : tokenize(name).stream().map(IndianPhonetic::encode).distinct().toArray(String[]::new);
+        }
+
+        Doc withSummary(ApplicationSummary updated) {
+            return new Doc(updated, name, address, nameKeys);
+        }
+    }
+
+    private static class Hit {
+        final int docNo;
+        final Doc doc;
+        final int score;
+
+        Hit(int docNo, Doc doc, int score) {
+            this.docNo = docNo;
+            this.doc = doc;
+            this.score = score;
+        }
+    }
+
+    /**
+     * Merges ascending posting lists into one descending stream of distinct document numbers.
+     */
+    private static class NewestFirst {
+        private final IntList[] lists;
+        private final int[] positions;
+        private final PriorityQueue<Integer> heads; // list indexes, highest head value first
+        private int last = -1;
+
+        NewestFirst(List<IntList> postings) {
+            this.lists = postings.toArray(new IntList[0]);
+            this.positions = new int[lists.length];
+            this.heads = new PriorityQueue<>(Math.max(1, lists.length),
+                (a, b) -> Integer.compare(lists[b].values[positions[b]], lists[a].values[positions[a]]));
+            for (int i = 0; i < lists.length; i++) {
+                positions[i] = lists[i].size - 1;
+                if (positions[i] >= 0) {
+                    heads.add(i);
+                }
+            }
+        }
+
+        // Next document number, or -1 when the lists are exhausted
+        int next() {
+            while (!heads.isEmpty()) {
+                int list = heads.poll();
+                int docNo = lists[list].values[positions[list]--];
+                if (positions[list] >= 0) {
+                    heads.add(list);
+                }
+                if (docNo != last) {
+                    last = docNo;
+                    return docNo;
+                }
+            }
+            return -1;
+        }
+    }
+
+    // Append-only posting list; a boxed set per key would cost several times the memory
+    private static class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
+
+/**
+ * Phonetic key for names romanised from Indian languages. Spellings of the same name differ
+ * mostly in aspiration (Bh/B, Th/T), sibilants (Sh/S), vowel length and choice
+ * (Deepak/Dipak, Choudhury/Chaudhari), V/W and X/KS; the key keeps the first letter and the
+ * consonant skeleton with those differences folded away.
+ */
+class IndianPhonetic {
+    private static final String[][] FOLDS = {
+        {"chh", "c"}, {"ch", "c"}, {"sh", "s"}, {"ph", "f"}, {"bh", "b"}, {"dh", "d"}, {"th", "t"},
+        {"kh", "k"}, {"gh", "g"}, {"jh", "j"}, {"ck", "k"}, {"x", "ks"}, {"q", "k"}, {"z", "j"}, {"w", "v"}
+    };
+
+    static String encode(String word) {
+        String w = word.toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+        if (w.isEmpty()) {
+            return "";
+        }
+        for (String[] fold : FOLDS) {
+            w = w.replace(fold[0], fold[1]);
+        }
+
+        StringBuilder key = new StringBuilder();
+        char first = w.charAt(0);
+        key.append(isVowel(first) ? 'a' : first); // Ishaan / Eshan
+        char previous = key.charAt(0);
+        for (int i = 1; i < w.length(); i++) {
+            char c = w.charAt(i);
+            if (isVowel(c)) {
+                previous = 0; // a vowel separates repeated consonants
+            } else if (c != 'h' && c != previous) { // leftover h is aspiration: Singh / Sing
+                key.append(c);
+                previous = c;
+            }
+        }
+        return key.toString();
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u' || c == 'y';
+    }
+}
@@ -0,0 +1,190 @@
+import javax.swing.SwingUtilities;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Non-blocking facade over an ApplicationDAO for use from Swing code.
+ *
+ * Every call runs off the Event Dispatch Thread and returns a CompletableFuture that fails
+ * with a TimeoutException if the DAO does not answer within the call timeout. Cancelling
+ * the future (or timing out) interrupts the worker running the call. Results are handed
+ * back to Swing with {@link #onEdt}.
+ */
+class AsyncApplicationDAO {
+    private static final long DEFAULT_TIMEOUT_MILLIS = Long.getLong("lpg.dao.timeoutMs", 10_000L);
+    private static final ExecutorService executor = DaoExecutors.newTaskExecutor("lpg-dao");
+
+    private final ApplicationDAO dao;
+    private final long timeoutMillis;
+
+    public AsyncApplicationDAO(ApplicationDAO dao) {
+        this(dao, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    public AsyncApplicationDAO(ApplicationDAO dao, long timeoutMillis) {
+        this.dao = dao;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public AsyncApplicationDAO withTimeout(long timeoutMillis) {
+        return new AsyncApplicationDAO(dao, timeoutMillis);
+    }
+
+    /**
+     * Runs any DAO operation asynchronously; the typed methods below are shorthands for this.
+     */
+    public <T> CompletableFuture<T> call(Function<ApplicationDAO, T> operation) {
+        return submit(() -> operation.apply(dao));
+    }
+
+    public CompletableFuture<Void> run(Consumer<ApplicationDAO> operation) {
+        return submit(() -> {
+            operation.accept(dao);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Optional<User>> validateUser(String username, String password) {
+        return call(d -> d.validateUser(username, password));
+    }
+
+    public CompletableFuture<Void> registerUser(User user) {
+        return run(d -> d.registerUser(user));
+    }
+
+    public CompletableFuture<List<User>> findAllUsers() {
+        return call(ApplicationDAO::findAllUsers);
+    }
+
+    public CompletableFuture<Void> saveApplication(Application app) {
+        return run(d -> d.saveApplication(app));
+    }
+
+    public CompletableFuture<SubmissionResult> submitApplication(Application app) {
+        return call(d -> d.submitApplication(app));
+    }
+
+    public CompletableFuture<Optional<Application>> findApplicationById(int id) {
+        return call(d -> d.findApplicationById(id));
+    }
+
+    public CompletableFuture<List<Application>> findApplicationsByUsername(String username) {
+        return call(d -> d.findApplicationsByUsername(username));
+    }
+
+    public CompletableFuture<Void> updateApplication(Application app) {
+        return run(d -> d.updateApplication(app));
+    }
+
+    public CompletableFuture<Void> deleteApplication(int id) {
+        return run(d -> d.deleteApplication(id));
+    }
+
+    public CompletableFuture<Integer> updateApplicationStatuses(List<Integer> appIds, String status) {
+        return call(d -> d.updateApplicationStatuses(appIds, status));
+    }
+
+    public CompletableFuture<Page<ApplicationSummary>> findApplicationSummaries(String status, PageCursor after, int pageSize) {
+        return call(d -> d.findApplicationSummaries(status, after, pageSize));
+    }
+
+    public CompletableFuture<Page<ApplicationSummary>> findApplicationSummariesByUsername(String username, PageCursor after, int pageSize) {
+        return call(d -> d.findApplicationSummariesByUsername(username, after, pageSize));
+    }
+
+    public CompletableFuture<List<ApplicationSummary>> searchApplications(String query, int limit) {
+        return call(d -> d.searchApplications(query, limit));
+    }
+
+    public CompletableFuture<ApplicationStats> getApplicationStats() {
+        return call(ApplicationDAO::getApplicationStats);
+    }
+
+    public CompletableFuture<Map<String, Long>> countApplicationsByStatus() {
+        return call(ApplicationDAO::countApplicationsByStatus);
+    }
+
+    private <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running = executor.submit(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        // Timeout and cancel both complete the future exceptionally; stop the worker too
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                running.cancel(true);
+            }
+        });
+        return result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Delivers the outcome of a future on the Event Dispatch Thread, SwingWorker style:
+     * exactly one of the callbacks runs. Cancelled futures invoke neither.
+     */
+    public static <T> void onEdt(CompletableFuture<T> future, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        future.whenComplete((value, error) -> SwingUtilities.invokeLater(() -> {
+            if (error == null) {
+                onSuccess.accept(value);
+                return;
+            }
+            Throwable cause = unwrap(error);
+            if (!(cause instanceof CancellationException)) {
+                onError.accept(cause);
+            }
+        }));
+    }
+
+    public static Throwable unwrap(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    // Message suitable for an error dialog
+    public static String describe(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof TimeoutException) {
+            return "The database did not respond in time. Please try again.";
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+}
+
+/**
+ * Executors for blocking DAO work. Uses one virtual thread per task when the running JVM
+ * supports them (Java 21+), and otherwise an unbounded pool of daemon platform threads.
+ */
+class DaoExecutors {
+    static ExecutorService newTaskExecutor(String namePrefix) {
+        try {
+            // Looked up reflectively so the sources still compile and run on Java 17
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, namePrefix + "-" + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+}
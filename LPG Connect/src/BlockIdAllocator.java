@@ -0,0 +1,76 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Lock-free hi/lo ID allocator.
+ *
+ * IDs are handed out from a block of consecutive values reserved from a shared "high" source;
+ * only when a block runs out is the source consulted again. Inside a block an ID costs one
+ * atomic increment. IDs are unique but not necessarily gap-free: if two threads race to
+ * replace an exhausted block, the losing thread's block is simply abandoned.
+ */
+class BlockIdAllocator {
+    private final IntUnaryOperator reserveBlock; // block size -> first ID of a reserved range
+    private final int blockSize;
+    private final AtomicReference<Block> current;
+
+    public BlockIdAllocator(IntUnaryOperator reserveBlock, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.reserveBlock = reserveBlock;
+        this.blockSize = blockSize;
+        this.current = new AtomicReference<>(new Block(0, 0));
+    }
+
+    /**
+     * Abandons the rest of the current block, so the next ID comes from a freshly reserved
+     * one. Used after the high source has been moved forward, e.g. by recovery.
+     */
+    public void discardBlock() {
+        current.set(new Block(0, 0));
+    }
+
+    public int next() {
+        return reserve(1);
+    }
+
+    /**
+     * Reserves count consecutive IDs and returns the first. Bulk paths use this to number a
+     * whole chunk with one atomic operation.
+     */
+    public int reserve(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive");
+        }
+        if (count > blockSize) {
+            return reserveBlock.applyAsInt(count);
+        }
+        while (true) {
+            Block block = current.get();
+            int first = block.next.getAndAdd(count);
+            if (first + count <= block.limit) {
+                return first;
+            }
+            Block fresh = new Block(reserveBlock.applyAsInt(blockSize), blockSize);
+            if (current.compareAndSet(block, fresh)) {
+                // Claim our range from the block we just installed, retrying if it is already taken
+                first = fresh.next.getAndAdd(count);
+                if (first + count <= fresh.limit) {
+                    return first;
+                }
+            }
+        }
+    }
+
+    private static class Block {
+        final AtomicInteger next;
+        final int limit; // exclusive
+
+        Block(int first, int size) {
+            this.next = new AtomicInteger(first);
+            this.limit = first + size;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for the lookups screens repeat most: application by ID and the first
+ * page of a user's application history (what View My Applications opens with; later pages
+ * are read through). Both caches are bounded by entry count (least recently used is
+ * evicted first) and by age.
+ *
+ * Writes go straight to the wrapped DAO and then drop exactly the entries they affect:
+ * the written application's ID and its applicant's history. Cached objects are copied on
+ * the way in and out, so a caller mutating a returned Application cannot corrupt the cache.
+ */
+class CachingApplicationDAO extends ForwardingApplicationDAO {
+    private final BoundedCache<Integer, Application> byId;
+    private final BoundedCache<String, HistoryPage> byUser;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CachingApplicationDAO(ApplicationDAO delegate, int maxEntries, long ttlMillis) {
+        super(delegate);
+        this.byId = new BoundedCache<>(maxEntries, ttlMillis);
+        this.byUser = new BoundedCache<>(maxEntries, ttlMillis);
+    }
+
+    @Override
+    public Optional<Application> findApplicationById(int id) {
+        Application cached = byId.get(id);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return Optional.of(cached.copy());
+        }
+        misses.incrementAndGet();
+        Optional<Application> loaded = byId.load(id, () -> delegate.findApplicationById(id).orElse(null));
+        return loaded.map(Application::copy);
+    }
+
+    @Override
+    public Page<ApplicationSummary> findApplicationSummariesByUsername(String username, PageCursor after, int pageSize) {
+        if (after != null) {
+            return delegate.findApplicationSummariesByUsername(username, after, pageSize);
+        }
+        HistoryPage cached = byUser.get(username);
+        if (cached != null && cached.pageSize == pageSize) {
+            hits.incrementAndGet();
+            return cached.copy();
+        }
+        misses.incrementAndGet();
+        Optional<HistoryPage> loaded = byUser.load(username,
+            () -> new HistoryPage(pageSize, delegate.findApplicationSummariesByUsername(username, null, pageSize)));
+        return loaded.map(HistoryPage::copy).orElseGet(() -> new Page<>(new ArrayList<>(), null));
+    }
+
+    @Override
+    public void saveApplication(Application app) {
+        delegate.saveApplication(app);
+        invalidate(app.getAppId(), app.getApplicantUsername());
+    }
+
+    @Override
+    public SubmissionResult submitApplication(Application app) {
+        SubmissionResult result = delegate.submitApplication(app);
+        if (result.isCreated()) {
+            invalidate(app.getAppId(), app.getApplicantUsername());
+        }
+        return result;
+    }
+
+    @Override
+    public int saveApplications(List<Application> apps) {
+        int saved = delegate.saveApplications(apps);
+        for (Application app : apps) {
+            invalidate(app.getAppId(), app.getApplicantUsername());
+        }
+        return saved;
+    }
+
+    @Override
+    public void updateApplication(Application app) {
+        delegate.updateApplication(app);
+        invalidate(app.getAppId(), app.getApplicantUsername());
+    }
+
+    @Override
+    public int updateApplicationStatuses(List<Integer> appIds, String status) {
+        int updated = delegate.updateApplicationStatuses(appIds, status);
+        Set<Integer> changed = new HashSet<>(appIds);
+        for (int appId : appIds) {
+            if (byId.invalidate(appId)) {
+                invalidations.incrementAndGet();
+            }
+        }
+        invalidations.addAndGet(byUser.invalidateIf(history -> history.contains(changed::contains)));
+        return updated;
+    }
+
+    @Override
+    public void deleteApplication(int id) {
+        delegate.deleteApplication(id);
+        Application cached = byId.get(id);
+        if (cached != null) {
+            invalidate(id, cached.getApplicantUsername());
+        } else {
+            // Applicant unknown: drop only the histories that contain this application
+            byId.invalidate(id);
+            invalidations.addAndGet(byUser.invalidateIf(history -> history.contains(appId -> appId == id)));
+        }
+    }
+
+    public CacheStats getCacheStats() {
+        return new CacheStats(hits.get(), misses.get(), evictions.get(), invalidations.get(), byId.size() + byUser.size());
+    }
+
+    private void invalidate(int appId, String username) {
+        if (byId.invalidate(appId)) {
+            invalidations.incrementAndGet();
+        }
+        if (byUser.invalidate(username)) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    // Summaries are immutable, so a copy of the item list is enough
+    private static class HistoryPage {
+        private final int pageSize;
+        private final Page<ApplicationSummary> page;
+
+        HistoryPage(int pageSize, Page<ApplicationSummary> page) {
+            this.pageSize = pageSize;
+            this.page = new Page<>(new ArrayList<>(page.getItems()), page.getNextCursor());
+        }
+
+        Page<ApplicationSummary> copy() {
+            return new Page<>(new ArrayList<>(page.getItems()), page.getNextCursor());
+        }
+
+        boolean contains(IntPredicate appIds) {
+            return page.getItems().stream().anyMatch(summary -> appIds.test(summary.getAppId()));
+        }
+    }
+
+    /**
+     * LRU map with per-entry expiry. A version counter guards read-through loads: if any
+     * invalidation happens while a value is being loaded, the (possibly stale) result is
+     * returned to the caller but not cached.
+     */
+    private class BoundedCache<K, V> {
+        private final long ttlMillis;
+        private final LinkedHashMap<K, Entry<V>> entries;
+        private long version;
+
+        BoundedCache(int maxEntries, long ttlMillis) {
+            this.ttlMillis = ttlMillis;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > maxEntries) {
+                        evictions.incrementAndGet();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized V get(K key) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() > entry.expiresAt) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                return null;
+            }
+            return entry.value;
+        }
+
+        Optional<V> load(K key, Supplier<V> loader) {
+            long versionAtStart;
+            synchronized (this) {
+                versionAtStart = version;
+            }
+            V value = loader.get();
+            if (value != null) {
+                synchronized (this) {
+                    if (version == versionAtStart) {
+                        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+                    }
+                }
+            }
+            return Optional.ofNullable(value);
+        }
+
+        synchronized boolean invalidate(K key) {
+            version++;
+            return entries.remove(key) != null;
+        }
+
+        synchronized int invalidateIf(Predicate<V> predicate) {
+            version++;
+            int removed = 0;
+            Iterator<Entry<V>> it = entries.values().iterator();
+            while (it.hasNext()) {
+                if (predicate.test(it.next().value)) {
+                    it.remove();
+                    removed++;
+                }
+            }
+            return removed;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private static class Entry<V> {
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
+
+class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long invalidations;
+    private final int size;
+
+    public CacheStats(long hits, long misses, long evictions, long invalidations, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+        this.size = size;
+    }
+
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getEvictions() { return evictions; } // size-bound and expired entries
+    public long getInvalidations() { return invalidations; }
+    public int getSize() { return size; }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total > 0 ? (double) hits / total * 100 : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("cache[hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d, invalidations=%d, size=%d]",
+            hits, misses, getHitRate(), evictions, invalidations, size);
+    }
+}
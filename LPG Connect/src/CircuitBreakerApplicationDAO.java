@@ -0,0 +1,158 @@
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Fails calls fast while the database is known to be down, instead of letting every call
+ * wait out a connect attempt of its own.
+ *
+ * DAOFactory puts one of these directly around the MySQL store, below the cache, search
+ * index and statistics layers, so cached reads and counters keep answering during an outage
+ * while reads that need the database and every write are rejected with a
+ * DatabaseUnavailableException (shown by the screens like any other DAO error). The breaker
+ * is opened by connection failures and closed again by DatabaseHealthMonitor.
+ */
+class CircuitBreakerApplicationDAO extends ForwardingApplicationDAO {
+    private final CircuitBreaker breaker;
+
+    public CircuitBreakerApplicationDAO(ApplicationDAO delegate, CircuitBreaker breaker) {
+        super(delegate);
+        this.breaker = breaker;
+    }
+
+    public CircuitBreaker getBreaker() { return breaker; }
+
+    @Override public Optional<User> validateUser(String username, String password) { check(); return delegate.validateUser(username, password); }
+    @Override public void registerUser(User user) { check(); delegate.registerUser(user); }
+    @Override public List<User> findAllUsers() { check(); return delegate.findAllUsers(); }
+    @Override public void saveApplication(Application app) { check(); delegate.saveApplication(app); }
+    @Override public SubmissionResult submitApplication(Application app) { check(); return delegate.submitApplication(app); }
+    @Override public List<Application> findAllApplications() { check(); return delegate.findAllApplications(); }
+    @Override public Optional<Application> findApplicationById(int id) { check(); return delegate.findApplicationById(id); }
+    @Override public List<Application> findApplicationsByUsername(String username) { check(); return delegate.findApplicationsByUsername(username); }
+    @Override public void updateApplication(Application app) { check(); delegate.updateApplication(app); }
+    @Override public void deleteApplication(int id) { check(); delegate.deleteApplication(id); }
+    @Override public int updateApplicationStatuses(List<Integer> appIds, String status) { check(); return delegate.updateApplicationStatuses(appIds, status); }
+    @Override public int saveApplications(List<Application> apps) { check(); return delegate.saveApplications(apps); }
+    @Override public Page<Application> findApplicationsPage(String status, PageCursor after, int pageSize) { check(); return delegate.findApplicationsPage(status, after, pageSize); }
+    @Override public Page<Application> findApplicationsByUsernamePage(String username, PageCursor after, int pageSize) { check(); return delegate.findApplicationsByUsernamePage(username, after, pageSize); }
+    @Override public Page<ApplicationSummary> findApplicationSummaries(String status, PageCursor after, int pageSize) { check(); return delegate.findApplicationSummaries(status, after, pageSize); }
+    @Override public Page<ApplicationSummary> findApplicationSummariesByUsername(String username, PageCursor after, int pageSize) { check(); return delegate.findApplicationSummariesByUsername(username, after, pageSize); }
+    @Override public List<ApplicationSummary> searchApplications(String query, int limit) { check(); return delegate.searchApplications(query, limit); }
+    @Override public long forEachApplication(String status, Consumer<Application> action) { check(); return delegate.forEachApplication(status, action); }
+    @Override public long countUsers() { check(); return delegate.countUsers(); }
+    @Override public Map<String, Long> countApplicationsByStatus() { check(); return delegate.countApplicationsByStatus(); }
+    @Override public Map<String, Long> countApplicationsByUser() { check(); return delegate.countApplicationsByUser(); }
+    @Override public ApplicationStats getApplicationStats() { check(); return delegate.getApplicationStats(); }
+
+    private void check() {
+        if (!breaker.allowRequest()) {
+            throw new DatabaseUnavailableException();
+        }
+    }
+}
+
+/**
+ * Thrown instead of calling the database while its circuit breaker is open.
+ */
+class DatabaseUnavailableException extends RuntimeException {
+    public DatabaseUnavailableException() {
+        super("The database is currently unavailable. Please try again in a moment.");
+    }
+}
+
+/**
+ * CLOSED lets calls through and counts consecutive connection failures; reaching the
+ * threshold OPENs it. While OPEN every call is rejected. A health probe moves it to
+ * HALF_OPEN while it is the single trial connection: success closes the breaker, failure
+ * opens it again. Any successful connect resets the failure count.
+ */
+class CircuitBreaker {
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private volatile State state = State.CLOSED;
+    private volatile long stateSinceMillis = System.currentTimeMillis();
+    private long openedAtMillis; // guarded by this
+    private volatile String lastFailure;
+    private int consecutiveFailures; // guarded by this
+    private final AtomicLong rejectedCalls = new AtomicLong();
+    private final AtomicLong timesOpened = new AtomicLong();
+
+    public CircuitBreaker(String name, int failureThreshold) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+    }
+
+    public boolean allowRequest() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        rejectedCalls.incrementAndGet();
+        return false;
+    }
+
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            System.out.printf("%s is reachable again after %d s; circuit closed%n",
+                name, (System.currentTimeMillis() - openedAtMillis) / 1000);
+            moveTo(State.CLOSED);
+        }
+    }
+
+    public synchronized void recordFailure(String reason) {
+        lastFailure = reason;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            if (state == State.CLOSED) {
+                openedAtMillis = System.currentTimeMillis();
+                timesOpened.incrementAndGet();
+                System.err.println(name + " unavailable after " + consecutiveFailures
+                    + " connection failures, failing calls fast until it answers again: " + reason);
+            }
+            moveTo(State.OPEN);
+        }
+    }
+
+    // Opens at once rather than after failureThreshold failures, e.g. for a database that did
+    // not answer at startup; the caller reports why
+    public synchronized void open(String reason) {
+        lastFailure = reason;
+        if (state == State.CLOSED) {
+            openedAtMillis = System.currentTimeMillis();
+            timesOpened.incrementAndGet();
+        }
+        moveTo(State.OPEN);
+    }
+
+    // Claims the trial connection; returns false unless the breaker was OPEN
+    public synchronized boolean tryHalfOpen() {
+        if (state != State.OPEN) {
+            return false;
+        }
+        moveTo(State.HALF_OPEN);
+        return true;
+    }
+
+    // Back to OPEN, without counting a failure, after a trial that could not be made
+    public synchronized void abandonTrial() {
+        if (state == State.HALF_OPEN) {
+            moveTo(State.OPEN);
+        }
+    }
+
+    private void moveTo(State next) {
+        state = next;
+        stateSinceMillis = System.currentTimeMillis();
+    }
+
+    public State getState() { return state; }
+    public long getStateSinceMillis() { return stateSinceMillis; }
+    public String getLastFailure() { return lastFailure; }
+    public long getRejectedCalls() { return rejectedCalls.get(); }
+    public long getTimesOpened() { return timesOpened.get(); }
+}
@@ -0,0 +1,409 @@
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded JDBC connection pool used by MySQLDAO.
+ * Connections are handed out as proxies: calling close() returns the physical connection
+ * to the pool instead of tearing down the TCP session, so existing try-with-resources code
+ * keeps working unchanged. Idle connections are validated on borrow, evicted after a period
+ * of inactivity and topped back up to the configured minimum by a background task.
+ */
+class ConnectionPool {
+    // Told whether connections (including pings) reach the database, e.g. a DatabaseHealthMonitor
+    interface HealthListener {
+        void connected();
+        void connectionFailed(SQLException e);
+    }
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+    private final int minIdle;
+    private final long borrowTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final long validationIdleMillis;
+
+    // Most recently returned connection sits at the head (LIFO keeps the hot set small)
+    private final BlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final ScheduledExecutorService housekeeper;
+
+    // Statistics
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong borrowTimeouts = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private volatile HealthListener healthListener;
+
+    public ConnectionPool(String url, String user, String password, int maxSize, int minIdle,
+                          long borrowTimeoutMillis, long idleTimeoutMillis, long validationIdleMillis) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.minIdle = Math.min(minIdle, maxSize);
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.validationIdleMillis = validationIdleMillis;
+        this.permits = new Semaphore(maxSize, true);
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "lpg-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1000, idleTimeoutMillis / 2);
+        housekeeper.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens connections up to the configured minimum so the first requests do not pay
+     * the connect cost. Runs from startup and from the housekeeper, one call at a time. Idle
+     * connections are capped at maxSize minus those leased, and each one is opened holding a
+     * permit like a borrow, so it stops early when every permit is taken.
+     */
+    public synchronized void warmUp() throws SQLException {
+        while (totalConnections.get() < minIdle && idle.size() < maxSize - activeConnections.get() && permits.tryAcquire()) {
+            try {
+                idle.offerLast(openPhysical());
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Borrows a connection, waiting up to the borrow timeout for one to become free.
+     */
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        long waited = System.nanoTime() - start;
+        totalWaitNanos.addAndGet(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        if (!acquired) {
+            borrowTimeouts.incrementAndGet();
+            throw new SQLException("Timed out after " + borrowTimeoutMillis + " ms waiting for a database connection");
+        }
+
+        try {
+            PooledConnection pooled = takeValidIdle();
+            if (pooled == null) {
+                pooled = openPhysical();
+            }
+            borrowCount.incrementAndGet();
+            activeConnections.incrementAndGet();
+            return pooled.lease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks that the database answers, for health probes: validates an idle connection, or
+     * a newly opened one if there is none (or it has gone stale). Never waits for a permit:
+     * when every connection is leased it returns false at once, having learned nothing.
+     * Returns true once the database has answered.
+     */
+    public boolean ping(int timeoutSeconds) throws SQLException {
+        if (!permits.tryAcquire()) {
+            return false;
+        }
+        activeConnections.incrementAndGet();
+        PooledConnection pooled = idle.pollFirst();
+        try {
+            if (pooled != null && !isAlive(pooled.physical)) {
+                validationFailures.incrementAndGet();
+                closePhysical(pooled);
+                pooled = null;
+            }
+            if (pooled == null) {
+                pooled = openPhysical();
+            }
+            if (!pooled.physical.isValid(timeoutSeconds)) {
+                pooled.broken = true;
+                SQLException e = new SQLException("Database did not answer within " + timeoutSeconds + " s", "08S01");
+                connectionFailed(e);
+                throw e;
+            }
+            connected();
+            return true;
+        } finally {
+            if (pooled != null) {
+                release(pooled);
+            } else {
+                activeConnections.decrementAndGet();
+                permits.release();
+            }
+        }
+    }
+
+    public void setHealthListener(HealthListener healthListener) {
+        this.healthListener = healthListener;
+    }
+
+    public PoolStats getStats() {
+        long borrows = borrowCount.get();
+        return new PoolStats(
+            totalConnections.get(),
+            activeConnections.get(),
+            idle.size(),
+            permits.getQueueLength(),
+            maxSize,
+            borrows,
+            borrowTimeouts.get(),
+            borrows > 0 ? totalWaitNanos.get() / borrows / 1_000_000.0 : 0,
+            maxWaitNanos.get() / 1_000_000.0,
+            createdCount.get(),
+            evictedCount.get(),
+            validationFailures.get()
+        );
+    }
+
+    public void shutdown() {
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            closePhysical(pooled);
+        }
+    }
+
+    private PooledConnection takeValidIdle() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            long idleFor = System.currentTimeMillis() - pooled.lastReturned;
+            if (idleFor < validationIdleMillis || isAlive(pooled.physical)) {
+                return pooled;
+            }
+            validationFailures.incrementAndGet();
+            closePhysical(pooled);
+        }
+        return null;
+    }
+
+    private boolean isAlive(Connection conn) {
+        try {
+            return conn.isValid(2);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PooledConnection openPhysical() throws SQLException {
+        Connection conn;
+        try {
+            conn = DriverManager.getConnection(url, user, password);
+        } catch (SQLException e) {
+            connectionFailed(e);
+            throw e;
+        }
+        connected();
+        totalConnections.incrementAndGet();
+        createdCount.incrementAndGet();
+        return new PooledConnection(conn);
+    }
+
+    private void connected() {
+        HealthListener listener = healthListener;
+        if (listener != null) {
+            listener.connected();
+        }
+    }
+
+    private void connectionFailed(SQLException e) {
+        HealthListener listener = healthListener;
+        if (listener != null) {
+            listener.connectionFailed(e);
+        }
+    }
+
+    private void closePhysical(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    private void release(PooledConnection pooled) {
+        activeConnections.decrementAndGet();
+        try {
+            if (pooled.broken || pooled.physical.isClosed()) {
+                closePhysical(pooled);
+                return;
+            }
+            // Hand the connection back in a clean state for the next borrower
+            if (!pooled.physical.getAutoCommit()) {
+                pooled.physical.rollback();
+                pooled.physical.setAutoCommit(true);
+            }
+            pooled.lastReturned = System.currentTimeMillis();
+            idle.offerFirst(pooled);
+        } catch (SQLException e) {
+            closePhysical(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void evictIdle() {
+        try {
+            long now = System.currentTimeMillis();
+            Iterator<PooledConnection> oldestFirst = idle.descendingIterator();
+            while (oldestFirst.hasNext() && idle.size() > minIdle) {
+                PooledConnection pooled = oldestFirst.next();
+                if (now - pooled.lastReturned > idleTimeoutMillis && idle.remove(pooled)) {
+                    evictedCount.incrementAndGet();
+                    closePhysical(pooled);
+                }
+            }
+            warmUp();
+        } catch (SQLException e) {
+            System.err.println("Connection pool maintenance failed: " + e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("Unexpected error in connection pool maintenance: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A physical connection owned by the pool. Each borrow hands out a fresh proxy so a
+     * stale reference held after close() cannot reach a connection leased to someone else.
+     */
+    private class PooledConnection {
+        private final Connection physical;
+        private volatile long lastReturned = System.currentTimeMillis();
+        private volatile boolean broken;
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        Connection lease() {
+            AtomicBoolean closed = new AtomicBoolean(false);
+            InvocationHandler handler = (proxy, method, args) -> invoke(proxy, closed, method, args);
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+        }
+
+        private Object invoke(Object proxy, AtomicBoolean closed, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (closed.compareAndSet(false, true)) {
+                        release(this);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed.get() || physical.isClosed();
+                case "equals":
+                    return args[0] == proxy;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + physical + "]";
+                default:
+                    if (closed.get()) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+                    try {
+                        return method.invoke(physical, args);
+                    } catch (InvocationTargetException e) {
+                        Throwable cause = e.getCause();
+                        if (cause instanceof SQLException && isConnectionFailure((SQLException) cause)) {
+                            broken = true;
+                            connectionFailed((SQLException) cause);
+                        }
+                        throw cause;
+                    }
+            }
+        }
+
+        private boolean isConnectionFailure(SQLException e) {
+            String state = e.getSQLState();
+            return state != null && state.startsWith("08");
+        }
+    }
+}
+
+/**
+ * Point-in-time view of pool usage, intended for sizing the pool.
+ */
+class PoolStats {
+    private final int totalConnections;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int waitingThreads;
+    private final int maxSize;
+    private final long borrowCount;
+    private final long borrowTimeouts;
+    private final double averageWaitMillis;
+    private final double maxWaitMillis;
+    private final long createdCount;
+    private final long evictedCount;
+    private final long validationFailures;
+
+    public PoolStats(int totalConnections, int activeConnections, int idleConnections, int waitingThreads,
+                     int maxSize, long borrowCount, long borrowTimeouts, double averageWaitMillis,
+                     double maxWaitMillis, long createdCount, long evictedCount, long validationFailures) {
+        this.totalConnections = totalConnections;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.waitingThreads = waitingThreads;
+        this.maxSize = maxSize;
+        this.borrowCount = borrowCount;
+        this.borrowTimeouts = borrowTimeouts;
+        this.averageWaitMillis = averageWaitMillis;
+        this.maxWaitMillis = maxWaitMillis;
+        this.createdCount = createdCount;
+        this.evictedCount = evictedCount;
+        this.validationFailures = validationFailures;
+    }
+
+    public int getTotalConnections() { return totalConnections; }
+    public int getActiveConnections() { return activeConnections; }
+    public int getIdleConnections() { return idleConnections; }
+    public int getWaitingThreads() { return waitingThreads; }
+    public int getMaxSize() { return maxSize; }
+    public long getBorrowCount() { return borrowCount; }
+    public long getBorrowTimeouts() { return borrowTimeouts; }
+    public double getAverageWaitMillis() { return averageWaitMillis; }
+    public double getMaxWaitMillis() { return maxWaitMillis; }
+    public long getCreatedCount() { return createdCount; }
+    public long getEvictedCount() { return evictedCount; }
+    public long getValidationFailures() { return validationFailures; }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "pool[total=%d/%d, active=%d, idle=%d, waiting=%d, borrows=%d, timeouts=%d, avgWait=%.2fms, maxWait=%.2fms, created=%d, evicted=%d, validationFailures=%d]",
+            totalConnections, maxSize, activeConnections, idleConnections, waitingThreads, borrowCount,
+            borrowTimeouts, averageWaitMillis, maxWaitMillis, createdCount, evictedCount, validationFailures);
+    }
+}
@@ -0,0 +1,90 @@
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * The one ApplicationDAO every window of the desktop shares.
+ *
+ * {@link #shared()} returns at once: the backend (MySQL, the in-memory fallback or a remote
+ * service, as DAOFactory chooses) is opened on a background thread, so constructing a
+ * window never waits on the database. Calls made before it is ready wait for it on the
+ * AsyncApplicationDAO worker that made them. Once open, the MySQL store sits behind a
+ * circuit breaker watched by a DatabaseHealthMonitor (see {@link DAOFactory#getHealthMonitor}).
+ */
+class DAORegistry {
+    private static final CompletableFuture<ApplicationDAO> backend = new CompletableFuture<>();
+    private static final ApplicationDAO shared = new SharedApplicationDAO(backend);
+    private static boolean started;
+
+    private DAORegistry() {}
+
+    public static ApplicationDAO shared() {
+        start();
+        return shared;
+    }
+
+    // Starts opening the backend if nothing has yet; safe to call any number of times
+    public static synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        Thread opener = new Thread(() -> {
+            try {
+                backend.complete(DAOFactory.createDAO());
+                StartupTimings.storeReady(DAOFactory.getStoreName());
+            } catch (RuntimeException | Error e) {
+                System.err.println("Could not open the application store: " + e);
+                backend.completeExceptionally(e);
+            }
+        }, "lpg-dao-open");
+        opener.setDaemon(true);
+        opener.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(DAOFactory::shutdown, "lpg-dao-shutdown"));
+    }
+
+    // The decorator chain behind the shared DAO, or null while it is still being opened
+    public static ApplicationDAO getBackend() {
+        return backend.getNow(null);
+    }
+}
+
+/**
+ * Forwards every call to the backend once it has been opened.
+ */
+class SharedApplicationDAO implements ApplicationDAO {
+    private final CompletableFuture<ApplicationDAO> backend;
+
+    SharedApplicationDAO(CompletableFuture<ApplicationDAO> backend) {
+        this.backend = backend;
+    }
+
+    private ApplicationDAO backend() {
+        return backend.join();
+    }
+
+    @Override public Optional<User> validateUser(String username, String password) { return backend().validateUser(username, password); }
+    @Override public void registerUser(User user) { backend().registerUser(user); }
+    @Override public List<User> findAllUsers() { return backend().findAllUsers(); }
+    @Override public void saveApplication(Application app) { backend().saveApplication(app); }
+    @Override public SubmissionResult submitApplication(Application app) { return backend().submitApplication(app); }
+    @Override public List<Application> findAllApplications() { return backend().findAllApplications(); }
+    @Override public Optional<Application> findApplicationById(int id) { return backend().findApplicationById(id); }
+    @Override public List<Application> findApplicationsByUsername(String username) { return backend().findApplicationsByUsername(username); }
+    @Override public void updateApplication(Application app) { backend().updateApplication(app); }
+    @Override public void deleteApplication(int id) { backend().deleteApplication(id); }
+    @Override public int updateApplicationStatuses(List<Integer> appIds, String status) { return backend().updateApplicationStatuses(appIds, status); }
+    @Override public int saveApplications(List<Application> apps) { return backend().saveApplications(apps); }
+    @Override public Page<Application> findApplicationsPage(String status, PageCursor after, int pageSize) { return backend().findApplicationsPage(status, after, pageSize); }
+    @Override public Page<Application> findApplicationsByUsernamePage(String username, PageCursor after, int pageSize) { return backend().findApplicationsByUsernamePage(username, after, pageSize); }
+    @Override public Page<ApplicationSummary> findApplicationSummaries(String status, PageCursor after, int pageSize) { return backend().findApplicationSummaries(status, after, pageSize); }
+    @Override public Page<ApplicationSummary> findApplicationSummariesByUsername(String username, PageCursor after, int pageSize) { return backend().findApplicationSummariesByUsername(username, after, pageSize); }
+    @Override public List<ApplicationSummary> searchApplications(String query, int limit) { return backend().searchApplications(query, limit); }
+    @Override public long forEachApplication(String status, Consumer<Application> action) { return backend().forEachApplication(status, action); }
+    @Override public long countUsers() { return backend().countUsers(); }
+    @Override public Map<String, Long> countApplicationsByStatus() { return backend().countApplicationsByStatus(); }
+    @Override public Map<String, Long> countApplicationsByUser() { return backend().countApplicationsByUser(); }
+    @Override public ApplicationStats getApplicationStats() { return backend().getApplicationStats(); }
+}
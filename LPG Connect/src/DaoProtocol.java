@@ -0,0 +1,453 @@
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Minimal JSON reader and writer for the service protocol. Objects map to LinkedHashMap,
+ * arrays to ArrayList, numbers to Long (or Double when they have a fraction or exponent).
+ */
+class Json {
+    private final String text;
+    private int pos;
+
+    private Json(String text) {
+        this.text = text;
+    }
+
+    public static Object parse(String text) {
+        Json reader = new Json(text);
+        Object value = reader.readValue();
+        reader.skipWhitespace();
+        if (reader.pos != text.length()) {
+            throw reader.error("Unexpected trailing content");
+        }
+        return value;
+    }
+
+    public static String write(Object value) {
+        StringBuilder out = new StringBuilder();
+        write(value, out);
+        return out.toString();
+    }
+
+    private static void write(Object value, StringBuilder out) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof String) {
+            writeString((String) value, out);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else if (value instanceof Map) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                writeString(String.valueOf(entry.getKey()), out);
+                out.append(':');
+                write(entry.getValue(), out);
+            }
+            out.append('}');
+        } else if (value instanceof Iterable) {
+            out.append('[');
+            boolean first = true;
+            for (Object item : (Iterable<?>) value) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                write(item, out);
+            }
+            out.append(']');
+        } else {
+            writeString(value.toString(), out);
+        }
+    }
+
+    private static void writeString(String s, StringBuilder out) {
+        out.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"': out.append("\\\""); break;
+                case '\\': out.append("\\\\"); break;
+                case '\n': out.append("\\n"); break;
+                case '\r': out.append("\\r"); break;
+                case '\t': out.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+        if (pos >= text.length()) {
+            throw error("Unexpected end of input");
+        }
+        char c = text.charAt(pos);
+        switch (c) {
+            case '{': return readObject();
+            case '[': return readArray();
+            case '"': return readString();
+            case 't': return readLiteral("true", Boolean.TRUE);
+            case 'f': return readLiteral("false", Boolean.FALSE);
+            case 'n': return readLiteral("null", null);
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return readNumber();
+                }
+                throw error("Unexpected character '" + c + "'");
+        }
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        pos++; // {
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return map;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("Expected a field name");
+            }
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            map.put(key, readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+            } else {
+                expect('}');
+                return map;
+            }
+        }
+    }
+
+    private List<Object> readArray() {
+        List<Object> list = new ArrayList<>();
+        pos++; // [
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return list;
+        }
+        while (true) {
+            list.add(readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+            } else {
+                expect(']');
+                return list;
+            }
+        }
+    }
+
+    private String readString() {
+        pos++; // opening quote
+        StringBuilder out = new StringBuilder();
+        while (pos < text.length()) {
+            char c = text.charAt(pos++);
+            if (c == '"') {
+                return out.toString();
+            }
+            if (c != '\\') {
+                out.append(c);
+                continue;
+            }
+            if (pos >= text.length()) {
+                break;
+            }
+            char escaped = text.charAt(pos++);
+            switch (escaped) {
+                case 'n': out.append('\n'); break;
+                case 'r': out.append('\r'); break;
+                case 't': out.append('\t'); break;
+                case 'b': out.append('\b'); break;
+                case 'f': out.append('\f'); break;
+                case 'u':
+                    if (pos + 4 > text.length()) {
+                        throw error("Truncated unicode escape");
+                    }
+                    out.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                    pos += 4;
+                    break;
+                default: out.append(escaped); // \" \\ \/
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private Object readNumber() {
+        int start = pos;
+        boolean integral = true;
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c == '.' || c == 'e' || c == 'E') {
+                integral = false;
+            } else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9'))) {
+                break;
+            }
+            pos++;
+        }
+        String number = text.substring(start, pos);
+        try {
+            return integral ? (Object) Long.parseLong(number) : (Object) Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            throw error("Invalid number " + number);
+        }
+    }
+
+    private Object readLiteral(String literal, Object value) {
+        if (!text.startsWith(literal, pos)) {
+            throw error("Unexpected token");
+        }
+        pos += literal.length();
+        return value;
+    }
+
+    private void skipWhitespace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private char peek() {
+        return pos < text.length() ? text.charAt(pos) : '\0';
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw error("Expected '" + c + "'");
+        }
+        pos++;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos);
+    }
+}
+
+/**
+ * Wire format of the ApplicationDAO service: how each model object is written to and read
+ * back from the JSON maps that ApplicationDAOServer and RemoteApplicationDAO exchange.
+ * Timestamps travel as ISO-8601 local date-times.
+ */
+class DaoProtocol {
+    private DaoProtocol() {
+    }
+
+    public static Map<String, Object> user(User user) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("username", user.getUsername());
+        map.put("password", user.getPassword());
+        map.put("role", user.getRole());
+        return map;
+    }
+
+    public static User toUser(Object json) {
+        Map<String, Object> map = object(json);
+        String username = string(map, "username");
+        String password = string(map, "password");
+        String role = string(map, "role");
+        if ("ADMIN".equals(role)) {
+            return new AdminUser(username, password);
+        }
+        return "USER".equals(role) ? new RegularUser(username, password) : new User(username, password, role);
+    }
+
+    public static Map<String, Object> application(Application app) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("appId", app.getAppId());
+        map.put("applicantUsername", app.getApplicantUsername());
+        map.put("name", app.getName());
+        map.put("mobileNo", app.getMobileNo());
+        map.put("address", app.getAddress());
+        map.put("numConnections", app.getNumConnections());
+        map.put("status", app.getStatus());
+        map.put("createdAt", dateTime(app.getCreatedAt()));
+        return map;
+    }
+
+    public static Application toApplication(Object json) {
+        Map<String, Object> map = object(json);
+        return new Application(integer(map, "appId"), string(map, "applicantUsername"), string(map, "name"),
+            string(map, "mobileNo"), string(map, "address"), integer(map, "numConnections"),
+            string(map, "status"), toDateTime(map.get("createdAt")));
+    }
+
+    public static Map<String, Object> summary(ApplicationSummary summary) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("appId", summary.getAppId());
+        map.put("applicantUsername", summary.getApplicantUsername());
+        map.put("name", summary.getName());
+        map.put("mobileNo", summary.getMobileNo());
+        map.put("numConnections", summary.getNumConnections());
+        map.put("status", summary.getStatus());
+        map.put("createdAt", dateTime(summary.getCreatedAt()));
+        return map;
+    }
+
+    public static ApplicationSummary toSummary(Object json) {
+        Map<String, Object> map = object(json);
+        return new ApplicationSummary(integer(map, "appId"), string(map, "applicantUsername"), string(map, "name"),
+            string(map, "mobileNo"), integer(map, "numConnections"), string(map, "status"),
+            toDateTime(map.get("createdAt")));
+    }
+
+    public static Map<String, Object> cursor(PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("createdAt", dateTime(cursor.getCreatedAt()));
+        map.put("appId", cursor.getAppId());
+        return map;
+    }
+
+    public static PageCursor toCursor(Object json) {
+        if (json == null) {
+            return null;
+        }
+        Map<String, Object> map = object(json);
+        return new PageCursor(toDateTime(map.get("createdAt")), integer(map, "appId"));
+    }
+
+    public static <T> Map<String, Object> page(Page<T> page, Function<T, Object> item) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("items", list(page.getItems(), item));
+        map.put("nextCursor", cursor(page.getNextCursor()));
+        return map;
+    }
+
+    public static <T> Page<T> toPage(Object json, Function<Object, T> item) {
+        Map<String, Object> map = object(json);
+        return new Page<>(toList(map.get("items"), item), toCursor(map.get("nextCursor")));
+    }
+
+    public static Map<String, Object> stats(ApplicationStats stats) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("totalUsers", stats.getTotalUsers());
+        map.put("countsByStatus", stats.getCountsByStatus());
+        map.put("available", stats.isAvailable());
+        return map;
+    }
+
+    public static ApplicationStats toStats(Object json) {
+        Map<String, Object> map = object(json);
+        if (Boolean.FALSE.equals(map.get("available"))) {
+            return ApplicationStats.unavailable();
+        }
+        return new ApplicationStats(number(map, "totalUsers"), toCounts(map.get("countsByStatus")));
+    }
+
+    public static Map<String, Object> submission(SubmissionResult result, Application app) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("outcome", result.getOutcome().name());
+        map.put("appId", result.getAppId());
+        map.put("message", result.getMessage());
+        map.put("createdAt", dateTime(app.getCreatedAt()));
+        return map;
+    }
+
+    public static SubmissionResult toSubmission(Object json) {
+        Map<String, Object> map = object(json);
+        switch (SubmissionResult.Outcome.valueOf(string(map, "outcome"))) {
+            case CREATED: return SubmissionResult.created(integer(map, "appId"));
+            case BLOCKED: return SubmissionResult.blocked(integer(map, "appId"));
+            default: return SubmissionResult.failed(string(map, "message"));
+        }
+    }
+
+    public static Map<String, Object> event(ApplicationEvent event) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("type", event.getType().name());
+        map.put("oldStatus", event.getOldStatus());
+        map.put("summary", summary(event.getSummary()));
+        map.put("address", event.getAddress());
+        return map;
+    }
+
+    public static ApplicationEvent toEvent(Object json) {
+        Map<String, Object> map = object(json);
+        ApplicationSummary summary = toSummary(map.get("summary"));
+        switch (ApplicationEvent.Type.valueOf(string(map, "type"))) {
+            case CREATED: return ApplicationEvent.created(summary, string(map, "address"));
+            case STATUS_CHANGED: return ApplicationEvent.statusChanged(summary.withStatus(string(map, "oldStatus")), summary.getStatus());
+            case UPDATED: return ApplicationEvent.updated(summary.withStatus(string(map, "oldStatus")), summary, string(map, "address"));
+            case ARCHIVED: return ApplicationEvent.archived(summary);
+            default: return ApplicationEvent.deleted(summary);
+        }
+    }
+
+    public static Map<String, Long> toCounts(Object json) {
+        Map<String, Long> counts = new TreeMap<>();
+        object(json).forEach((key, count) -> counts.put(key, ((Number) count).longValue()));
+        return counts;
+    }
+
+    public static <T> List<Object> list(List<T> items, Function<T, Object> item) {
+        List<Object> out = new ArrayList<>(items.size());
+        for (T t : items) {
+            out.add(item.apply(t));
+        }
+        return out;
+    }
+
+    public static <T> List<T> toList(Object json, Function<Object, T> item) {
+        List<T> out = new ArrayList<>();
+        for (Object element : (List<?>) json) {
+            out.add(item.apply(element));
+        }
+        return out;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> object(Object json) {
+        if (!(json instanceof Map)) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return (Map<String, Object>) json;
+    }
+
+    public static String string(Map<String, Object> map, String field) {
+        Object value = map.get(field);
+        return value != null ? value.toString() : null;
+    }
+
+    public static int integer(Map<String, Object> map, String field) {
+        return (int) number(map, field);
+    }
+
+    public static long number(Map<String, Object> map, String field) {
+        Object value = map.get(field);
+        if (!(value instanceof Number)) {
+            throw new IllegalArgumentException("Missing numeric field " + field);
+        }
+        return ((Number) value).longValue();
+    }
+
+    public static String dateTime(LocalDateTime value) {
+        return value != null ? value.toString() : null;
+    }
+
+    public static LocalDateTime toDateTime(Object json) {
+        return json != null ? LocalDateTime.parse(json.toString()) : null;
+    }
+}
@@ -0,0 +1,110 @@
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a CircuitBreaker in step with the database. Connection failures seen by the pool
+ * count towards opening it, and a background probe pings the database on its own thread:
+ * every intervalMillis while healthy, and every openIntervalMillis while the breaker is
+ * open, where a successful ping closes it again. Screens never wait on a probe.
+ */
+class DatabaseHealthMonitor implements ConnectionPool.HealthListener {
+    // Throws if the database cannot be reached, returns false if it could not be tried (e.g.
+    // no connection was free); must give up within its own timeout
+    @FunctionalInterface
+    interface Probe {
+        boolean ping() throws SQLException;
+    }
+
+    private final Probe probe;
+    private final CircuitBreaker breaker;
+    private final long intervalMillis;
+    private final long openIntervalMillis;
+    private final AtomicLong probes = new AtomicLong();
+    private final AtomicLong failedProbes = new AtomicLong();
+    private volatile long lastProbeMillis = -1;
+    private volatile long lastProbeNanos;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "lpg-db-health");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public DatabaseHealthMonitor(Probe probe, CircuitBreaker breaker, long intervalMillis, long openIntervalMillis) {
+        this.probe = probe;
+        this.breaker = breaker;
+        this.intervalMillis = intervalMillis;
+        this.openIntervalMillis = openIntervalMillis;
+    }
+
+    public void start() {
+        long delay = breaker.getState() == CircuitBreaker.State.CLOSED ? intervalMillis : openIntervalMillis;
+        scheduler.schedule(this::probeAndReschedule, delay, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public void connected() {
+        breaker.recordSuccess();
+    }
+
+    @Override
+    public void connectionFailed(SQLException e) {
+        breaker.recordFailure(e.getMessage());
+    }
+
+    private void probeAndReschedule() {
+        try {
+            probeOnce();
+        } finally {
+            if (!scheduler.isShutdown()) {
+                long delay = breaker.getState() == CircuitBreaker.State.CLOSED ? intervalMillis : openIntervalMillis;
+                scheduler.schedule(this::probeAndReschedule, delay, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Pings the database once. While the breaker is open this is its trial connection; the
+     * pool reports the outcome, which closes or reopens it. A ping that could not be tried
+     * proves nothing either way: the breaker goes back to open and the next probe tries again.
+     * Returns true if the ping succeeded.
+     */
+    public boolean probeOnce() {
+        breaker.tryHalfOpen();
+        long start = System.nanoTime();
+        probes.incrementAndGet();
+        try {
+            if (probe.ping()) {
+                return true;
+            }
+            breaker.abandonTrial();
+            return false;
+        } catch (SQLException e) {
+            failedProbes.incrementAndGet();
+            if (breaker.getState() == CircuitBreaker.State.HALF_OPEN) {
+                breaker.recordFailure(e.getMessage()); // failed before the pool could report it to connectionFailed
+            }
+            return false;
+        } catch (RuntimeException e) {
+            failedProbes.incrementAndGet();
+            breaker.recordFailure(e.toString());
+            return false;
+        } finally {
+            lastProbeNanos = System.nanoTime() - start;
+            lastProbeMillis = System.currentTimeMillis();
+        }
+    }
+
+    public CircuitBreaker getBreaker() { return breaker; }
+    public long getProbeCount() { return probes.get(); }
+    public long getFailedProbeCount() { return failedProbes.get(); }
+    // Wall-clock time of the last probe, or -1 before the first
+    public long getLastProbeMillis() { return lastProbeMillis; }
+    public double getLastProbeLatencyMillis() { return lastProbeNanos / 1_000_000.0; }
+}
@@ -0,0 +1,162 @@
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Records call counts, error counts and a latency histogram for every ApplicationDAO method.
+ *
+ * DAOFactory puts one of these around the whole chain ("dao": what the screens wait for)
+ * and one directly around the store ("store": the database or in-memory maps), so the
+ * difference between the two is time spent in the cache, search index and statistics
+ * layers. Recording is a few lock-free counter updates per call.
+ *
+ * Thrown exceptions, FAILED submissions and failed streams count as errors. The stores log
+ * most other failures and return empty results, so those only show up as latency.
+ */
+class InstrumentedApplicationDAO extends ForwardingApplicationDAO {
+    private final String layer;
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+
+    public InstrumentedApplicationDAO(ApplicationDAO delegate, String layer) {
+        super(delegate);
+        this.layer = layer;
+    }
+
+    public String getLayer() { return layer; }
+
+    // Every instrumented layer in a decorator chain, outermost first
+    public static List<InstrumentedApplicationDAO> findAll(ApplicationDAO dao) {
+        List<InstrumentedApplicationDAO> found = new ArrayList<>();
+        for (ApplicationDAO layer = dao; layer instanceof ForwardingApplicationDAO; layer = ((ForwardingApplicationDAO) layer).getDelegate()) {
+            if (layer instanceof InstrumentedApplicationDAO) {
+                found.add((InstrumentedApplicationDAO) layer);
+            }
+        }
+        return found;
+    }
+
+    // Method name -> recorder for every method called so far
+    public Map<String, LatencyRecorder> getRecorders() {
+        return new LinkedHashMap<>(recorders);
+    }
+
+    public void reset() {
+        recorders.values().forEach(LatencyRecorder::reset);
+    }
+
+    @Override public Optional<User> validateUser(String username, String password) { return timed("validateUser", () -> delegate.validateUser(username, password)); }
+    @Override public void registerUser(User user) { timedRun("registerUser", () -> delegate.registerUser(user)); }
+    @Override public List<User> findAllUsers() { return timed("findAllUsers", delegate::findAllUsers); }
+    @Override public void saveApplication(Application app) { timedRun("saveApplication", () -> delegate.saveApplication(app)); }
+    @Override public List<Application> findAllApplications() { return timed("findAllApplications", delegate::findAllApplications); }
+    @Override public Optional<Application> findApplicationById(int id) { return timed("findApplicationById", () -> delegate.findApplicationById(id)); }
+    @Override public List<Application> findApplicationsByUsername(String username) { return timed("findApplicationsByUsername", () -> delegate.findApplicationsByUsername(username)); }
+    @Override public void updateApplication(Application app) { timedRun("updateApplication", () -> delegate.updateApplication(app)); }
+    @Override public void deleteApplication(int id) { timedRun("deleteApplication", () -> delegate.deleteApplication(id)); }
+    @Override public int updateApplicationStatuses(List<Integer> appIds, String status) { return timed("updateApplicationStatuses", () -> delegate.updateApplicationStatuses(appIds, status)); }
+    @Override public int saveApplications(List<Application> apps) { return timed("saveApplications", () -> delegate.saveApplications(apps)); }
+    @Override public Page<Application> findApplicationsPage(String status, PageCursor after, int pageSize) { return timed("findApplicationsPage", () -> delegate.findApplicationsPage(status, after, pageSize)); }
+    @Override public Page<Application> findApplicationsByUsernamePage(String username, PageCursor after, int pageSize) { return timed("findApplicationsByUsernamePage", () -> delegate.findApplicationsByUsernamePage(username, after, pageSize)); }
+    @Override public Page<ApplicationSummary> findApplicationSummaries(String status, PageCursor after, int pageSize) { return timed("findApplicationSummaries", () -> delegate.findApplicationSummaries(status, after, pageSize)); }
+    @Override public Page<ApplicationSummary> findApplicationSummariesByUsername(String username, PageCursor after, int pageSize) { return timed("findApplicationSummariesByUsername", () -> delegate.findApplicationSummariesByUsername(username, after, pageSize)); }
+    @Override public List<ApplicationSummary> searchApplications(String query, int limit) { return timed("searchApplications", () -> delegate.searchApplications(query, limit)); }
+    @Override public long countUsers() { return timed("countUsers", delegate::countUsers); }
+    @Override public Map<String, Long> countApplicationsByStatus() { return timed("countApplicationsByStatus", delegate::countApplicationsByStatus); }
+    @Override public Map<String, Long> countApplicationsByUser() { return timed("countApplicationsByUser", delegate::countApplicationsByUser); }
+    @Override public ApplicationStats getApplicationStats() { return timed("getApplicationStats", delegate::getApplicationStats); }
+
+    @Override
+    public SubmissionResult submitApplication(Application app) {
+        LatencyRecorder recorder = recorder("submitApplication");
+        long started = System.nanoTime();
+        SubmissionResult result = run(recorder, started, () -> delegate.submitApplication(app));
+        long elapsed = System.nanoTime() - started;
+        if (result == null || result.getOutcome() == SubmissionResult.Outcome.FAILED) {
+            recorder.recordError(elapsed);
+        } else {
+            recorder.record(elapsed);
+        }
+        return result;
+    }
+
+    @Override
+    public long forEachApplication(String status, Consumer<Application> action) {
+        // Includes the time the action takes, which is usually most of it (writing an export)
+        LatencyRecorder recorder = recorder("forEachApplication");
+        long started = System.nanoTime();
+        long count = run(recorder, started, () -> delegate.forEachApplication(status, action));
+        long elapsed = System.nanoTime() - started;
+        if (count < 0) {
+            recorder.recordError(elapsed);
+        } else {
+            recorder.record(elapsed);
+        }
+        return count;
+    }
+
+    private <T> T timed(String method, Supplier<T> call) {
+        LatencyRecorder recorder = recorder(method);
+        long started = System.nanoTime();
+        T result = run(recorder, started, call);
+        recorder.record(System.nanoTime() - started);
+        return result;
+    }
+
+    private void timedRun(String method, Runnable call) {
+        timed(method, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    // Runs the call, recording an error if it throws
+    private static <T> T run(LatencyRecorder recorder, long started, Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException | Error e) {
+            recorder.recordError(System.nanoTime() - started);
+            throw e;
+        }
+    }
+
+    private LatencyRecorder recorder(String method) {
+        LatencyRecorder recorder = recorders.get(method);
+        return recorder != null ? recorder : recorders.computeIfAbsent(method, m -> new LatencyRecorder());
+    }
+}
+
+/**
+ * Time spent on the Swing event dispatch thread by named UI steps, for the Diagnostics tab.
+ * Long EDT work is what makes a screen freeze, independent of how fast the DAO answered.
+ */
+class EdtTimings {
+    private static final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+
+    private EdtTimings() {}
+
+    public static LatencyRecorder recorder(String step) {
+        return recorders.computeIfAbsent(step, s -> new LatencyRecorder());
+    }
+
+    public static void time(String step, Runnable work) {
+        long started = System.nanoTime();
+        try {
+            work.run();
+        } finally {
+            recorder(step).record(System.nanoTime() - started);
+        }
+    }
+
+    public static Map<String, LatencyRecorder> getRecorders() {
+        return new LinkedHashMap<>(recorders);
+    }
+
+    public static void reset() {
+        recorders.values().forEach(LatencyRecorder::reset);
+    }
+}
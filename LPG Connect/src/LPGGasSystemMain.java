@@ -1,12 +1,51 @@
 import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.sql.*;
 import java.sql.Connection;
 import java.sql.DriverManager;
@@ -51,6 +90,12 @@ class Validator {
             throw new ValidationException(fieldName + " cannot be empty.");
         }
     }
+    
+    public static void validateStatus(String status) throws ValidationException {
+        if (ApplicationStatus.parse(status) == null) {
+            throw new ValidationException("Status must be PENDING, APPROVED or REJECTED.");
+        }
+    }
 }
 
 // --- MODEL LAYER (Mandatory Constraint: Inheritance is demonstrated by Admin/RegularUser) ---
@@ -82,18 +127,67 @@ class AdminUser extends User {
     }
 }
 
+/**
+ * Where an application stands. Most code passes the name around ("PENDING" and so on, which
+ * is also what the database stores); compact stores keep the one-byte code instead.
+ */
+enum ApplicationStatus {
+    PENDING(0), APPROVED(1), REJECTED(2);
+
+    private static final ApplicationStatus[] BY_CODE = {PENDING, APPROVED, REJECTED};
+
+    private final byte code;
+
+    ApplicationStatus(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte code() { return code; }
+
+    // An active application stops its applicant from submitting another
+    public boolean isActive() { return this != REJECTED; }
+
+    // A settled application is decided, so it may be moved to the archive once it is old enough
+    public boolean isSettled() { return this != PENDING; }
+
+    public static ApplicationStatus fromCode(byte code) {
+        return BY_CODE[code];
+    }
+
+    // null for anything that is not a status name, including null
+    public static ApplicationStatus parse(String name) {
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "PENDING": return PENDING;
+            case "APPROVED": return APPROVED;
+            case "REJECTED": return REJECTED;
+            default: return null;
+        }
+    }
+
+    public static ApplicationStatus of(String name) {
+        ApplicationStatus status = parse(name);
+        if (status == null) {
+            throw new IllegalArgumentException("Unknown application status: " + name);
+        }
+        return status;
+    }
+}
+
 class Application {
-    private static int nextId = 1001; 
-    private int appId;
+    private int appId; // 0 until the application has been stored
     private String applicantUsername; // Link to the user who submitted it
     private String name;
     private String mobileNo;
     private String address;
     private int numConnections;
     private String status; // PENDING, APPROVED, REJECTED
+    private LocalDateTime createdAt;
 
+    // New, unsaved application: the DAO assigns its ID when it is stored
     public Application(String applicantUsername, String name, String mobileNo, String address, int numConnections) {
-        this.appId = nextId++;
         this.applicantUsername = applicantUsername;
         this.name = name;
         this.mobileNo = mobileNo;
@@ -102,6 +196,35 @@ class Application {
         this.status = "PENDING";
     }
 
+    // Stored application rebuilt from a data source, with the ID it was saved under
+    public Application(int appId, String applicantUsername, String name, String mobileNo, String address,
+                       int numConnections, String status, LocalDateTime createdAt) {
+        this.appId = appId;
+        this.applicantUsername = applicantUsername;
+        this.name = name;
+        this.mobileNo = mobileNo;
+        this.address = address;
+        this.numConnections = numConnections;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    // Copy constructor: keeps the original ID
+    private Application(Application other) {
+        this.appId = other.appId;
+        this.applicantUsername = other.applicantUsername;
+        this.name = other.name;
+        this.mobileNo = other.mobileNo;
+        this.address = other.address;
+        this.numConnections = other.numConnections;
+        this.status = other.status;
+        this.createdAt = other.createdAt;
+    }
+
+    public Application copy() {
+        return new Application(this);
+    }
+
     // Getters and Setters...
     public int getAppId() { return appId; }
     public void setAppId(int appId) { this.appId = appId; }
@@ -112,9 +235,210 @@ class Application {
     public int getNumConnections() { return numConnections; }
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     // ...
 }
 
+/**
+ * Lightweight row for list views: everything the application tables display, without the
+ * address. The full Application is loaded only when a single record is opened.
+ */
+class ApplicationSummary {
+    private final int appId;
+    private final String applicantUsername;
+    private final String name;
+    private final String mobileNo;
+    private final int numConnections;
+    private final String status;
+    private final LocalDateTime createdAt;
+
+    public ApplicationSummary(int appId, String applicantUsername, String name, String mobileNo,
+                              int numConnections, String status, LocalDateTime createdAt) {
+        this.appId = appId;
+        this.applicantUsername = applicantUsername;
+        this.name = name;
+        this.mobileNo = mobileNo;
+        this.numConnections = numConnections;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public static ApplicationSummary of(Application app) {
+        return new ApplicationSummary(app.getAppId(), app.getApplicantUsername(), app.getName(),
+            app.getMobileNo(), app.getNumConnections(), app.getStatus(), app.getCreatedAt());
+    }
+
+    public ApplicationSummary withStatus(String newStatus) {
+        return new ApplicationSummary(appId, applicantUsername, name, mobileNo, numConnections, newStatus, createdAt);
+    }
+
+    public int getAppId() { return appId; }
+    public String getApplicantUsername() { return applicantUsername; }
+    public String getName() { return name; }
+    public String getMobileNo() { return mobileNo; }
+    public int getNumConnections() { return numConnections; }
+    public String getStatus() { return status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
+
+/**
+ * Keyset position in the newest-first application ordering (created_at DESC, app_id DESC).
+ * A page request returns the rows that sort strictly after the cursor.
+ */
+class PageCursor implements Comparable<PageCursor> {
+    private final LocalDateTime createdAt;
+    private final int appId;
+
+    public PageCursor(LocalDateTime createdAt, int appId) {
+        this.createdAt = createdAt;
+        this.appId = appId;
+    }
+
+    public static PageCursor of(Application app) {
+        return new PageCursor(app.getCreatedAt(), app.getAppId());
+    }
+
+    public static PageCursor of(ApplicationSummary summary) {
+        return new PageCursor(summary.getCreatedAt(), summary.getAppId());
+    }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public int getAppId() { return appId; }
+
+    // Natural order is the display order: newest first, ties broken by the higher ID
+    @Override
+    public int compareTo(PageCursor other) {
+        int cmp = other.createdAt.compareTo(createdAt);
+        return cmp != 0 ? cmp : Integer.compare(other.appId, appId);
+    }
+}
+
+class Page<T> {
+    private final List<T> items;
+    private final PageCursor nextCursor; // null when this is the last page
+
+    public Page(List<T> items, PageCursor nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+    public PageCursor getNextCursor() { return nextCursor; }
+    public boolean hasMore() { return nextCursor != null; }
+
+    public <R> Page<R> map(Function<T, R> mapper) {
+        return new Page<>(items.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+
+    /**
+     * Builds a page from a query that fetched up to pageSize + 1 rows; the extra row only
+     * signals that another page exists and is not returned.
+     */
+    public static <T> Page<T> fromLookahead(List<T> fetched, int pageSize, Function<T, PageCursor> cursorOf) {
+        if (fetched.size() <= pageSize) {
+            return new Page<>(fetched, null);
+        }
+        List<T> items = new ArrayList<>(fetched.subList(0, pageSize));
+        return new Page<>(items, cursorOf.apply(items.get(pageSize - 1)));
+    }
+
+    /**
+     * Feeds every item of a paged query to the action, holding one page at a time.
+     * Returns how many items were visited.
+     */
+    public static <T> long forEachItem(BiFunction<PageCursor, Integer, Page<T>> fetcher, int pageSize, Consumer<T> action) {
+        long count = 0;
+        PageCursor cursor = null;
+        do {
+            Page<T> page = fetcher.apply(cursor, pageSize);
+            for (T item : page.getItems()) {
+                action.accept(item);
+                count++;
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return count;
+    }
+}
+
+/**
+ * Dashboard figures computed by the store itself rather than by fetching every row.
+ */
+class ApplicationStats {
+    private final long totalUsers;
+    private final Map<String, Long> countsByStatus;
+    private final boolean available;
+
+    public ApplicationStats(long totalUsers, Map<String, Long> countsByStatus) {
+        this(totalUsers, countsByStatus, true);
+    }
+
+    private ApplicationStats(long totalUsers, Map<String, Long> countsByStatus, boolean available) {
+        this.totalUsers = totalUsers;
+        this.countsByStatus = countsByStatus;
+        this.available = available;
+    }
+
+    // All zeros, for a store that could not be read; displays as empty, but callers can tell
+    public static ApplicationStats unavailable() {
+        return new ApplicationStats(0, new TreeMap<>(), false);
+    }
+
+    public boolean isAvailable() { return available; }
+    public long getTotalUsers() { return totalUsers; }
+    public Map<String, Long> getCountsByStatus() { return countsByStatus; }
+    public long getCount(String status) { return countsByStatus.getOrDefault(status, 0L); }
+    public long getPendingCount() { return getCount("PENDING"); }
+    public long getApprovedCount() { return getCount("APPROVED"); }
+    public long getRejectedCount() { return getCount("REJECTED"); }
+
+    public long getTotalApplications() {
+        return countsByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    // Percentage of all applications that were approved
+    public double getApprovalRate() {
+        long total = getTotalApplications();
+        return total > 0 ? (double) getApprovedCount() / total * 100 : 0;
+    }
+}
+
+/**
+ * Outcome of submitting a new application under the one-active-application rule.
+ */
+class SubmissionResult {
+    enum Outcome { CREATED, BLOCKED, FAILED }
+
+    private final Outcome outcome;
+    private final int appId; // new ID when CREATED, the existing active ID when BLOCKED
+    private final String message;
+
+    private SubmissionResult(Outcome outcome, int appId, String message) {
+        this.outcome = outcome;
+        this.appId = appId;
+        this.message = message;
+    }
+
+    public static SubmissionResult created(int appId) {
+        return new SubmissionResult(Outcome.CREATED, appId, "Application submitted! ID: " + appId);
+    }
+
+    public static SubmissionResult blocked(int activeAppId) {
+        return new SubmissionResult(Outcome.BLOCKED, activeAppId,
+            "You currently have a PENDING or APPROVED application (ID: " + activeAppId + "). You cannot submit a new request until it is settled.");
+    }
+
+    public static SubmissionResult failed(String message) {
+        return new SubmissionResult(Outcome.FAILED, 0, message);
+    }
+
+    public Outcome getOutcome() { return outcome; }
+    public boolean isCreated() { return outcome == Outcome.CREATED; }
+    public int getAppId() { return appId; }
+    public String getMessage() { return message; }
+}
+
 // --- DAO LAYER (Mandatory Constraint: Interface) ---
 
 interface ApplicationDAO {
@@ -124,159 +448,1023 @@ interface ApplicationDAO {
     
     // CRUD Operations for Applications
     void saveApplication(Application app); // C
+    // C (User): inserts only if the applicant has no PENDING/APPROVED application, atomically
+    SubmissionResult submitApplication(Application app);
     List<Application> findAllApplications(); // R (Admin)
     Optional<Application> findApplicationById(int id); // R (Helper)
     // UPDATED: Returns a list of all applications by a user
     List<Application> findApplicationsByUsername(String username); // R (User - returns list)
     void updateApplication(Application app); // U
     void deleteApplication(int id); // D
+    // Bulk status change: all IDs in one transaction; returns how many rows changed
+    int updateApplicationStatuses(List<Integer> appIds, String status);
+    // Bulk create: inserts all rows as one unit and returns how many were stored (0 on failure)
+    int saveApplications(List<Application> apps);
+    
+    // Keyset pagination (newest first). Pass a null cursor for the first page.
+    Page<Application> findApplicationsPage(String status, PageCursor after, int pageSize); // status null = all
+    Page<Application> findApplicationsByUsernamePage(String username, PageCursor after, int pageSize);
+    // Same pages as summary rows (no address) for table views
+    Page<ApplicationSummary> findApplicationSummaries(String status, PageCursor after, int pageSize);
+    Page<ApplicationSummary> findApplicationSummariesByUsername(String username, PageCursor after, int pageSize);
+    // Free-text search over name, mobile number (trailing digits) and address; every word must match
+    List<ApplicationSummary> searchApplications(String query, int limit);
+    // Streams every application (status null = all), archived ones included, to the action
+    // without holding the whole result in memory: the hot store newest first, then the archive.
+    // Returns the number streamed, or -1 if the store failed.
+    long forEachApplication(String status, Consumer<Application> action);
+    
+    // Aggregates (Dashboard statistics)
+    long countUsers();
+    Map<String, Long> countApplicationsByStatus();
+    Map<String, Long> countApplicationsByUser(); // applicant username -> number of applications
+    ApplicationStats getApplicationStats(); // user count + status counts in one call
+}
+
+/**
+ * Base class for ApplicationDAO decorators: forwards every call to the wrapped DAO so a
+ * decorator only overrides the operations it changes.
+ */
+class ForwardingApplicationDAO implements ApplicationDAO {
+    protected final ApplicationDAO delegate;
+
+    public ForwardingApplicationDAO(ApplicationDAO delegate) {
+        this.delegate = delegate;
+    }
+
+    public ApplicationDAO getDelegate() { return delegate; }
+
+    @Override public Optional<User> validateUser(String username, String password) { return delegate.validateUser(username, password); }
+    @Override public void registerUser(User user) { delegate.registerUser(user); }
+    @Override public List<User> findAllUsers() { return delegate.findAllUsers(); }
+    @Override public void saveApplication(Application app) { delegate.saveApplication(app); }
+    @Override public SubmissionResult submitApplication(Application app) { return delegate.submitApplication(app); }
+    @Override public List<Application> findAllApplications() { return delegate.findAllApplications(); }
+    @Override public Optional<Application> findApplicationById(int id) { return delegate.findApplicationById(id); }
+    @Override public List<Application> findApplicationsByUsername(String username) { return delegate.findApplicationsByUsername(username); }
+    @Override public void updateApplication(Application app) { delegate.updateApplication(app); }
+    @Override public void deleteApplication(int id) { delegate.deleteApplication(id); }
+    @Override public int updateApplicationStatuses(List<Integer> appIds, String status) { return delegate.updateApplicationStatuses(appIds, status); }
+    @Override public int saveApplications(List<Application> apps) { return delegate.saveApplications(apps); }
+    @Override public Page<Application> findApplicationsPage(String status, PageCursor after, int pageSize) { return delegate.findApplicationsPage(status, after, pageSize); }
+    @Override public Page<Application> findApplicationsByUsernamePage(String username, PageCursor after, int pageSize) { return delegate.findApplicationsByUsernamePage(username, after, pageSize); }
+    @Override public Page<ApplicationSummary> findApplicationSummaries(String status, PageCursor after, int pageSize) { return delegate.findApplicationSummaries(status, after, pageSize); }
+    @Override public Page<ApplicationSummary> findApplicationSummariesByUsername(String username, PageCursor after, int pageSize) { return delegate.findApplicationSummariesByUsername(username, after, pageSize); }
+    @Override public List<ApplicationSummary> searchApplications(String query, int limit) { return delegate.searchApplications(query, limit); }
+    @Override public long forEachApplication(String status, Consumer<Application> action) { return delegate.forEachApplication(status, action); }
+    @Override public long countUsers() { return delegate.countUsers(); }
+    @Override public Map<String, Long> countApplicationsByStatus() { return delegate.countApplicationsByStatus(); }
+    @Override public Map<String, Long> countApplicationsByUser() { return delegate.countApplicationsByUser(); }
+    @Override public ApplicationStats getApplicationStats() { return delegate.getApplicationStats(); }
 }
 
 class InMemoryDAO implements ApplicationDAO {
-    private static final List<User> userList = new ArrayList<>();
-    private static final List<Application> applicationList = new ArrayList<>();
+    private static final Map<String, User> usersByName = new LinkedHashMap<>();
+    // Applications as primitive columns, with their display-order, status and applicant indexes
+    private static final ApplicationColumns applications = new ApplicationColumns(InMemoryDAO::canonicalUsername);
+    private static final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final AtomicInteger highWater = new AtomicInteger(1001); // first ID never reserved
+    private static final BlockIdAllocator ids = new BlockIdAllocator(size -> highWater.getAndAdd(size), 64);
+    private static final int STREAM_PAGE_SIZE = 1000;
+    // Published while the write lock is held, so listeners see changes in commit order
+    private static final ApplicationEventBus events = ApplicationEventBus.shared();
+    // Set by enableJournal; every change is then logged under the write lock and made durable after it
+    private static volatile ApplicationJournal journal;
+    // Compressed files in the journal directory holding settled applications moved out of the columns
+    private static volatile ApplicationArchive archive;
+    // Held on the journal directory's lock file while this process uses it; released at exit
+    private static FileLock directoryLock;
 
     static {
+        loadDefaults();
+    }
+
+    // Callers must hold the write lock (or be the static initializer)
+    private static void loadDefaults() {
+        usersByName.clear();
+        applications.clear();
+
         // Default Admin and User Accounts
-        userList.add(new AdminUser("admin", "admin123")); 
-        userList.add(new RegularUser("user1", "user123"));
+        usersByName.put("admin", new AdminUser("admin", "admin123")); 
+        usersByName.put("user1", new RegularUser("user1", "user123"));
         
         // Initial test application data
-        applicationList.add(new Application("user1", "Priya Sharma", "9876543210", "123, Main St.", 2));
+        Application sample = new Application("user1", "Priya Sharma", "9876543210", "123, Main St.", 2);
+        index(sample);
+    }
+    
+    // Callers must hold the write lock (or be the static initializer)
+    private static void index(Application app) {
+        if (app.getAppId() == 0) {
+            int id;
+            do {
+                id = ids.next();
+            } while (applications.rowOf(id) != ApplicationColumns.NO_ROW); // saved earlier under an explicit ID
+            app.setAppId(id);
+        } else {
+            highWater.accumulateAndGet(app.getAppId() + 1, Math::max); // like AUTO_INCREMENT, never hand it out later
+        }
+        if (app.getCreatedAt() == null) {
+            app.setCreatedAt(LocalDateTime.now());
+        }
+        applications.insert(app);
+    }
+    
+    // The account's own copy of the name, so applications do not each keep one
+    private static String canonicalUsername(String username) {
+        User user = usersByName.get(username);
+        return user != null ? user.getUsername() : username;
+    }
+
+    // Removes the stored row and returns it as it was, or null if there is none
+    private static ApplicationSummary unindex(int appId) {
+        int row = applications.rowOf(appId);
+        if (row == ApplicationColumns.NO_ROW) {
+            return null;
+        }
+        ApplicationSummary removed = applications.summary(row);
+        applications.remove(row);
+        return removed;
+    }
+
+    /**
+     * Makes the store durable: recovers whatever was saved in dir (replacing the built-in
+     * sample data), then journals every change there. Returns false, leaving the store
+     * memory-only with the sample data, if the directory cannot be used or its files are
+     * damaged; they are left as found. Also returns false if another process has the
+     * directory, since two writers would interleave their segments and delete each other's
+     * files. Call before the store is shared.
+     */
+    public static synchronized boolean enableJournal(Path dir, long snapshotBytes) {
+        if (journal != null) {
+            return true;
+        }
+        if (!lockDirectory(dir)) {
+            return false;
+        }
+        ApplicationJournal opened;
+        lock.writeLock().lock();
+        try {
+            opened = ApplicationJournal.open(dir, snapshotBytes, new JournalReplay(), InMemoryDAO::compact);
+            ids.discardBlock(); // recovery may have moved highWater past the current block
+            journal = opened;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not open the in-memory store journal in " + dir + ", changes will NOT survive a restart: " + e.getMessage());
+            loadDefaults(); // not a partial recovery
+            unlockDirectory();
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(opened::close, "lpg-memory-journal-close"));
+        openArchive(dir.resolve("archive"));
+        if (opened.isFresh()) {
+            compact(); // the sample data becomes the first snapshot
+        } else if (opened.isCompactionDue()) {
+            opened.requestCompaction();
+        }
+        return true;
+    }
+
+    // Takes an exclusive lock on dir/lock; false, with a warning, if it is held or cannot be taken
+    private static boolean lockDirectory(Path dir) {
+        FileChannel channel = null;
+        try {
+            Files.createDirectories(dir);
+            channel = FileChannel.open(dir.resolve("lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            directoryLock = channel.tryLock();
+            if (directoryLock == null) {
+                System.err.println("The in-memory store in " + dir + " is in use by another process; running memory-only, changes will NOT survive a restart");
+            }
+        } catch (IOException | OverlappingFileLockException e) {
+            System.err.println("Could not lock the in-memory store directory " + dir + ", changes will NOT survive a restart: " + e.getMessage());
+        }
+        if (directoryLock == null) {
+            closeQuietly(channel);
+            return false;
+        }
+        return true;
+    }
+
+    private static void unlockDirectory() {
+        FileChannel channel = directoryLock.channel();
+        directoryLock = null;
+        closeQuietly(channel); // releases the lock
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("Error closing " + channel + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // After recovery, since the archive re-registers the active applications it holds
+    private static void openArchive(Path dir) {
+        lock.writeLock().lock();
+        try {
+            archive = ApplicationArchive.open(dir, InMemoryDAO::canonicalUsername, applications::setArchivedActive);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not open the in-memory store archive in " + dir + ", archiving is disabled: " + e.getMessage());
+            return;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(archive::close, "lpg-memory-archive-close"));
+    }
+
+    /**
+     * Moves up to maxRows settled applications created before the cutoff, oldest first, to
+     * the archive files and returns how many moved (-1 if the archive could not be written).
+     * The chunk is written and synced without holding the lock; only removing the rows takes
+     * it. Used by ApplicationArchiver.
+     */
+    public static int archiveSettledApplications(LocalDateTime before, int maxRows) {
+        ApplicationArchive current = archive;
+        if (current == null) {
+            return 0;
+        }
+        List<Application> chunk = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                if (status.isSettled()) {
+                    for (int row : applications.oldestRows(status, before, maxRows - chunk.size())) {
+                        chunk.add(applications.application(row));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        try {
+            current.append(chunk);
+        } catch (IOException e) {
+            System.err.println("Archiving settled applications failed: " + e.getMessage());
+            return -1;
+        }
+
+        int moved = 0;
+        long logged = 0;
+        lock.writeLock().lock();
+        try {
+            List<ApplicationEvent> archived = new ArrayList<>(chunk.size());
+            for (Application app : chunk) {
+                int row = applications.rowOf(app.getAppId());
+                // A row changed since it was read stays; its archived copy is never read while it does
+                if (row == ApplicationColumns.NO_ROW || !sameContent(applications.application(row), app)) {
+                    continue;
+                }
+                archived.add(ApplicationEvent.archived(applications.summary(row)));
+                applications.remove(row);
+                if (ApplicationStatus.of(app.getStatus()).isActive()) {
+                    applications.setArchivedActive(app.getApplicantUsername(), app.getAppId());
+                }
+                logged = journal != null ? journal.logDelete(app.getAppId()) : 0;
+                moved++;
+            }
+            events.publish(archived);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        awaitDurable(logged);
+        return moved;
+    }
+
+    private static boolean sameContent(Application a, Application b) {
+        return a.getNumConnections() == b.getNumConnections()
+            && Objects.equals(a.getApplicantUsername(), b.getApplicantUsername())
+            && Objects.equals(a.getName(), b.getName())
+            && Objects.equals(a.getMobileNo(), b.getMobileNo())
+            && Objects.equals(a.getAddress(), b.getAddress())
+            && Objects.equals(a.getStatus(), b.getStatus())
+            && Objects.equals(a.getCreatedAt(), b.getCreatedAt());
+    }
+
+    // Writes a snapshot and drops the journal it replaces; runs on the journal's snapshot thread
+    private static void compact() {
+        ApplicationJournal current = journal;
+        if (current == null) {
+            return;
+        }
+        int generation;
+        List<User> users;
+        int[] rows;
+        int nextId;
+        lock.writeLock().lock();
+        try {
+            generation = current.rotate();
+            users = new ArrayList<>(usersByName.values());
+            rows = applications.rowsInDisplayOrder(); // display order, so recovery inserts cheaply
+            nextId = highWater.get();
+        } catch (IOException e) {
+            System.err.println("In-memory store snapshot failed: " + e.getMessage());
+            return;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // Rows are read as they are when their chunk is written. One changed since the capture
+        // is also in the new journal segment, which recovery replays over the snapshot.
+        List<Application> apps = new AbstractList<Application>() {
+            @Override public Application get(int index) { return applications.application(rows[index]); }
+            @Override public int size() { return rows.length; }
+        };
+        try {
+            long started = System.nanoTime();
+            long written = current.writeSnapshot(generation, users, apps, nextId, lock.readLock());
+            System.out.printf("In-memory store snapshot %d written: %d users, %d applications in %d ms%n",
+                generation, users.size(), written, (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException e) {
+            System.err.println("In-memory store snapshot failed: " + e.getMessage());
+        }
+    }
+
+    // Waits for a journaled change to reach disk; call after releasing the write lock
+    private static void awaitDurable(long seq) {
+        ApplicationJournal current = journal;
+        if (current != null && seq != 0) {
+            current.awaitDurable(seq);
+        }
+    }
+
+    // Applies recovered records; runs under the write lock from enableJournal. Snapshots are
+    // in display order, which ApplicationColumns appends without shifting rows.
+    private static class JournalReplay implements ApplicationJournal.Replay {
+        @Override
+        public void reset() {
+            usersByName.clear();
+            applications.clear();
+        }
+
+        @Override public void user(User user) { usersByName.put(user.getUsername(), user); }
+        @Override public void delete(int appId) { unindex(appId); }
+        @Override public void highWater(int nextId) { highWater.accumulateAndGet(nextId, Math::max); }
+        @Override public void finish() { }
+
+        @Override
+        public void put(Application app) {
+            unindex(app.getAppId());
+            applications.insert(app);
+            highWater.accumulateAndGet(app.getAppId() + 1, Math::max);
+        }
+
+        @Override
+        public void status(int appId, String status) {
+            int row = applications.rowOf(appId);
+            if (row != ApplicationColumns.NO_ROW) {
+                applications.setStatus(row, ApplicationStatus.of(status));
+            }
+        }
     }
 
     @Override
     public Optional<User> validateUser(String username, String password) {
-        return userList.stream()
-            .filter(u -> u.getUsername().equals(username) && u.getPassword().equals(password))
-            .findFirst();
+        lock.readLock().lock();
+        try {
+            User user = usersByName.get(username);
+            return user != null && user.getPassword().equals(password) ? Optional.of(user) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
     
     @Override
     public void registerUser(User user) {
-        if (userList.stream().noneMatch(u -> u.getUsername().equals(user.getUsername()))) {
-            userList.add(user);
-        } else {
-            // In a real app, this would throw a custom UserAlreadyExistsException
+        long logged = 0;
+        lock.writeLock().lock();
+        try {
+            // In a real app, an existing username would throw a custom UserAlreadyExistsException
+            if (usersByName.putIfAbsent(user.getUsername(), user) == null && journal != null) {
+                logged = journal.logUser(user);
+            }
+        } finally {
+            lock.writeLock().unlock();
         }
+        awaitDurable(logged);
     }
     
     @Override
     public List<User> findAllUsers() {
-        return new ArrayList<>(userList);
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(usersByName.values());
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     // --- Application CRUD Implementation ---
     @Override
     public void saveApplication(Application app) { // C - Create
-        applicationList.add(app);
+        ApplicationStatus.of(app.getStatus()); // reject an unknown status before changing anything
+        long logged = 0;
+        lock.writeLock().lock();
+        try {
+            List<ApplicationEvent> changes = new ArrayList<>(2);
+            ApplicationSummary replaced = unindex(app.getAppId()); // saving an existing ID replaces it
+            if (replaced != null) {
+                changes.add(ApplicationEvent.deleted(replaced));
+            }
+            index(app);
+            logged = journal != null ? journal.logPut(app) : 0;
+            changes.add(ApplicationEvent.created(ApplicationSummary.of(app), app.getAddress()));
+            events.publish(changes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        awaitDurable(logged);
     }
 
     @Override
-    public List<Application> findAllApplications() { // R - Retrieve All
-        return applicationList;
+    public SubmissionResult submitApplication(Application app) {
+        ApplicationStatus.of(app.getStatus());
+        long logged = 0;
+        lock.writeLock().lock();
+        try {
+            int[] active = {0};
+            applications.forEachRowOfUser(app.getApplicantUsername(), null, row -> { // newest first
+                if (applications.status(row).isActive()) {
+                    active[0] = applications.appId(row);
+                    return false;
+                }
+                return true;
+            });
+            int archivedActive = applications.archivedActive(app.getApplicantUsername());
+            if (active[0] == 0 && archivedActive != 0 && applications.rowOf(archivedActive) == ApplicationColumns.NO_ROW) {
+                active[0] = archivedActive; // a row still in the columns was checked above, as it is now
+            }
+            if (active[0] != 0) {
+                return SubmissionResult.blocked(active[0]);
+            }
+            index(app);
+            logged = journal != null ? journal.logPut(app) : 0;
+            events.publish(ApplicationEvent.created(ApplicationSummary.of(app), app.getAddress()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        awaitDurable(logged);
+        return SubmissionResult.created(app.getAppId());
     }
-    
+
     @Override
-    public Optional<Application> findApplicationById(int id) {
-        return applicationList.stream()
-                .filter(app -> app.getAppId() == id)
-                .findFirst();
+    public int saveApplications(List<Application> apps) {
+        apps.forEach(app -> ApplicationStatus.of(app.getStatus()));
+        Set<Integer> explicitIds = new HashSet<>();
+        int unassigned = 0;
+        for (Application app : apps) {
+            if (app.getAppId() != 0) {
+                explicitIds.add(app.getAppId());
+            } else {
+                unassigned++;
+            }
+        }
+        long logged = 0;
+        lock.writeLock().lock();
+        try {
+            // Numbered under the lock with a single reservation, skipping IDs that rows saved
+            // under an explicit ID (stored or in this batch) took from the reserved block
+            int nextId = unassigned > 0 ? ids.reserve(unassigned) : 0;
+            int endId = nextId + unassigned;
+            List<ApplicationEvent> created = new ArrayList<>(apps.size());
+            for (Application app : apps) {
+                if (app.getAppId() != 0) {
+                    ApplicationSummary replaced = unindex(app.getAppId()); // saving an existing ID replaces it
+                    if (replaced != null) {
+                        created.add(ApplicationEvent.deleted(replaced));
+                    }
+                } else {
+                    int id;
+                    do {
+                        id = nextId < endId ? nextId++ : ids.next();
+                    } while (applications.rowOf(id) != ApplicationColumns.NO_ROW || explicitIds.contains(id));
+                    app.setAppId(id);
+                }
+                index(app);
+                created.add(ApplicationEvent.created(ApplicationSummary.of(app), app.getAddress()));
+            }
+            logged = journal != null && !apps.isEmpty() ? journal.logPuts(apps) : 0;
+            events.publish(created);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        awaitDurable(logged);
+        return apps.size();
     }
-    
-    // UPDATED IMPLEMENTATION
+
     @Override
-    public List<Application> findApplicationsByUsername(String username) { // R - Retrieve all of User's
-        // Returns a list of all applications submitted by the given username.
-        return applicationList.stream()
-                .filter(app -> app.getApplicantUsername().equals(username))
-                .collect(Collectors.toList());
+    public List<Application> findAllApplications() { // R - Retrieve All
+        lock.readLock().lock();
+        try {
+            List<Application> all = new ArrayList<>(applications.size());
+            applications.forEachRow(row -> all.add(applications.application(row)));
+            return all;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
-
+    
+    // Every read returns a new object, so callers can change it freely before updateApplication
     @Override
-    public void updateApplication(Application updatedApp) { // U - Update
-        for (int i = 0; i < applicationList.size(); i++) {
-            if (applicationList.get(i).getAppId() == updatedApp.getAppId()) {
-                applicationList.set(i, updatedApp); 
-                return;
+    public Optional<Application> findApplicationById(int id) {
+        lock.readLock().lock();
+        try {
+            int row = applications.rowOf(id);
+            if (row != ApplicationColumns.NO_ROW) {
+                return Optional.of(applications.application(row));
             }
+        } finally {
+            lock.readLock().unlock();
+        }
+        // Archived blocks are written before their rows leave the columns, so a row being
+        // moved meanwhile is found in one of the two
+        ApplicationArchive current = archive;
+        try {
+            return current != null ? current.find(id) : Optional.empty();
+        } catch (IOException e) {
+            System.err.println("Could not read archived application " + id + ": " + e.getMessage());
+            return Optional.empty();
         }
     }
     
     @Override
-    public void deleteApplication(int id) { // D - Delete
-        applicationList.removeIf(app -> app.getAppId() == id);
+    public List<Application> findApplicationsByUsername(String username) { // R - Retrieve all of User's
+        List<Application> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            applications.forEachRowOfUser(username, null, row -> found.add(applications.application(row)));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return withArchived(found, username, null, app -> app, PageCursor::of);
     }
-}
 
-// --- SQL DATABASE DAO IMPLEMENTATION ---
+    // Keyset page of an applicant's applications across the columns and the archive
+    private static <T> Page<T> userPage(String username, PageCursor after, int pageSize,
+                                        IntFunction<T> reader, Function<Application, T> fromArchive, Function<T, PageCursor> cursorOf) {
+        List<T> fetched = new ArrayList<>(Math.min(pageSize + 1, 1024));
+        lock.readLock().lock();
+        try {
+            applications.forEachRowOfUser(username, after, row -> {
+                fetched.add(reader.apply(row));
+                return fetched.size() <= pageSize;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Page.fromLookahead(withArchived(fetched, username, after, fromArchive, cursorOf), pageSize, cursorOf);
+    }
 
-class MySQLDAO implements ApplicationDAO {
-    private static final String DB_URL = "jdbc:mysql://localhost:3306/lpg_system";
+    /**
+     * Adds the applicant's archived applications after the cursor to rows read from the
+     * columns, in display order. A row still in the columns wins over an archived copy.
+     */
+    private static <T> List<T> withArchived(List<T> rows, String username, PageCursor after,
+                                            Function<Application, T> fromArchive, Function<T, PageCursor> cursorOf) {
+        ApplicationArchive current = archive;
+        if (current == null) {
+            return rows;
+        }
+        List<Application> archived;
+        try {
+            archived = current.findByUser(username);
+        } catch (IOException e) {
+            System.err.println("Could not read archived applications of " + username + ": " + e.getMessage());
+            return rows;
+        }
+        if (archived.isEmpty()) {
+            return rows;
+        }
+        Set<Integer> read = new HashSet<>();
+        for (T row : rows) {
+            read.add(cursorOf.apply(row).getAppId());
+        }
+        List<T> merged = new ArrayList<>(rows);
+        lock.readLock().lock();
+        try {
+            for (Application app : archived) {
+                if (!read.contains(app.getAppId()) && applications.rowOf(app.getAppId()) == ApplicationColumns.NO_ROW
+                        && (after == null || PageCursor.of(app).compareTo(after) > 0)) {
+                    merged.add(fromArchive.apply(app));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        merged.sort((a, b) -> cursorOf.apply(a).compareTo(cursorOf.apply(b)));
+        return merged;
+    }
+
+    @Override
+    public void updateApplication(Application updatedApp) { // U - Update
+        ApplicationStatus.of(updatedApp.getStatus());
+        long logged = 0;
+        lock.writeLock().lock();
+        try {
+            int row = applications.rowOf(updatedApp.getAppId());
+            if (row == ApplicationColumns.NO_ROW) {
+                return;
+            }
+            String addressBefore = applications.application(row).getAddress();
+            ApplicationSummary before = unindex(updatedApp.getAppId());
+            if (updatedApp.getCreatedAt() == null) {
+                updatedApp.setCreatedAt(before.getCreatedAt());
+            }
+            index(updatedApp);
+            logged = journal != null ? journal.logPut(updatedApp) : 0;
+            ApplicationSummary after = ApplicationSummary.of(updatedApp);
+            if (!sameFields(before, after) || !Objects.equals(addressBefore, updatedApp.getAddress())) {
+                events.publish(ApplicationEvent.updated(before, after, updatedApp.getAddress()));
+            } else if (!after.getStatus().equals(before.getStatus())) {
+                events.publish(ApplicationEvent.statusChanged(before, after.getStatus()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        awaitDurable(logged);
+    }
+    
+    // Whether every field of the row but the status is unchanged
+    private static boolean sameFields(ApplicationSummary before, ApplicationSummary after) {
+        return Objects.equals(before.getName(), after.getName()) && Objects.equals(before.getMobileNo(), after.getMobileNo())
+            && Objects.equals(before.getApplicantUsername(), after.getApplicantUsername())
+            && before.getNumConnections() == after.getNumConnections();
+    }
+    
+    @Override
+    public void deleteApplication(int id) { // D - Delete
+        long logged = 0;
+        lock.writeLock().lock();
+        try {
+            ApplicationSummary before = unindex(id);
+            if (before != null) {
+                logged = journal != null ? journal.logDelete(id) : 0;
+                events.publish(ApplicationEvent.deleted(before));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        awaitDurable(logged);
+    }
+    
+    @Override
+    public int updateApplicationStatuses(List<Integer> appIds, String status) {
+        ApplicationStatus newStatus = ApplicationStatus.of(status);
+        List<Integer> updated = new ArrayList<>();
+        long logged = 0;
+        lock.writeLock().lock();
+        try {
+            List<ApplicationEvent> changed = new ArrayList<>();
+            for (int appId : appIds) {
+                int row = applications.rowOf(appId);
+                if (row != ApplicationColumns.NO_ROW) {
+                    if (applications.status(row) != newStatus) {
+                        changed.add(ApplicationEvent.statusChanged(applications.summary(row), status));
+                        applications.setStatus(row, newStatus);
+                    }
+                    updated.add(appId);
+                }
+            }
+            logged = journal != null && !updated.isEmpty() ? journal.logStatus(updated, status) : 0;
+            events.publish(changed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        awaitDurable(logged);
+        return updated.size();
+    }
+    
+    @Override
+    public Page<Application> findApplicationsPage(String status, PageCursor after, int pageSize) {
+        ApplicationStatus filter = ApplicationStatus.parse(status);
+        if (status != null && filter == null) {
+            return new Page<>(new ArrayList<>(), null); // no application has an unknown status
+        }
+        lock.readLock().lock();
+        try {
+            return applications.page(filter, after, pageSize, applications::application);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public long forEachApplication(String status, Consumer<Application> action) {
+        // Page by page, so the read lock is never held while the action runs
+        BitSet streamed = new BitSet();
+        long count = Page.forEachItem((cursor, pageSize) -> findApplicationsPage(status, cursor, pageSize), STREAM_PAGE_SIZE, app -> {
+            streamed.set(app.getAppId());
+            action.accept(app);
+        });
+        ApplicationArchive current = archive;
+        ApplicationStatus filter = ApplicationStatus.parse(status);
+        if (current == null || (status != null && filter == null)) {
+            return count;
+        }
+        long[] archived = {0};
+        try {
+            current.forEach(app -> {
+                // Skips a row still in the columns (it wins) or archived since it was streamed
+                if (!streamed.get(app.getAppId()) && (filter == null || ApplicationStatus.parse(app.getStatus()) == filter)
+                        && !inColumns(app.getAppId())) {
+                    action.accept(app);
+                    archived[0]++;
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Could not read archived applications after " + (count + archived[0]) + " rows: " + e.getMessage());
+            return -1;
+        }
+        return count + archived[0];
+    }
+
+    private static boolean inColumns(int appId) {
+        lock.readLock().lock();
+        try {
+            return applications.rowOf(appId) != ApplicationColumns.NO_ROW;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public Page<Application> findApplicationsByUsernamePage(String username, PageCursor after, int pageSize) {
+        return userPage(username, after, pageSize, applications::application, app -> app, PageCursor::of);
+    }
+    
+    // Summaries are read straight from the columns, skipping the address
+    @Override
+    public Page<ApplicationSummary> findApplicationSummaries(String status, PageCursor after, int pageSize) {
+        ApplicationStatus filter = ApplicationStatus.parse(status);
+        if (status != null && filter == null) {
+            return new Page<>(new ArrayList<>(), null);
+        }
+        lock.readLock().lock();
+        try {
+            return applications.page(filter, after, pageSize, applications::summary);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public Page<ApplicationSummary> findApplicationSummariesByUsername(String username, PageCursor after, int pageSize) {
+        return userPage(username, after, pageSize, applications::summary, ApplicationSummary::of, PageCursor::of);
+    }
+    
+    // Linear scan; ApplicationSearchIndex answers the same query from an index
+    @Override
+    public List<ApplicationSummary> searchApplications(String query, int limit) {
+        List<String> words = ApplicationSearchIndex.tokenize(query);
+        List<ApplicationSummary> results = new ArrayList<>();
+        if (words.isEmpty()) {
+            return results;
+        }
+        lock.readLock().lock();
+        try {
+            applications.forEachRow(row -> {
+                if (applications.matchesAll(row, words)) {
+                    results.add(applications.summary(row));
+                }
+                return results.size() < limit;
+            });
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public long countUsers() {
+        lock.readLock().lock();
+        try {
+            return usersByName.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public Map<String, Long> countApplicationsByStatus() {
+        lock.readLock().lock();
+        try {
+            Map<String, Long> counts = new HashMap<>();
+            applications.countsByStatus().forEach((status, count) -> counts.put(status.name(), (long) count));
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public Map<String, Long> countApplicationsByUser() {
+        lock.readLock().lock();
+        try {
+            return applications.countsByUser();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public ApplicationStats getApplicationStats() {
+        lock.readLock().lock();
+        try {
+            return new ApplicationStats(countUsers(), countApplicationsByStatus());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
+
+// --- SQL DATABASE DAO IMPLEMENTATION ---
+
+/**
+ * Converts the current ResultSet row into an object; reused by every query of the same shape.
+ */
+@FunctionalInterface
+interface RowMapper<T> {
+    T map(ResultSet rs) throws SQLException;
+}
+
+class MySQLDAO implements ApplicationDAO, ApplicationImporter.Target {
+    private static final String DB_URL = "jdbc:mysql://localhost:3306/lpg_system";
     private static final String DB_USER = "root";
     private static final String DB_PASSWORD = "12345678";
+    // Server-side prepared statements, cached per physical connection by the driver.
+    // Pooled connections live for the whole session, so each statement is parsed once.
+    private static final String POOL_URL = DB_URL
+        + "?useServerPrepStmts=true&cachePrepStmts=true&prepStmtCacheSize=256&prepStmtCacheSqlLimit=2048"
+        // Lets the driver send a JDBC batch of INSERTs as multi-row INSERT statements
+        + "&rewriteBatchedStatements=true"
+        // Statements given a fetch size read through a server-side cursor, that many rows at a time
+        + "&useCursorFetch=true"
+        // An unreachable host fails within this instead of waiting on the operating system's TCP timeout
+        + "&connectTimeout=" + Long.getLong("lpg.db.connectTimeoutMs", 3_000L);
+
+    // Pool sizing can be tuned without a rebuild, e.g. -Dlpg.db.pool.maxSize=20
+    private static final ConnectionPool pool = new ConnectionPool(
+        POOL_URL, DB_USER, DB_PASSWORD,
+        Integer.getInteger("lpg.db.pool.maxSize", 10),
+        Integer.getInteger("lpg.db.pool.minIdle", 2),
+        Long.getLong("lpg.db.pool.borrowTimeoutMs", 5_000L),
+        Long.getLong("lpg.db.pool.idleTimeoutMs", 300_000L),
+        Long.getLong("lpg.db.pool.validationIdleMs", 500L)
+    );
+    private static final int STATUS_UPDATE_CHUNK = 500;
+    private static final int STREAM_FETCH_SIZE = 1000;
+    // Published after commit; the rows read under lock inside the transaction supply the old values
+    private static final ApplicationEventBus events = ApplicationEventBus.shared();
     
-    static {
+    private static volatile boolean initialized;
+    
+    // Initializes on first use if DAOFactory has not already done so
+    public MySQLDAO() {
+        this(true);
+    }
+    
+    // initialize false: the caller has already called initialize(), whether or not it worked
+    MySQLDAO(boolean initialize) {
+        if (!initialize) {
+            return;
+        }
         try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            initializeDatabase();
-        } catch (ClassNotFoundException e) {
-            System.err.println("MySQL Driver not found: " + e.getMessage());
+            initialize();
         } catch (SQLException e) {
             System.err.println("Database initialization failed: " + e.getMessage());
         }
     }
     
-    private static void initializeDatabase() throws SQLException {
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD)) {
-            // Create users table
-            String createUsersTable = """
-                CREATE TABLE IF NOT EXISTS users (
-                    username VARCHAR(50) PRIMARY KEY,
-                    password VARCHAR(100) NOT NULL,
-                    role VARCHAR(20) NOT NULL
-                )
-            """;
-            
-            // Create applications table
-            String createApplicationsTable = """
-                CREATE TABLE IF NOT EXISTS applications (
-                    app_id INT AUTO_INCREMENT PRIMARY KEY,
-                    applicant_username VARCHAR(50) NOT NULL,
-                    name VARCHAR(100) NOT NULL,
-                    mobile_no VARCHAR(15) NOT NULL,
-                    address TEXT NOT NULL,
-                    num_connections INT NOT NULL,
-                    status VARCHAR(20) DEFAULT 'PENDING',
-                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                    FOREIGN KEY (applicant_username) REFERENCES users(username)
-                )
-            """;
-            
-            try (Statement stmt = conn.createStatement()) {
-                stmt.execute(createUsersTable);
-                stmt.execute(createApplicationsTable);
-                
-                // Insert default admin and user if they don't exist
-                String insertDefaultUsers = """
-                    INSERT IGNORE INTO users (username, password, role) VALUES 
-                    ('admin', 'admin123', 'ADMIN'),
-                    ('user1', 'user123', 'USER')
-                """;
-                stmt.execute(insertDefaultUsers);
-                
-                // Insert sample application if none exist
-                String checkApplications = "SELECT COUNT(*) FROM applications";
-                try (ResultSet rs = stmt.executeQuery(checkApplications)) {
-                    if (rs.next() && rs.getInt(1) == 0) {
-                        String insertSampleApp = """
-                            INSERT INTO applications (applicant_username, name, mobile_no, address, num_connections, status) 
-                            VALUES ('user1', 'Priya Sharma', '9876543210', '123, Main St.', 2, 'PENDING')
-                        """;
-                        stmt.execute(insertSampleApp);
+    /**
+     * Loads the driver, brings the schema up to date (seeding a new database) and opens the
+     * pool's warm connections. Runs once per process; DAOFactory calls it on its background
+     * startup thread, so no window waits for it. Throws if the driver is missing or the
+     * database cannot be reached, and a later call tries again.
+     */
+    public static synchronized void initialize() throws SQLException {
+        if (initialized) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            Class.forName("com.mysql.cj.jdbc.Driver");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("MySQL driver not found: " + e.getMessage(), e);
+        }
+        StartupTimings.step("MySQL driver", started);
+        started = System.nanoTime();
+        initializeDatabase();
+        StartupTimings.step("MySQL schema check", started);
+        started = System.nanoTime();
+        pool.warmUp();
+        StartupTimings.step("MySQL pool warm-up", started);
+        initialized = true;
+    }
+    
+    /**
+     * Returns current connection pool usage (active, idle, wait time, borrow timeouts).
+     */
+    public static PoolStats getPoolStats() {
+        return pool.getStats();
+    }
+    
+    /**
+     * Throws if the database cannot be reached or does not answer within the timeout; returns
+     * false without trying when every pooled connection is in use. Used by DatabaseHealthMonitor.
+     */
+    public static boolean ping(int timeoutSeconds) throws SQLException {
+        return pool.ping(timeoutSeconds);
+    }
+    
+    public static void setHealthListener(ConnectionPool.HealthListener listener) {
+        pool.setHealthListener(listener);
+    }
+    
+    public static void shutdown() {
+        pool.shutdown();
+    }
+    
+    /**
+     * Moves up to maxRows settled applications created before the cutoff, oldest first,
+     * from applications to applications_archive in one short transaction. Returns how many
+     * moved, or -1 on a database error. Used by ApplicationArchiver.
+     */
+    public static int archiveSettledApplications(LocalDateTime before, int maxRows) {
+        // One status at a time, so each read is an ordered range of idx_applications_status_created
+        // and locks only the rows it returns. The newest application is never moved: before
+        // MySQL 8.0 AUTO_INCREMENT restarts at MAX(app_id) + 1, which could reuse archived IDs.
+        String selectSql = "SELECT " + SUMMARY_COLUMNS + " FROM applications WHERE status = ? AND created_at < ? AND app_id < ?"
+            + " ORDER BY created_at, app_id LIMIT ? FOR UPDATE";
+        
+        try (Connection conn = pool.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                int newestId = 0;
+                try (PreparedStatement pstmt = conn.prepareStatement("SELECT MAX(app_id) FROM applications");
+                     ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        newestId = rs.getInt(1);
+                    }
+                }
+                List<ApplicationSummary> moving = new ArrayList<>();
+                for (ApplicationStatus status : ApplicationStatus.values()) {
+                    if (!status.isSettled() || moving.size() == maxRows) {
+                        continue;
+                    }
+                    try (PreparedStatement pstmt = conn.prepareStatement(selectSql)) {
+                        pstmt.setString(1, status.name());
+                        pstmt.setTimestamp(2, Timestamp.valueOf(before));
+                        pstmt.setInt(3, newestId);
+                        pstmt.setInt(4, maxRows - moving.size());
+                        try (ResultSet rs = pstmt.executeQuery()) {
+                            while (rs.next()) {
+                                moving.add(SUMMARY_MAPPER.map(rs));
+                            }
+                        }
+                    }
+                }
+                if (moving.isEmpty()) {
+                    conn.rollback();
+                    return 0;
+                }
+                String ids = placeholders(moving.size());
+                try (PreparedStatement copy = conn.prepareStatement("INSERT INTO applications_archive (" + APPLICATION_COLUMNS
+                         + ") SELECT " + APPLICATION_COLUMNS + " FROM applications WHERE app_id IN (" + ids + ")");
+                     PreparedStatement delete = conn.prepareStatement("DELETE FROM applications WHERE app_id IN (" + ids + ")")) {
+                    for (int i = 0; i < moving.size(); i++) {
+                        copy.setInt(i + 1, moving.get(i).getAppId());
+                        delete.setInt(i + 1, moving.get(i).getAppId());
                     }
+                    copy.executeUpdate();
+                    delete.executeUpdate();
+                }
+                conn.commit();
+                List<ApplicationEvent> archived = new ArrayList<>(moving.size());
+                for (ApplicationSummary summary : moving) {
+                    archived.add(ApplicationEvent.archived(summary));
                 }
+                events.publish(archived);
+                return moving.size();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
             }
+        } catch (SQLException e) {
+            System.err.println("Database error during application archiving: " + e.getMessage());
+            return -1;
+        }
+    }
+    
+    private static void initializeDatabase() throws SQLException {
+        try (Connection conn = pool.getConnection()) {
+            // Versioned migrations; a database that is already current runs no DDL
+            int version = new SchemaMigrator(conn).migrate();
+            System.out.println("Database schema at version " + version);
         }
     }
     
@@ -284,7 +1472,7 @@ class MySQLDAO implements ApplicationDAO {
     public Optional<User> validateUser(String username, String password) {
         String sql = "SELECT username, password, role FROM users WHERE username = ? AND password = ?";
         
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
+        try (Connection conn = pool.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, username);
@@ -300,215 +1488,922 @@ class MySQLDAO implements ApplicationDAO {
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Database error during user validation: " + e.getMessage());
+            System.err.println("Database error during user validation: " + e.getMessage());
+        }
+        
+        return Optional.empty();
+    }
+    
+    @Override
+    public void registerUser(User user) {
+        String sql = "INSERT INTO users (username, password, role) VALUES (?, ?, ?)";
+        
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setString(1, user.getUsername());
+            pstmt.setString(2, user.getPassword());
+            pstmt.setString(3, user.getRole());
+            
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            System.err.println("Database error during user registration: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public List<User> findAllUsers() {
+        List<User> users = new ArrayList<>();
+        String sql = "SELECT username, password, role FROM users ORDER BY username";
+        
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            
+            while (rs.next()) {
+                String username = rs.getString("username");
+                String password = rs.getString("password");
+                String role = rs.getString("role");
+                
+                User user = role.equals("ADMIN") ? 
+                    new AdminUser(username, password) : 
+                    new RegularUser(username, password);
+                users.add(user);
+            }
+        } catch (SQLException e) {
+            System.err.println("Database error during users retrieval: " + e.getMessage());
+        }
+        
+        return users;
+    }
+    
+    @Override
+    public void saveApplication(Application app) {
+        String sql = "INSERT INTO applications (applicant_username, name, mobile_no, address, num_connections, status) VALUES (?, ?, ?, ?, ?, ?)";
+        
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            
+            pstmt.setString(1, app.getApplicantUsername());
+            pstmt.setString(2, app.getName());
+            pstmt.setString(3, app.getMobileNo());
+            pstmt.setString(4, app.getAddress());
+            pstmt.setInt(5, app.getNumConnections());
+            pstmt.setString(6, app.getStatus());
+            
+            pstmt.executeUpdate();
+            try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                if (keys.next()) {
+                    app.setAppId(keys.getInt(1));
+                }
+            }
+            events.publish(createdEvent(app));
+        } catch (SQLException e) {
+            System.err.println("Database error during application save: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public SubmissionResult submitApplication(Application app) {
+        // Locking the applicant's user row serializes concurrent submits by the same user;
+        // the locking read of their active applications sees the latest committed rows.
+        // Only settled applications are archived, so an archived one is active if APPROVED.
+        String checkSql = "SELECT u.username, COALESCE((SELECT a.app_id FROM applications a "
+            + "WHERE a.applicant_username = u.username AND a.status IN ('PENDING', 'APPROVED') "
+            + "ORDER BY a.created_at DESC, a.app_id DESC LIMIT 1), "
+            + "(SELECT r.app_id FROM applications_archive r "
+            + "WHERE r.applicant_username = u.username AND r.status = 'APPROVED' "
+            + "ORDER BY r.created_at DESC, r.app_id DESC LIMIT 1)) AS active_app_id "
+            + "FROM users u WHERE u.username = ? FOR UPDATE";
+        String insertSql = "INSERT INTO applications (applicant_username, name, mobile_no, address, num_connections, status) VALUES (?, ?, ?, ?, ?, ?)";
+        
+        try (Connection conn = pool.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement check = conn.prepareStatement(checkSql)) {
+                    check.setString(1, app.getApplicantUsername());
+                    try (ResultSet rs = check.executeQuery()) {
+                        if (!rs.next()) {
+                            conn.rollback();
+                            return SubmissionResult.failed("Unknown applicant: " + app.getApplicantUsername());
+                        }
+                        int activeAppId = rs.getInt("active_app_id");
+                        if (!rs.wasNull()) {
+                            conn.rollback();
+                            return SubmissionResult.blocked(activeAppId);
+                        }
+                    }
+                }
+                try (PreparedStatement insert = conn.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS)) {
+                    insert.setString(1, app.getApplicantUsername());
+                    insert.setString(2, app.getName());
+                    insert.setString(3, app.getMobileNo());
+                    insert.setString(4, app.getAddress());
+                    insert.setInt(5, app.getNumConnections());
+                    insert.setString(6, app.getStatus());
+                    insert.executeUpdate();
+                    try (ResultSet keys = insert.getGeneratedKeys()) {
+                        if (keys.next()) {
+                            app.setAppId(keys.getInt(1));
+                        }
+                    }
+                }
+                conn.commit();
+                events.publish(createdEvent(app));
+                return SubmissionResult.created(app.getAppId());
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            System.err.println("Database error during application submission: " + e.getMessage());
+            return SubmissionResult.failed("Database error: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public int saveApplications(List<Application> apps) {
+        return saveApplications(apps, null, 0) ? apps.size() : 0;
+    }
+    
+    @Override
+    public boolean saveImportChunk(String source, List<Application> apps, long lastLine) {
+        return saveApplications(apps, source, lastLine);
+    }
+    
+    @Override
+    public long importedThrough(String source) {
+        String sql = "SELECT last_line FROM import_progress WHERE source = ?";
+        
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setString(1, source);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        } catch (SQLException e) {
+            System.err.println("Database error during import progress lookup: " + e.getMessage());
+        }
+        
+        return -1;
+    }
+    
+    @Override
+    public void clearImportProgress(String source) {
+        String sql = "DELETE FROM import_progress WHERE source = ?";
+        
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setString(1, source);
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            System.err.println("Database error during import progress cleanup: " + e.getMessage());
+        }
+    }
+    
+    // Inserts all rows in one transaction; with an import source, also records lastLine for it
+    private boolean saveApplications(List<Application> apps, String importSource, long lastLine) {
+        String sql = "INSERT INTO applications (applicant_username, name, mobile_no, address, num_connections, status) VALUES (?, ?, ?, ?, ?, ?)";
+        String progressSql = "INSERT INTO import_progress (source, last_line) VALUES (?, ?) ON DUPLICATE KEY UPDATE last_line = VALUES(last_line)";
+        
+        try (Connection conn = pool.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                if (!apps.isEmpty()) {
+                    for (Application app : apps) {
+                        pstmt.setString(1, app.getApplicantUsername());
+                        pstmt.setString(2, app.getName());
+                        pstmt.setString(3, app.getMobileNo());
+                        pstmt.setString(4, app.getAddress());
+                        pstmt.setInt(5, app.getNumConnections());
+                        pstmt.setString(6, app.getStatus());
+                        pstmt.addBatch();
+                    }
+                    pstmt.executeBatch();
+                    // Keys come back in batch order, also for rewritten multi-row inserts
+                    try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                        for (int i = 0; i < apps.size() && keys.next(); i++) {
+                            apps.get(i).setAppId(keys.getInt(1));
+                        }
+                    }
+                }
+                if (importSource != null) {
+                    try (PreparedStatement progress = conn.prepareStatement(progressSql)) {
+                        progress.setString(1, importSource);
+                        progress.setLong(2, lastLine);
+                        progress.executeUpdate();
+                    }
+                }
+                conn.commit();
+                List<ApplicationEvent> created = new ArrayList<>(apps.size());
+                for (Application app : apps) {
+                    created.add(createdEvent(app));
+                }
+                events.publish(created);
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            System.err.println("Database error during bulk application save: " + e.getMessage());
+        }
+        
+        return false;
+    }
+    
+    @Override
+    public List<Application> findAllApplications() {
+        List<Application> applications = new ArrayList<>();
+        String sql = "SELECT * FROM applications ORDER BY created_at DESC";
+        
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            
+            while (rs.next()) {
+                applications.add(mapApplication(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("Database error during applications retrieval: " + e.getMessage());
+        }
+        
+        return applications;
+    }
+    
+    @Override
+    public Optional<Application> findApplicationById(int id) {
+        // An application is in exactly one of the tables; both halves are primary key lookups
+        String sql = "SELECT " + APPLICATION_COLUMNS + " FROM applications WHERE app_id = ?"
+            + " UNION ALL SELECT " + APPLICATION_COLUMNS + " FROM applications_archive WHERE app_id = ?";
+        
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, id);
+            pstmt.setInt(2, id);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    Application app = mapApplication(rs);
+                    return Optional.of(app);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Database error during application lookup: " + e.getMessage());
+        }
+        
+        return Optional.empty();
+    }
+    
+    @Override
+    public List<Application> findApplicationsByUsername(String username) {
+        List<Application> applications = new ArrayList<>();
+        // The applicant's full history, archived applications included
+        String sql = "SELECT " + APPLICATION_COLUMNS + " FROM applications WHERE applicant_username = ?"
+            + " UNION ALL SELECT " + APPLICATION_COLUMNS + " FROM applications_archive WHERE applicant_username = ?"
+            + " ORDER BY created_at DESC, app_id DESC";
+        
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setString(1, username);
+            pstmt.setString(2, username);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Application app = mapApplication(rs);
+                    applications.add(app);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Database error during user applications retrieval: " + e.getMessage());
+        }
+        
+        return applications;
+    }
+    
+    @Override
+    public void updateApplication(Application updatedApp) {
+        // Status is the only column an update may change
+        updateApplicationStatuses(List.of(updatedApp.getAppId()), updatedApp.getStatus());
+    }
+    
+    @Override
+    public void deleteApplication(int id) {
+        String sql = "DELETE FROM applications WHERE app_id = ?";
+        
+        try (Connection conn = pool.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                List<ApplicationSummary> before = lockSummaries(conn, List.of(id));
+                pstmt.setInt(1, id);
+                pstmt.executeUpdate();
+                conn.commit();
+                for (ApplicationSummary summary : before) {
+                    events.publish(ApplicationEvent.deleted(summary));
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            System.err.println("Database error during application deletion: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public int updateApplicationStatuses(List<Integer> appIds, String status) {
+        if (appIds.isEmpty()) {
+            return 0;
+        }
+        int updated = 0;
+        List<ApplicationEvent> changed = new ArrayList<>();
+        
+        try (Connection conn = pool.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                // IN-lists of bounded size keep each statement small while the whole
+                // change still commits (or rolls back) as one transaction
+                for (int from = 0; from < appIds.size(); from += STATUS_UPDATE_CHUNK) {
+                    List<Integer> chunk = appIds.subList(from, Math.min(from + STATUS_UPDATE_CHUNK, appIds.size()));
+                    for (ApplicationSummary before : lockSummaries(conn, chunk)) {
+                        if (!status.equals(before.getStatus())) {
+                            changed.add(ApplicationEvent.statusChanged(before, status));
+                        }
+                    }
+                    String sql = "UPDATE applications SET status = ? WHERE app_id IN (" + placeholders(chunk.size()) + ")";
+                    try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                        pstmt.setString(1, status);
+                        for (int i = 0; i < chunk.size(); i++) {
+                            pstmt.setInt(i + 2, chunk.get(i));
+                        }
+                        updated += pstmt.executeUpdate();
+                    }
+                }
+                conn.commit();
+                events.publish(changed);
+                return updated;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            System.err.println("Database error during bulk status update: " + e.getMessage());
+        }
+        
+        return 0;
+    }
+    
+    @Override
+    public Page<Application> findApplicationsPage(String status, PageCursor after, int pageSize) {
+        return queryPage("*", APPLICATION_MAPPER, PageCursor::of,
+            status == null ? null : "status = ?", status, after, pageSize, false);
+    }
+    
+    @Override
+    public long forEachApplication(String status, Consumer<Application> action) {
+        // Forward-only cursor read STREAM_FETCH_SIZE rows per round trip; the client never
+        // holds more than one fetch however large the table is. Both tables are read in one
+        // transaction, whose snapshot streams an application archived meanwhile exactly once.
+        long count = 0;
+        
+        try (Connection conn = pool.getConnection()) {
+            conn.setAutoCommit(false);
+            for (String table : new String[] {"applications", "applications_archive"}) {
+                String sql = "SELECT " + APPLICATION_COLUMNS + " FROM " + table + (status == null ? "" : " WHERE status = ?")
+                    + " ORDER BY created_at DESC, app_id DESC";
+                try (PreparedStatement pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    pstmt.setFetchSize(STREAM_FETCH_SIZE);
+                    if (status != null) {
+                        pstmt.setString(1, status);
+                    }
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            action.accept(mapApplication(rs));
+                            count++;
+                        }
+                    }
+                }
+            }
+            conn.commit();
+            return count;
+        } catch (SQLException e) {
+            System.err.println("Database error during application streaming after " + count + " rows: " + e.getMessage());
+            return -1;
         }
-        
-        return Optional.empty();
     }
     
     @Override
-    public void registerUser(User user) {
-        String sql = "INSERT INTO users (username, password, role) VALUES (?, ?, ?)";
+    public Page<Application> findApplicationsByUsernamePage(String username, PageCursor after, int pageSize) {
+        return queryPage(APPLICATION_COLUMNS, APPLICATION_MAPPER, PageCursor::of,
+            "applicant_username = ?", username, after, pageSize, true);
+    }
+    
+    @Override
+    public Page<ApplicationSummary> findApplicationSummaries(String status, PageCursor after, int pageSize) {
+        return queryPage(SUMMARY_COLUMNS, SUMMARY_MAPPER, PageCursor::of,
+            status == null ? null : "status = ?", status, after, pageSize, false);
+    }
+    
+    @Override
+    public Page<ApplicationSummary> findApplicationSummariesByUsername(String username, PageCursor after, int pageSize) {
+        return queryPage(SUMMARY_COLUMNS, SUMMARY_MAPPER, PageCursor::of,
+            "applicant_username = ?", username, after, pageSize, true);
+    }
+    
+    // Unindexed LIKE scan; ApplicationSearchIndex answers the same query from an index
+    @Override
+    public List<ApplicationSummary> searchApplications(String query, int limit) {
+        List<String> words = ApplicationSearchIndex.tokenize(query);
+        List<ApplicationSummary> results = new ArrayList<>();
+        if (words.isEmpty()) {
+            return results;
+        }
+        String wordFilter = "(name LIKE ? OR address LIKE ? OR mobile_no LIKE ?)";
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM applications WHERE "
+            + String.join(" AND ", Collections.nCopies(words.size(), wordFilter))
+            + " ORDER BY created_at DESC, app_id DESC LIMIT ?";
         
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
+        try (Connection conn = pool.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            pstmt.setString(1, user.getUsername());
-            pstmt.setString(2, user.getPassword());
-            pstmt.setString(3, user.getRole());
+            int index = 1;
+            for (String word : words) {
+                String escaped = word.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+                pstmt.setString(index++, "%" + escaped + "%");
+                pstmt.setString(index++, "%" + escaped + "%");
+                pstmt.setString(index++, "%" + escaped);
+            }
+            pstmt.setInt(index, limit);
             
-            pstmt.executeUpdate();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(SUMMARY_MAPPER.map(rs));
+                }
+            }
         } catch (SQLException e) {
-            System.err.println("Database error during user registration: " + e.getMessage());
+            System.err.println("Database error during application search: " + e.getMessage());
         }
+        
+        return results;
     }
     
     @Override
-    public List<User> findAllUsers() {
-        List<User> users = new ArrayList<>();
-        String sql = "SELECT username, password, role FROM users ORDER BY username";
+    public long countUsers() {
+        String sql = "SELECT COUNT(*) FROM users";
         
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
+        try (Connection conn = pool.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql);
              ResultSet rs = pstmt.executeQuery()) {
             
-            while (rs.next()) {
-                String username = rs.getString("username");
-                String password = rs.getString("password");
-                String role = rs.getString("role");
-                
-                User user = role.equals("ADMIN") ? 
-                    new AdminUser(username, password) : 
-                    new RegularUser(username, password);
-                users.add(user);
+            if (rs.next()) {
+                return rs.getLong(1);
             }
         } catch (SQLException e) {
-            System.err.println("Database error during users retrieval: " + e.getMessage());
+            System.err.println("Database error during user count: " + e.getMessage());
         }
         
-        return users;
+        return 0;
     }
     
     @Override
-    public void saveApplication(Application app) {
-        String sql = "INSERT INTO applications (applicant_username, name, mobile_no, address, num_connections, status) VALUES (?, ?, ?, ?, ?, ?)";
-        
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setString(1, app.getApplicantUsername());
-            pstmt.setString(2, app.getName());
-            pstmt.setString(3, app.getMobileNo());
-            pstmt.setString(4, app.getAddress());
-            pstmt.setInt(5, app.getNumConnections());
-            pstmt.setString(6, app.getStatus());
-            
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            System.err.println("Database error during application save: " + e.getMessage());
-        }
+    public Map<String, Long> countApplicationsByStatus() {
+        return getApplicationStats().getCountsByStatus();
     }
     
     @Override
-    public List<Application> findAllApplications() {
-        List<Application> applications = new ArrayList<>();
-        String sql = "SELECT * FROM applications ORDER BY created_at DESC";
+    public Map<String, Long> countApplicationsByUser() {
+        String sql = "SELECT applicant_username, COUNT(*) FROM applications GROUP BY applicant_username";
+        Map<String, Long> counts = new HashMap<>();
         
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
+        try (Connection conn = pool.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql);
              ResultSet rs = pstmt.executeQuery()) {
             
             while (rs.next()) {
-                Application app = new Application(
-                    rs.getString("applicant_username"),
-                    rs.getString("name"),
-                    rs.getString("mobile_no"),
-                    rs.getString("address"),
-                    rs.getInt("num_connections")
-                );
-                app.setAppId(rs.getInt("app_id"));
-                app.setStatus(rs.getString("status"));
-                applications.add(app);
+                counts.put(rs.getString(1), rs.getLong(2));
             }
         } catch (SQLException e) {
-            System.err.println("Database error during applications retrieval: " + e.getMessage());
+            System.err.println("Database error during per-user application count: " + e.getMessage());
         }
         
-        return applications;
+        return counts;
     }
     
     @Override
-    public Optional<Application> findApplicationById(int id) {
-        String sql = "SELECT * FROM applications WHERE app_id = ?";
-        
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, id);
+    public ApplicationStats getApplicationStats() {
+        // One round trip: per-status counts plus the user count tagged as its own row kind
+        String sql = """
+            SELECT 'A' AS kind, status, COUNT(*) AS cnt FROM applications GROUP BY status
+            UNION ALL
+            SELECT 'U', NULL, COUNT(*) FROM users
+        """;
+        long totalUsers = 0;
+        Map<String, Long> counts = new HashMap<>();
+        
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    Application app = new Application(
-                        rs.getString("applicant_username"),
-                        rs.getString("name"),
-                        rs.getString("mobile_no"),
-                        rs.getString("address"),
-                        rs.getInt("num_connections")
-                    );
-                    app.setAppId(rs.getInt("app_id"));
-                    app.setStatus(rs.getString("status"));
-                    return Optional.of(app);
+            while (rs.next()) {
+                if ("U".equals(rs.getString("kind"))) {
+                    totalUsers = rs.getLong("cnt");
+                } else if (rs.getString("status") != null) {
+                    counts.put(rs.getString("status"), rs.getLong("cnt"));
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Database error during application lookup: " + e.getMessage());
+            System.err.println("Database error during statistics retrieval: " + e.getMessage());
+            return ApplicationStats.unavailable();
         }
         
-        return Optional.empty();
+        return new ApplicationStats(totalUsers, counts);
     }
     
-    @Override
-    public List<Application> findApplicationsByUsername(String username) {
-        List<Application> applications = new ArrayList<>();
-        String sql = "SELECT * FROM applications WHERE applicant_username = ? ORDER BY created_at DESC";
+    /**
+     * Keyset query: seeks past the cursor instead of using OFFSET, so every page costs the
+     * same regardless of how deep the user has scrolled. With the archive, each table
+     * supplies its own next pageSize + 1 rows and the union is cut down to the page.
+     */
+    private <T> Page<T> queryPage(String columns, RowMapper<T> mapper, Function<T, PageCursor> cursorOf,
+                                  String filter, String filterValue, PageCursor after, int pageSize, boolean withArchive) {
+        List<T> rows = new ArrayList<>();
+        String order = " ORDER BY created_at DESC, app_id DESC LIMIT ?";
+        String sql = pageQuery(columns, "applications", filter, after) + order;
+        if (withArchive) {
+            sql = "(" + sql + ") UNION ALL (" + pageQuery(columns, "applications_archive", filter, after) + order + ")" + order;
+        }
         
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
+        try (Connection conn = pool.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            pstmt.setString(1, username);
+            int index = 1;
+            for (int table = 0; table < (withArchive ? 2 : 1); table++) {
+                if (filter != null) {
+                    pstmt.setString(index++, filterValue);
+                }
+                if (after != null) {
+                    Timestamp createdAt = Timestamp.valueOf(after.getCreatedAt());
+                    pstmt.setTimestamp(index++, createdAt);
+                    pstmt.setTimestamp(index++, createdAt);
+                    pstmt.setInt(index++, after.getAppId());
+                }
+                pstmt.setInt(index++, pageSize + 1);
+            }
+            if (withArchive) {
+                pstmt.setInt(index, pageSize + 1);
+            }
             
             try (ResultSet rs = pstmt.executeQuery()) {
                 while (rs.next()) {
-                    Application app = new Application(
-                        rs.getString("applicant_username"),
-                        rs.getString("name"),
-                        rs.getString("mobile_no"),
-                        rs.getString("address"),
-                        rs.getInt("num_connections")
-                    );
-                    app.setAppId(rs.getInt("app_id"));
-                    app.setStatus(rs.getString("status"));
-                    applications.add(app);
+                    rows.add(mapper.map(rs));
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Database error during user applications retrieval: " + e.getMessage());
+            System.err.println("Database error during paged applications retrieval: " + e.getMessage());
         }
         
-        return applications;
+        return Page.fromLookahead(rows, pageSize, cursorOf);
     }
     
-    @Override
-    public void updateApplication(Application updatedApp) {
-        String sql = "UPDATE applications SET status = ? WHERE app_id = ?";
-        
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setString(1, updatedApp.getStatus());
-            pstmt.setInt(2, updatedApp.getAppId());
-            
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            System.err.println("Database error during application update: " + e.getMessage());
+    private static String pageQuery(String columns, String table, String filter, PageCursor after) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(columns).append(" FROM ").append(table).append(" WHERE 1 = 1");
+        if (filter != null) {
+            sql.append(" AND ").append(filter);
         }
+        if (after != null) {
+            sql.append(" AND (created_at < ? OR (created_at = ? AND app_id < ?))");
+        }
+        return sql.toString();
     }
     
-    @Override
-    public void deleteApplication(int id) {
-        String sql = "DELETE FROM applications WHERE app_id = ?";
-        
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, id);
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            System.err.println("Database error during application deletion: " + e.getMessage());
+    private static final RowMapper<Application> APPLICATION_MAPPER = MySQLDAO::mapApplication;
+    // Listed explicitly where applications_archive, which adds archived_at, is read too
+    private static final String APPLICATION_COLUMNS = "app_id, applicant_username, name, mobile_no, address, num_connections, status, created_at";
+    
+    // Summary rows skip the address TEXT column and are read by position, not by label
+    private static final String SUMMARY_COLUMNS = "app_id, applicant_username, name, mobile_no, num_connections, status, created_at";
+    private static final RowMapper<ApplicationSummary> SUMMARY_MAPPER = rs -> {
+        Timestamp createdAt = rs.getTimestamp(7);
+        return new ApplicationSummary(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4),
+            rs.getInt(5), rs.getString(6), createdAt != null ? createdAt.toLocalDateTime() : null);
+    };
+    
+    // Reads the rows about to change and locks them until the transaction ends
+    private static List<ApplicationSummary> lockSummaries(Connection conn, List<Integer> appIds) throws SQLException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM applications WHERE app_id IN (" + placeholders(appIds.size()) + ") FOR UPDATE";
+        List<ApplicationSummary> rows = new ArrayList<>(appIds.size());
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < appIds.size(); i++) {
+                pstmt.setInt(i + 1, appIds.get(i));
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(SUMMARY_MAPPER.map(rs));
+                }
+            }
         }
+        return rows;
+    }
+    
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+    
+    // created_at is filled in by the database; the local clock is close enough for listeners
+    private static ApplicationEvent createdEvent(Application app) {
+        ApplicationSummary summary = ApplicationSummary.of(app);
+        if (summary.getCreatedAt() == null) {
+            summary = new ApplicationSummary(app.getAppId(), app.getApplicantUsername(), app.getName(), app.getMobileNo(),
+                app.getNumConnections(), app.getStatus(), LocalDateTime.now().withNano(0));
+        }
+        return ApplicationEvent.created(summary, app.getAddress());
+    }
+    
+    private static Application mapApplication(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new Application(
+            rs.getInt("app_id"),
+            rs.getString("applicant_username"),
+            rs.getString("name"),
+            rs.getString("mobile_no"),
+            rs.getString("address"),
+            rs.getInt("num_connections"),
+            rs.getString("status"),
+            createdAt != null ? createdAt.toLocalDateTime() : null
+        );
     }
 }
 
 // --- DAO FACTORY ---
 
 class DAOFactory {
-    public static ApplicationDAO createDAO() {
+    // One cache shared by every window, so a change made in one frame invalidates all of them
+    private static ApplicationDAO sharedMySQLDAO;
+    private static ApplicationDAO sharedInMemoryDAO;
+    private static ApplicationDAO sharedRemoteDAO;
+    private static final long STATS_RECONCILE_MILLIS = Long.getLong("lpg.stats.reconcileMs", 300_000L);
+    // Other desktops may write to the same database, so the search index is re-read from it
+    private static final long SEARCH_REFRESH_MILLIS = Long.getLong("lpg.search.refreshMs", 600_000L);
+    // Set on counter desktops to use a shared LPGServerMain instead of connecting to MySQL
+    private static final String SERVER_URL = System.getProperty("lpg.server.url");
+    // Per-method latency recording for the Diagnostics tab; -Dlpg.diagnostics=false turns it off
+    private static final boolean INSTRUMENT = !"false".equalsIgnoreCase(System.getProperty("lpg.diagnostics"));
+    // Settled applications older than this move to the archive tier; 0 turns archiving off
+    private static final int ARCHIVE_AFTER_DAYS = Integer.getInteger("lpg.archive.days", 365);
+    private static ApplicationArchiver archiver;
+    // Health probes give up after this, so the monitor never waits long on a dead server
+    private static final int PING_TIMEOUT_SECONDS = 2;
+    private static DatabaseHealthMonitor healthMonitor;
+    private static String storeName; // of the last store handed out, for logs and diagnostics
+    // If MySQL does not answer at start: "memory" opens the in-memory store instead (and keeps
+    // watching MySQL), "none" opens MySQL with its breaker open, as if it had just gone down
+    private static final boolean MEMORY_FALLBACK = !"none".equalsIgnoreCase(System.getProperty("lpg.db.fallback", "memory"));
+    private static boolean memoryFallback; // the in-memory store stands in for MySQL
+    private static boolean mysqlOpened; // MySQLDAO's pool exists and may hold connections
+    
+    public static synchronized ApplicationDAO createDAO() {
+        if (SERVER_URL != null && !SERVER_URL.isBlank()) {
+            if (sharedRemoteDAO == null) {
+                sharedRemoteDAO = instrument(new RemoteApplicationDAO(SERVER_URL, System.getProperty("lpg.server.token"),
+                    Long.getLong("lpg.server.timeoutMs", 10_000L), ApplicationEventBus.shared()), "dao");
+            }
+            storeName = "service at " + SERVER_URL;
+            return sharedRemoteDAO;
+        }
+        return createLocalDAO();
+    }
+    
+    // The store this process opens itself; the server always uses this one
+    public static synchronized ApplicationDAO createLocalDAO() {
+        if (sharedInMemoryDAO != null) {
+            return sharedInMemoryDAO; // a process stays on the store it started with
+        }
         try {
             // Try to create MySQL DAO
-            return new MySQLDAO();
+            if (sharedMySQLDAO == null) {
+                // Below the cache and counters, so those keep answering while the database is down
+                CircuitBreaker breaker = new CircuitBreaker("MySQL", Integer.getInteger("lpg.db.breaker.failures", 3));
+                mysqlOpened = true;
+                try {
+                    // Throws within the connect timeout if the server is down or the driver is missing
+                    MySQLDAO.initialize();
+                } catch (SQLException e) {
+                    if (MEMORY_FALLBACK || e.getCause() instanceof ClassNotFoundException) {
+                        throw e;
+                    }
+                    // The health probe finishes initializing once the database answers
+                    System.err.println("MySQL database not available at startup, failing calls fast until it answers: " + e.getMessage());
+                    breaker.open(e.getMessage());
+                }
+                sharedMySQLDAO = instrument(new StatisticsEngine(
+                    new ApplicationSearchIndex(
+                        new CachingApplicationDAO(new CircuitBreakerApplicationDAO(instrument(new MySQLDAO(false), "store"), breaker),
+                            Integer.getInteger("lpg.cache.maxEntries", 1000),
+                            Long.getLong("lpg.cache.ttlMs", 30_000L)),
+                        ApplicationEventBus.shared(), SEARCH_REFRESH_MILLIS),
+                    ApplicationEventBus.shared(), STATS_RECONCILE_MILLIS), "dao");
+                // initialize() returns at once unless the database has not answered since startup
+                startHealthMonitor(breaker, () -> {
+                    MySQLDAO.initialize();
+                    return MySQLDAO.ping(PING_TIMEOUT_SECONDS);
+                });
+                startArchiver("MySQL", MySQLDAO::archiveSettledApplications);
+            }
+            storeName = "MySQL";
+            return sharedMySQLDAO;
         } catch (Exception e) {
             System.err.println("MySQL database not available, falling back to in-memory storage: " + e.getMessage());
-            return new InMemoryDAO();
+            // InMemoryDAO state is static, so one statistics engine serves every fallback window
+            if (sharedInMemoryDAO == null) {
+                // Journaled to disk so submissions made while the database is down survive a restart
+                String dataDir = System.getProperty("lpg.memory.dir", "lpg-data");
+                long started = System.nanoTime();
+                if (!dataDir.isBlank() && !"none".equalsIgnoreCase(dataDir)
+                        && InMemoryDAO.enableJournal(Path.of(dataDir), Long.getLong("lpg.memory.snapshotBytes", 64L << 20))) {
+                    StartupTimings.step("in-memory recovery", started);
+                    startArchiver("in-memory", InMemoryDAO::archiveSettledApplications); // archive files live next to the journal
+                }
+                sharedInMemoryDAO = instrument(new StatisticsEngine(
+                    new ApplicationSearchIndex(instrument(new InMemoryDAO(), "store"), ApplicationEventBus.shared()),
+                    ApplicationEventBus.shared(), STATS_RECONCILE_MILLIS), "dao");
+                memoryFallback = true;
+                if (!(e.getCause() instanceof ClassNotFoundException)) {
+                    // Not switched to when it answers (what was stored here would vanish), but reported.
+                    // A plain ping: this process never migrates or seeds a database it does not use
+                    CircuitBreaker watched = new CircuitBreaker("MySQL", 1);
+                    watched.open(e.getMessage());
+                    startHealthMonitor(watched, () -> MySQLDAO.ping(PING_TIMEOUT_SECONDS));
+                }
+            }
+            storeName = "in-memory";
+            return sharedInMemoryDAO;
+        }
+    }
+    
+    private static void startHealthMonitor(CircuitBreaker breaker, DatabaseHealthMonitor.Probe probe) {
+        healthMonitor = new DatabaseHealthMonitor(probe, breaker,
+            Long.getLong("lpg.db.probe.intervalMs", 10_000L), Long.getLong("lpg.db.probe.openIntervalMs", 2_000L));
+        MySQLDAO.setHealthListener(healthMonitor);
+        healthMonitor.start();
+    }
+    
+    public static synchronized String getStoreName() {
+        return storeName;
+    }
+    
+    // Watches the MySQL store, or the MySQL the in-memory fallback stands in for; null otherwise
+    public static synchronized DatabaseHealthMonitor getHealthMonitor() {
+        return healthMonitor;
+    }
+    
+    /**
+     * Why this process runs on the in-memory store instead of MySQL, for showing on screen;
+     * null when it does not.
+     */
+    public static synchronized String describeFallback() {
+        if (!memoryFallback) {
+            return null;
+        }
+        if (healthMonitor == null) {
+            return "in-memory store (no MySQL driver)";
+        }
+        return healthMonitor.getBreaker().getState() == CircuitBreaker.State.CLOSED
+            ? "in-memory fallback: MySQL is available again, restart to use it"
+            : "in-memory fallback: MySQL was unavailable at startup";
+    }
+    
+    // Stops the health probe and closes idle database connections; DAORegistry runs this at exit
+    public static synchronized void shutdown() {
+        if (healthMonitor != null) {
+            healthMonitor.stop();
+        }
+        if (mysqlOpened) {
+            MySQLDAO.shutdown(); // also closes what the fallback's probes opened
+        }
+    }
+    
+    // One archiver per process, for the store it opened; the server's clients never run one
+    private static void startArchiver(String storeName, ApplicationArchiver.ChunkMover mover) {
+        if (ARCHIVE_AFTER_DAYS <= 0 || archiver != null) {
+            return;
         }
+        archiver = new ApplicationArchiver(storeName, mover, Duration.ofDays(ARCHIVE_AFTER_DAYS),
+            Integer.getInteger("lpg.archive.chunkRows", 500), Long.getLong("lpg.archive.pauseMs", 200L));
+        archiver.start(Long.getLong("lpg.archive.intervalMs", 3_600_000L));
+    }
+    
+    private static ApplicationDAO instrument(ApplicationDAO dao, String layer) {
+        return INSTRUMENT ? new InstrumentedApplicationDAO(dao, layer) : dao;
     }
 }
 
 // --- UI FRAMES ---
 
+// Destination for the pages fetched by a PagedTableLoader
+interface PagedRows<T> {
+    void clearRows();
+    void appendRows(List<T> items, boolean hasMore);
+}
+
+/**
+ * Fills a table model one keyset page at a time. The next page is fetched when the user
+ * scrolls near the bottom of the table, so only the rows actually viewed are loaded.
+ * Pages are fetched off the EDT and appended when they arrive.
+ */
+class PagedTableLoader<T> {
+    public static final int DEFAULT_PAGE_SIZE = 200;
+    
+    private final PagedRows<T> rows;
+    private final JScrollPane scrollPane;
+    private final int pageSize;
+    private BiFunction<PageCursor, Integer, CompletableFuture<Page<T>>> fetcher;
+    private PageCursor nextCursor;
+    private boolean hasMore;
+    private boolean loading;
+    private int generation; // bumped on reset so pages of an abandoned query are dropped
+    private String edtStep; // EdtTimings step to record page population under, if any
+
+    public PagedTableLoader(PagedRows<T> rows, JScrollPane scrollPane, int pageSize) {
+        this.rows = rows;
+        this.scrollPane = scrollPane;
+        this.pageSize = pageSize;
+        
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> {
+            if (!e.getValueIsAdjusting() && isNearBottom()) {
+                loadNextPage();
+            }
+        });
+    }
+    
+    public void setEdtStep(String edtStep) {
+        this.edtStep = edtStep;
+    }
+    
+    // Clears the table and starts over from the first page of the given query
+    public void reset(BiFunction<PageCursor, Integer, CompletableFuture<Page<T>>> fetcher) {
+        this.fetcher = fetcher;
+        this.nextCursor = null;
+        this.hasMore = true;
+        this.loading = false;
+        generation++;
+        rows.clearRows();
+        loadNextPage();
+    }
+    
+    // Starts the current query over, e.g. after changes to what it shows were missed
+    public void reload() {
+        if (fetcher != null) {
+            reset(fetcher);
+        }
+    }
+    
+    public void loadNextPage() {
+        if (fetcher == null || !hasMore || loading) {
+            return;
+        }
+        loading = true;
+        int requestGeneration = generation;
+        AsyncApplicationDAO.onEdt(fetcher.apply(nextCursor, pageSize), page -> {
+            if (requestGeneration != generation) {
+                return;
+            }
+            loading = false;
+            if (edtStep != null) {
+                EdtTimings.time(edtStep, () -> rows.appendRows(page.getItems(), page.hasMore()));
+            } else {
+                rows.appendRows(page.getItems(), page.hasMore());
+            }
+            nextCursor = page.getNextCursor();
+            hasMore = page.hasMore();
+            
+            // Keep loading while the visible area is not yet filled (no scroll bar to trigger on)
+            if (hasMore && scrollPane.isShowing() && isNearBottom()) {
+                SwingUtilities.invokeLater(this::loadNextPage);
+            }
+        }, error -> {
+            if (requestGeneration == generation) {
+                loading = false; // the next scroll retries the same page
+                System.err.println("Error loading table page: " + AsyncApplicationDAO.describe(error));
+            }
+        });
+    }
+    
+    private boolean isNearBottom() {
+        JScrollBar bar = scrollPane.getVerticalScrollBar();
+        return bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum() - bar.getVisibleAmount() / 4;
+    }
+}
+
 class LoginFrame extends JFrame {
     private JTextField txtUsername;
     private JPasswordField txtPassword;
-    private ApplicationDAO dao = DAOFactory.createDAO();
+    private ApplicationDAO dao = DAORegistry.shared();
+    private AsyncApplicationDAO asyncDao = new AsyncApplicationDAO(dao);
     // User/Shared Theme Color: Light Yellow
     private static final Color USER_BG_COLOR = new Color(255, 255, 224); 
 
@@ -609,29 +2504,36 @@ class LoginFrame extends JFrame {
     private void handleLogin(ActionEvent e) {
         String username = txtUsername.getText();
         String password = new String(txtPassword.getPassword());
-        
-        Optional<User> userOpt = dao.validateUser(username, password);
-        
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            JOptionPane.showMessageDialog(this, "Login Successful! Welcome, " + user.getRole(), "Success", JOptionPane.INFORMATION_MESSAGE);
-            this.dispose();
-            
-            if (user.getRole().equals("ADMIN")) {
-                new AdminDashboardFrame().setVisible(true);
+        JButton btnLogin = (JButton) e.getSource();
+        btnLogin.setEnabled(false);
+        
+        AsyncApplicationDAO.onEdt(asyncDao.validateUser(username, password), userOpt -> {
+            btnLogin.setEnabled(true);
+            if (userOpt.isPresent()) {
+                User user = userOpt.get();
+                JOptionPane.showMessageDialog(this, "Login Successful! Welcome, " + user.getRole(), "Success", JOptionPane.INFORMATION_MESSAGE);
+                this.dispose();
+                
+                if (user.getRole().equals("ADMIN")) {
+                    new AdminDashboardFrame().setVisible(true);
+                } else {
+                    new UserDashboardFrame(username).setVisible(true);
+                }
             } else {
-                new UserDashboardFrame(username).setVisible(true);
+                JOptionPane.showMessageDialog(this, "Invalid Username or Password.", "Error", JOptionPane.ERROR_MESSAGE);
             }
-        } else {
-            JOptionPane.showMessageDialog(this, "Invalid Username or Password.", "Error", JOptionPane.ERROR_MESSAGE);
-        }
+        }, error -> {
+            btnLogin.setEnabled(true);
+            JOptionPane.showMessageDialog(this, "Login failed: " + AsyncApplicationDAO.describe(error), "Error", JOptionPane.ERROR_MESSAGE);
+        });
     }
 }
 
 class RegistrationFrame extends JFrame {
     private JTextField txtUsername;
     private JPasswordField txtPassword;
-    private ApplicationDAO dao = DAOFactory.createDAO();
+    private ApplicationDAO dao = DAORegistry.shared();
+    private AsyncApplicationDAO asyncDao = new AsyncApplicationDAO(dao);
     // User/Shared Theme Color: Light Yellow
     private static final Color USER_BG_COLOR = new Color(255, 255, 224); 
 
@@ -696,42 +2598,309 @@ class RegistrationFrame extends JFrame {
         gbc.gridx = 1; gbc.anchor = GridBagConstraints.WEST;
         mainPanel.add(txtPassword, gbc);
         
-        gbc.gridx = 0; gbc.gridy = 3; gbc.anchor = GridBagConstraints.CENTER;
-        mainPanel.add(btnBack, gbc);
+        gbc.gridx = 0; gbc.gridy = 3; gbc.anchor = GridBagConstraints.CENTER;
+        mainPanel.add(btnBack, gbc);
+        
+        gbc.gridx = 1; gbc.anchor = GridBagConstraints.CENTER;
+        mainPanel.add(btnRegister, gbc);
+        
+        add(mainPanel);
+        
+        btnRegister.addActionListener(this::handleRegister);
+        btnBack.addActionListener(e -> {
+            new LoginFrame().setVisible(true);
+            this.dispose();
+        });
+    }
+
+    private void handleRegister(ActionEvent e) {
+        String username = txtUsername.getText();
+        String password = new String(txtPassword.getPassword());
+        
+        try {
+            Validator.validateNotEmpty(username, "Username");
+            Validator.validateNotEmpty(password, "Password");
+            
+            JButton btnRegister = (JButton) e.getSource();
+            btnRegister.setEnabled(false);
+            
+            // Check if username already exists (Simplified validation), then register
+            CompletableFuture<Boolean> registered = asyncDao.validateUser(username, password)
+                .thenCompose(existing -> existing.isPresent()
+                    ? CompletableFuture.completedFuture(false)
+                    : asyncDao.registerUser(new RegularUser(username, password)).thenApply(v -> true));
+            
+            AsyncApplicationDAO.onEdt(registered, success -> {
+                btnRegister.setEnabled(true);
+                if (!success) {
+                    JOptionPane.showMessageDialog(this, "Username already taken.", "Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                JOptionPane.showMessageDialog(this, "Registration successful! Please log in.", "Success", JOptionPane.INFORMATION_MESSAGE);
+                new LoginFrame().setVisible(true);
+                this.dispose();
+            }, error -> {
+                btnRegister.setEnabled(true);
+                JOptionPane.showMessageDialog(this, "Registration failed: " + AsyncApplicationDAO.describe(error), "Error", JOptionPane.ERROR_MESSAGE);
+            });
+            
+        } catch (ValidationException ve) {
+            JOptionPane.showMessageDialog(this, ve.getMessage(), "Input Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+}
+
+/**
+ * Table model for application lists that stays current without reloading: it subscribes to
+ * the ApplicationEventBus and applies each change to the affected row only.
+ *
+ * Events are queued and applied on the EDT after a short delay, so a burst (for example a
+ * bulk approval of 1,000 rows) is merged into one table update and one repaint. Rows outside
+ * the loaded pages are left for the loader to fetch when the user scrolls to them. When the
+ * bus reports that changes were missed, the onReset action (normally the loader's reload)
+ * runs on the EDT.
+ */
+class ApplicationTableModel extends AbstractTableModel implements PagedRows<ApplicationSummary> {
+    private static final int COALESCE_MILLIS = 100;
+    
+    private final String[] columnNames;
+    private final Function<ApplicationSummary, Object[]> rowMapper;
+    private final List<ApplicationSummary> items = new ArrayList<>();
+    private final List<Object[]> rows = new ArrayList<>();
+    private final Map<Integer, Integer> rowById = new HashMap<>();
+    private Predicate<ApplicationSummary> filter = app -> true;
+    private boolean keepArchived; // archived rows stay, as in a user's history
+    private boolean complete; // no further pages: new rows may be inserted anywhere
+    
+    private final ConcurrentLinkedQueue<ApplicationEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Timer flushTimer;
+    private final Runnable unsubscribe;
+    private final Runnable unsubscribeResets;
+    private JTable selectionOwner;
+    private Consumer<List<ApplicationEvent>> onChangesApplied = events -> {};
+    private Runnable onReset = () -> {};
+    
+    public ApplicationTableModel(String[] columnNames, Function<ApplicationSummary, Object[]> rowMapper, ApplicationEventBus bus) {
+        this.columnNames = columnNames;
+        this.rowMapper = rowMapper;
+        this.flushTimer = new Timer(COALESCE_MILLIS, e -> flush());
+        this.flushTimer.setRepeats(false);
+        this.unsubscribe = bus.subscribe(events -> {
+            pending.addAll(events);
+            if (flushScheduled.compareAndSet(false, true)) {
+                SwingUtilities.invokeLater(flushTimer::restart);
+            }
+        });
+        this.unsubscribeResets = bus.subscribeResets(() -> SwingUtilities.invokeLater(() -> onReset.run()));
+    }
+    
+    // Rows this table shows; applied to incoming events (the loader's query applies it to pages)
+    public void setFilter(Predicate<ApplicationSummary> filter) {
+        this.filter = filter;
+    }
+    
+    // Whether archived applications belong in this table (the default drops them like deletes)
+    public void setKeepArchived(boolean keepArchived) {
+        this.keepArchived = keepArchived;
+    }
+    
+    // Keeps the table's selection on the same applications when rows are inserted or removed
+    public void bindSelection(JTable table) {
+        this.selectionOwner = table;
+    }
+    
+    // Called on the EDT after each coalesced batch of changes has been applied
+    public void setOnChangesApplied(Consumer<List<ApplicationEvent>> onChangesApplied) {
+        this.onChangesApplied = onChangesApplied;
+    }
+    
+    // Called on the EDT when changes were missed and the rows should be reloaded
+    public void setOnReset(Runnable onReset) {
+        this.onReset = onReset;
+    }
+    
+    public void dispose() {
+        unsubscribe.run();
+        unsubscribeResets.run();
+        flushTimer.stop();
+    }
+    
+    public int getAppIdAt(int row) {
+        return items.get(row).getAppId();
+    }
+    
+    @Override public int getRowCount() { return rows.size(); }
+    @Override public int getColumnCount() { return columnNames.length; }
+    @Override public String getColumnName(int column) { return columnNames[column]; }
+    @Override public Object getValueAt(int row, int column) { return rows.get(row)[column]; }
+    
+    @Override
+    public void clearRows() {
+        items.clear();
+        rows.clear();
+        rowById.clear();
+        complete = false;
+        fireTableDataChanged();
+    }
+    
+    @Override
+    public void appendRows(List<ApplicationSummary> page, boolean hasMore) {
+        int first = items.size();
+        for (ApplicationSummary app : page) {
+            Integer existing = rowById.get(app.getAppId());
+            if (existing != null) { // already inserted from an event
+                set(existing, app);
+            } else {
+                rowById.put(app.getAppId(), items.size());
+                items.add(app);
+                rows.add(rowMapper.apply(app));
+            }
+        }
+        complete = !hasMore;
+        if (items.size() > first) {
+            fireTableRowsInserted(first, items.size() - 1);
+        }
+    }
+    
+    private void flush() {
+        flushScheduled.set(false);
+        List<ApplicationEvent> batch = new ArrayList<>();
+        for (ApplicationEvent event; (event = pending.poll()) != null; ) {
+            batch.add(event);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        // Net effect per application, in arrival order
+        Map<Integer, ApplicationSummary> upserts = new LinkedHashMap<>();
+        Set<Integer> deletes = new HashSet<>();
+        for (ApplicationEvent event : batch) {
+            if (event.getType() == ApplicationEvent.Type.ARCHIVED && keepArchived) {
+                continue; // the row itself is unchanged
+            }
+            if (event.getType() == ApplicationEvent.Type.DELETED || event.getType() == ApplicationEvent.Type.ARCHIVED) {
+                upserts.remove(event.getAppId());
+                deletes.add(event.getAppId());
+            } else {
+                deletes.remove(event.getAppId());
+                upserts.put(event.getAppId(), event.getSummary());
+            }
+        }
         
-        gbc.gridx = 1; gbc.anchor = GridBagConstraints.CENTER;
-        mainPanel.add(btnRegister, gbc);
+        Set<Integer> selectedIds = selectedAppIds();
+        Set<Integer> removeRows = new HashSet<>();
+        List<ApplicationSummary> inserts = new ArrayList<>();
+        int firstUpdated = Integer.MAX_VALUE;
+        int lastUpdated = -1;
+        for (int appId : deletes) {
+            Integer row = rowById.get(appId);
+            if (row != null) {
+                removeRows.add(row);
+            }
+        }
+        for (ApplicationSummary app : upserts.values()) {
+            Integer row = rowById.get(app.getAppId());
+            if (row == null) {
+                if (filter.test(app)) {
+                    inserts.add(app);
+                }
+            } else if (filter.test(app)) {
+                set(row, app);
+                firstUpdated = Math.min(firstUpdated, row);
+                lastUpdated = Math.max(lastUpdated, row);
+            } else {
+                removeRows.add(row); // no longer matches, e.g. approved while viewing PENDING
+            }
+        }
         
-        add(mainPanel);
+        boolean structural = !removeRows.isEmpty();
+        if (structural) {
+            removeAll(removeRows);
+        }
+        for (ApplicationSummary app : inserts) {
+            structural |= insertSorted(app);
+        }
         
-        btnRegister.addActionListener(this::handleRegister);
-        btnBack.addActionListener(e -> {
-            new LoginFrame().setVisible(true);
-            this.dispose();
-        });
+        if (structural) {
+            rebuildIndex();
+            fireTableDataChanged();
+            restoreSelection(selectedIds);
+        } else if (lastUpdated >= 0) {
+            fireTableRowsUpdated(firstUpdated, lastUpdated);
+        }
+        onChangesApplied.accept(batch);
     }
-
-    private void handleRegister(ActionEvent e) {
-        String username = txtUsername.getText();
-        String password = new String(txtPassword.getPassword());
-        
-        try {
-            Validator.validateNotEmpty(username, "Username");
-            Validator.validateNotEmpty(password, "Password");
-            
-            // Check if username already exists (Simplified validation)
-            if (dao.validateUser(username, password).isPresent()) {
-                 JOptionPane.showMessageDialog(this, "Username already taken.", "Error", JOptionPane.ERROR_MESSAGE);
-                 return;
+    
+    private void set(int row, ApplicationSummary app) {
+        items.set(row, app);
+        rows.set(row, rowMapper.apply(app));
+    }
+    
+    private void removeAll(Set<Integer> removeRows) {
+        List<ApplicationSummary> keptItems = new ArrayList<>(items.size());
+        List<Object[]> keptRows = new ArrayList<>(rows.size());
+        for (int i = 0; i < items.size(); i++) {
+            if (!removeRows.contains(i)) {
+                keptItems.add(items.get(i));
+                keptRows.add(rows.get(i));
+            }
+        }
+        items.clear();
+        items.addAll(keptItems);
+        rows.clear();
+        rows.addAll(keptRows);
+    }
+    
+    // Rows are kept newest first; a row beyond the last loaded one belongs to a later page
+    private boolean insertSorted(ApplicationSummary app) {
+        PageCursor key = PageCursor.of(app);
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (PageCursor.of(items.get(mid)).compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == items.size() && !complete) {
+            return false;
+        }
+        items.add(low, app);
+        rows.add(low, rowMapper.apply(app));
+        return true;
+    }
+    
+    private void rebuildIndex() {
+        rowById.clear();
+        for (int i = 0; i < items.size(); i++) {
+            rowById.put(items.get(i).getAppId(), i);
+        }
+    }
+    
+    private Set<Integer> selectedAppIds() {
+        Set<Integer> ids = new HashSet<>();
+        if (selectionOwner != null) {
+            for (int viewRow : selectionOwner.getSelectedRows()) {
+                ids.add(getAppIdAt(selectionOwner.convertRowIndexToModel(viewRow)));
+            }
+        }
+        return ids;
+    }
+    
+    private void restoreSelection(Set<Integer> appIds) {
+        if (selectionOwner == null || appIds.isEmpty()) {
+            return;
+        }
+        for (int appId : appIds) {
+            Integer row = rowById.get(appId);
+            if (row != null) {
+                int viewRow = selectionOwner.convertRowIndexToView(row);
+                selectionOwner.addRowSelectionInterval(viewRow, viewRow);
             }
-            
-            dao.registerUser(new RegularUser(username, password));
-            JOptionPane.showMessageDialog(this, "Registration successful! Please log in.", "Success", JOptionPane.INFORMATION_MESSAGE);
-            new LoginFrame().setVisible(true);
-            this.dispose();
-            
-        } catch (ValidationException ve) {
-            JOptionPane.showMessageDialog(this, ve.getMessage(), "Input Error", JOptionPane.ERROR_MESSAGE);
         }
     }
 }
@@ -826,7 +2995,8 @@ class NewApplicationFrame extends JFrame {
     private JTextArea txtAddress;
     private String username;
     private JFrame parent;
-    private ApplicationDAO dao = DAOFactory.createDAO();
+    private ApplicationDAO dao = DAORegistry.shared();
+    private AsyncApplicationDAO asyncDao = new AsyncApplicationDAO(dao);
     // User/Shared Theme Color: Light Yellow
     private static final Color USER_BG_COLOR = new Color(255, 255, 224); 
 
@@ -937,30 +3107,29 @@ class NewApplicationFrame extends JFrame {
             Validator.validatePositiveInteger(connections);
             
             int numConn = Integer.parseInt(connections);
+            JButton btnSubmit = (JButton) e.getSource();
+            btnSubmit.setEnabled(false);
             
-            // --- LOGIC TO ENFORCE ONE ACTIVE APPLICATION ---
-            List<Application> existingApps = dao.findApplicationsByUsername(username);
-            
-            // Check if any existing application is PENDING or APPROVED
-            boolean hasActiveApplication = existingApps.stream()
-                .anyMatch(app -> app.getStatus().equals("PENDING") || app.getStatus().equals("APPROVED"));
-            
-            if (hasActiveApplication) {
-                JOptionPane.showMessageDialog(this, 
-                    "You currently have a PENDING or APPROVED application. You cannot submit a new request until it is settled.", 
-                    "Application Blocked", 
-                    JOptionPane.ERROR_MESSAGE);
-                return;
-            }
-            // If the user only has REJECTED applications, or no applications, they can submit a new one.
-            // --- END LOGIC ---
-
-            // C - Create: This runs if no existing active app was found.
+            // One active application per user: the DAO checks and inserts atomically, so
+            // two concurrent submits cannot both get through
             Application newApp = new Application(username, name, mobile, address, numConn);
-            dao.saveApplication(newApp); 
-            
-            JOptionPane.showMessageDialog(this, "Application submitted! ID: " + newApp.getAppId(), "Success", JOptionPane.INFORMATION_MESSAGE);
-            this.dispose();
+            AsyncApplicationDAO.onEdt(asyncDao.submitApplication(newApp), result -> {
+                btnSubmit.setEnabled(true);
+                switch (result.getOutcome()) {
+                    case CREATED:
+                        JOptionPane.showMessageDialog(this, result.getMessage(), "Success", JOptionPane.INFORMATION_MESSAGE);
+                        this.dispose();
+                        break;
+                    case BLOCKED:
+                        JOptionPane.showMessageDialog(this, result.getMessage(), "Application Blocked", JOptionPane.ERROR_MESSAGE);
+                        break;
+                    default:
+                        JOptionPane.showMessageDialog(this, "Submission failed: " + result.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }, error -> {
+                btnSubmit.setEnabled(true);
+                JOptionPane.showMessageDialog(this, "Submission failed: " + AsyncApplicationDAO.describe(error), "Error", JOptionPane.ERROR_MESSAGE);
+            });
             
         } catch (ValidationException ve) {
             // Mandatory Constraint: Exception Handling
@@ -975,9 +3144,11 @@ class NewApplicationFrame extends JFrame {
  */
 class ViewMyApplicationFrame extends JFrame {
     private String username;
-    private ApplicationDAO dao = DAOFactory.createDAO();
+    private ApplicationDAO dao = DAORegistry.shared();
+    private AsyncApplicationDAO asyncDao = new AsyncApplicationDAO(dao);
     private JTable applicationTable;
-    private DefaultTableModel tableModel;
+    private ApplicationTableModel tableModel;
+    private PagedTableLoader<ApplicationSummary> pageLoader;
     private final String[] COLUMN_NAMES = {"ID", "Name", "Mobile No.", "Connections", "Status"};
     // User/Shared Theme Color: Light Yellow
     private static final Color USER_BG_COLOR = new Color(255, 255, 224); 
@@ -994,11 +3165,22 @@ class ViewMyApplicationFrame extends JFrame {
         // Set Background Color
         getContentPane().setBackground(USER_BG_COLOR);
         
-        tableModel = new DefaultTableModel(COLUMN_NAMES, 0);
+        // Live model: status changes made by an admin appear here without a refresh
+        tableModel = new ApplicationTableModel(COLUMN_NAMES, app -> new Object[]{
+            app.getAppId(), 
+            app.getName(), 
+            app.getMobileNo(), 
+            app.getNumConnections(), 
+            app.getStatus()
+        }, ApplicationEventBus.shared());
+        tableModel.setFilter(app -> username.equals(app.getApplicantUsername()));
+        tableModel.setKeepArchived(true); // the history spans the archive too
         applicationTable = new JTable(tableModel);
         applicationTable.setEnabled(false); // Make table read-only for the user
         
         JScrollPane scrollPane = new JScrollPane(applicationTable);
+        pageLoader = new PagedTableLoader<>(tableModel, scrollPane, PagedTableLoader.DEFAULT_PAGE_SIZE);
+        tableModel.setOnReset(pageLoader::reload);
         
         JButton btnRefresh = new JButton("Refresh History");
         JButton btnClose = new JButton("Close");
@@ -1026,26 +3208,14 @@ class ViewMyApplicationFrame extends JFrame {
     
     // Method to load and update data dynamically (called on load and refresh button click)
     private void loadApplicationData() {
-        tableModel.setRowCount(0); 
-        
-        // R - Retrieve ALL applications for this user
-        List<Application> applications = dao.findApplicationsByUsername(username);
-        
-        if (applications.isEmpty()) {
-            // Display a message if no applications are found
-            // Using System.out.println for console logging instead of JOptionPane
-        } else {
-            // Populate the table with all application records
-            for (Application app : applications) {
-                tableModel.addRow(new Object[]{
-                    app.getAppId(), 
-                    app.getName(), 
-                    app.getMobileNo(), 
-                    app.getNumConnections(), 
-                    app.getStatus()
-                });
-            }
-        }
+        // R - Retrieve this user's applications, one page at a time as the table is scrolled
+        pageLoader.reset((cursor, pageSize) -> asyncDao.findApplicationSummariesByUsername(username, cursor, pageSize));
+    }
+    
+    @Override
+    public void dispose() {
+        tableModel.dispose();
+        super.dispose();
     }
 }
 
@@ -1056,8 +3226,11 @@ class ViewMyApplicationFrame extends JFrame {
  */
 class AdminDashboardFrame extends JFrame implements ActionListener {
     private JTable applicationTable, userTable;
-    private DefaultTableModel applicationTableModel, userTableModel;
-    private ApplicationDAO dao = DAOFactory.createDAO();
+    private ApplicationTableModel applicationTableModel;
+    private DefaultTableModel userTableModel;
+    private PagedTableLoader<ApplicationSummary> applicationLoader;
+    private ApplicationDAO dao = DAORegistry.shared();
+    private AsyncApplicationDAO asyncDao = new AsyncApplicationDAO(dao);
     private JTabbedPane tabbedPane;
     
     // Statistics cards for updating
@@ -1075,9 +3248,22 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
     private static final Color SUCCESS_COLOR = new Color(34, 139, 34);
     private static final Color WARNING_COLOR = new Color(255, 140, 0);
     private static final Color DANGER_COLOR = new Color(220, 20, 60);
+    private static final DateTimeFormatter CREATED_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int BULK_UPDATE_CHUNK = 500;
+    private static final int SEARCH_RESULT_LIMIT = 500;
+    private static final long EXPORT_TIMEOUT_MILLIS = 2 * 60 * 60 * 1000L; // exports stream for as long as they need
+    
+    // Diagnostics tab: live DAO and EDT timings plus JVM figures
+    private final String[] DAO_TIMING_COLUMNS = {"Layer", "Method", "Calls", "Errors", "p50 ms", "p99 ms", "Max ms", "Total ms"};
+    private final String[] EDT_TIMING_COLUMNS = {"EDT Step", "Calls", "p50 ms", "p99 ms", "Max ms", "Total ms"};
+    private static final int DIAGNOSTICS_REFRESH_MILLIS = 1000;
+    private static final String TITLE = "Admin Dashboard - LPG Management System";
+    private DefaultTableModel daoTimingModel, edtTimingModel;
+    private JLabel jvmLabel;
+    private Timer diagnosticsTimer;
 
     public AdminDashboardFrame() {
-        super("Admin Dashboard - LPG Management System");
+        super(TITLE);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setSize(1200, 800);
         setLocationRelativeTo(null);
@@ -1092,7 +3278,7 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
         // Create main content
         createMainContent();
         
-        // Load initial data
+        // Load initial data: each call returns immediately, so the three tabs load in parallel
         loadApplicationData();
         loadUserData();
         loadStatistics();
@@ -1143,6 +3329,11 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
         appMenu.add(approvedAppsItem);
         appMenu.add(rejectedAppsItem);
         
+        JMenuItem exportItem = new JMenuItem("Export Applications...");
+        exportItem.addActionListener(e -> handleExport());
+        appMenu.addSeparator();
+        appMenu.add(exportItem);
+        
         // Exit Menu
         JMenu exitMenu = new JMenu("Exit");
         JMenuItem logoutItem = new JMenuItem("Logout");
@@ -1176,6 +3367,10 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
         JPanel statsPanel = createStatisticsPanel();
         tabbedPane.addTab("Statistics", statsPanel);
         
+        // Diagnostics tab
+        JPanel diagnosticsPanel = createDiagnosticsPanel();
+        tabbedPane.addTab("Diagnostics", diagnosticsPanel);
+        
         // Add components to main frame
         getContentPane().add(headerPanel, BorderLayout.NORTH);
         getContentPane().add(tabbedPane, BorderLayout.CENTER);
@@ -1206,28 +3401,58 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
         
         // Create applications table
-        applicationTableModel = new DefaultTableModel(APP_COLUMN_NAMES, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // Make table read-only
-            }
-        };
+        // Read-only model kept current by change events instead of full reloads
+        applicationTableModel = new ApplicationTableModel(APP_COLUMN_NAMES, this::toApplicationRow, ApplicationEventBus.shared());
         applicationTable = new JTable(applicationTableModel);
-        applicationTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        applicationTable.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
         applicationTable.setRowHeight(25);
+        applicationTableModel.bindSelection(applicationTable);
+        // One statistics refresh per coalesced batch of changes, from any window
+        applicationTableModel.setOnChangesApplied(events -> loadStatistics());
         
         JScrollPane scrollPane = new JScrollPane(applicationTable);
         scrollPane.setPreferredSize(new Dimension(0, 400));
+        applicationLoader = new PagedTableLoader<>(applicationTableModel, scrollPane, PagedTableLoader.DEFAULT_PAGE_SIZE);
+        applicationLoader.setEdtStep("loadApplicationData: table rows");
+        // Missed changes: reload the current list (filter or search included) and the counters
+        applicationTableModel.setOnReset(() -> {
+            applicationLoader.reload();
+            loadStatistics();
+        });
         
         // Create application buttons panel
         JPanel buttonPanel = createApplicationButtonsPanel();
         
+        panel.add(createSearchPanel(), BorderLayout.NORTH);
         panel.add(scrollPane, BorderLayout.CENTER);
         panel.add(buttonPanel, BorderLayout.SOUTH);
         
         return panel;
     }
     
+    private JPanel createSearchPanel() {
+        JPanel searchPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 5));
+        searchPanel.setBackground(ADMIN_BG_COLOR);
+        
+        JTextField txtSearch = new JTextField(30);
+        txtSearch.setToolTipText("Name, last digits of mobile number, locality or application ID");
+        JButton btnSearch = createStyledButton("Search", BUTTON_BG_COLOR, "Search applications");
+        JButton btnClear = createStyledButton("Clear", BUTTON_BG_COLOR, "Show all applications");
+        
+        txtSearch.addActionListener(e -> searchApplications(txtSearch.getText()));
+        btnSearch.addActionListener(e -> searchApplications(txtSearch.getText()));
+        btnClear.addActionListener(e -> {
+            txtSearch.setText("");
+            loadApplicationData();
+        });
+        
+        searchPanel.add(new JLabel("Search:"));
+        searchPanel.add(txtSearch);
+        searchPanel.add(btnSearch);
+        searchPanel.add(btnClear);
+        return searchPanel;
+    }
+    
     private JPanel createApplicationButtonsPanel() {
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 10));
         buttonPanel.setBackground(ADMIN_BG_COLOR);
@@ -1237,16 +3462,22 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
         JButton btnUpdate = createStyledButton("Update Status", WARNING_COLOR, "Update application status");
         JButton btnDelete = createStyledButton("Delete", DANGER_COLOR, "Delete selected application");
         JButton btnViewDetails = createStyledButton("View Details", BUTTON_BG_COLOR, "View application details");
+        JButton btnApproveSelected = createStyledButton("Approve Selected", SUCCESS_COLOR, "Approve all selected applications");
+        JButton btnRejectSelected = createStyledButton("Reject Selected", DANGER_COLOR, "Reject all selected applications");
         
         // Add action listeners
         btnRefresh.addActionListener(e -> loadApplicationData());
         btnUpdate.addActionListener(e -> handleUpdateStatus());
         btnDelete.addActionListener(e -> handleDeleteApplication());
         btnViewDetails.addActionListener(e -> handleViewDetails());
+        btnApproveSelected.addActionListener(e -> handleBulkStatusUpdate("APPROVED"));
+        btnRejectSelected.addActionListener(e -> handleBulkStatusUpdate("REJECTED"));
         
         // Add buttons to panel
         buttonPanel.add(btnRefresh);
         buttonPanel.add(btnUpdate);
+        buttonPanel.add(btnApproveSelected);
+        buttonPanel.add(btnRejectSelected);
         buttonPanel.add(btnViewDetails);
         buttonPanel.add(btnDelete);
         
@@ -1339,6 +3570,136 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
         return panel;
     }
     
+    private JPanel createDiagnosticsPanel() {
+        JPanel panel = new JPanel(new BorderLayout(0, 10));
+        panel.setBackground(ADMIN_BG_COLOR);
+        panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        
+        jvmLabel = new JLabel(" ");
+        jvmLabel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createRaisedBevelBorder(), BorderFactory.createEmptyBorder(8, 8, 8, 8)));
+        jvmLabel.setOpaque(true);
+        jvmLabel.setBackground(Color.WHITE);
+        
+        daoTimingModel = new DefaultTableModel(DAO_TIMING_COLUMNS, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        edtTimingModel = new DefaultTableModel(EDT_TIMING_COLUMNS, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        // "dao" is what the screens wait for, "store" the database alone; the gap is the cache, index and counters
+        JScrollPane daoScroll = new JScrollPane(new JTable(daoTimingModel));
+        daoScroll.setBorder(BorderFactory.createTitledBorder("DAO calls (slowest total first)"));
+        JScrollPane edtScroll = new JScrollPane(new JTable(edtTimingModel));
+        edtScroll.setBorder(BorderFactory.createTitledBorder("Event dispatch thread"));
+        JSplitPane split = new JSplitPane(JSplitPane.VERTICAL_SPLIT, daoScroll, edtScroll);
+        split.setResizeWeight(0.7);
+        
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 5));
+        buttonPanel.setBackground(ADMIN_BG_COLOR);
+        JButton btnReset = createStyledButton("Reset Timings", BUTTON_BG_COLOR, "Start measuring from zero");
+        btnReset.addActionListener(e -> {
+            InstrumentedApplicationDAO.findAll(DAORegistry.getBackend()).forEach(InstrumentedApplicationDAO::reset);
+            EdtTimings.reset();
+            refreshDiagnostics();
+        });
+        buttonPanel.add(btnReset);
+        
+        panel.add(jvmLabel, BorderLayout.NORTH);
+        panel.add(split, BorderLayout.CENTER);
+        panel.add(buttonPanel, BorderLayout.SOUTH);
+        
+        // Refreshes only while the tab is on screen
+        diagnosticsTimer = new Timer(DIAGNOSTICS_REFRESH_MILLIS, e -> {
+            if (panel.isShowing()) {
+                refreshDiagnostics();
+            }
+        });
+        diagnosticsTimer.start();
+        return panel;
+    }
+    
+    private void refreshDiagnostics() {
+        // Totals are read once per row: recording goes on while the rows are sorted
+        List<Object[]> daoRows = new ArrayList<>();
+        for (InstrumentedApplicationDAO layer : InstrumentedApplicationDAO.findAll(DAORegistry.getBackend())) {
+            for (Map.Entry<String, LatencyRecorder> entry : layer.getRecorders().entrySet()) {
+                LatencyRecorder recorder = entry.getValue();
+                long[] percentiles = recorder.getPercentilesNanos(50, 99);
+                daoRows.add(new Object[]{
+                    layer.getLayer(), entry.getKey(), recorder.getCount(), recorder.getErrors(),
+                    formatMillis(percentiles[0]), formatMillis(percentiles[1]),
+                    formatMillis(recorder.getMaxNanos()), recorder.getTotalNanos()
+                });
+            }
+        }
+        daoRows.sort((a, b) -> Long.compare((Long) b[7], (Long) a[7]));
+        daoTimingModel.setRowCount(0);
+        for (Object[] row : daoRows) {
+            row[7] = formatMillis((Long) row[7]);
+            daoTimingModel.addRow(row);
+        }
+        
+        edtTimingModel.setRowCount(0);
+        for (Map.Entry<String, LatencyRecorder> entry : new TreeMap<>(EdtTimings.getRecorders()).entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            long[] percentiles = recorder.getPercentilesNanos(50, 99);
+            edtTimingModel.addRow(new Object[]{
+                entry.getKey(), recorder.getCount(), formatMillis(percentiles[0]), formatMillis(percentiles[1]),
+                formatMillis(recorder.getMaxNanos()), formatMillis(recorder.getTotalNanos())
+            });
+        }
+        
+        jvmLabel.setText(describeJvm());
+    }
+    
+    private String describeJvm() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        StringBuilder text = new StringBuilder("<html>");
+        text.append(String.format("<b>Heap:</b> %d MB used / %d MB committed / %s max &nbsp; <b>Threads:</b> %d &nbsp; <b>Uptime:</b> %d min",
+            heap.getUsed() >> 20, heap.getCommitted() >> 20, heap.getMax() < 0 ? "no" : (heap.getMax() >> 20) + " MB",
+            ManagementFactory.getThreadMXBean().getThreadCount(), ManagementFactory.getRuntimeMXBean().getUptime() / 60_000));
+        text.append("<br><b>GC:</b>");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            text.append(String.format(" %s: %d collections, %d ms;", gc.getName(), gc.getCollectionCount(), gc.getCollectionTime()));
+        }
+        text.append("<br><b>Startup:</b> ").append(StartupTimings.describe());
+        String fallback = DAOFactory.describeFallback();
+        if (fallback != null) {
+            text.append("<br><b><font color='red'>Store:</font></b> ").append(fallback);
+        }
+        // The frame's dao is the shared handle; the layers are behind it
+        for (ApplicationDAO layer = DAORegistry.getBackend(); layer instanceof ForwardingApplicationDAO; layer = ((ForwardingApplicationDAO) layer).getDelegate()) {
+            if (layer instanceof CachingApplicationDAO) {
+                CacheStats cache = ((CachingApplicationDAO) layer).getCacheStats();
+                text.append(String.format("<br><b>Cache:</b> %.1f%% hits (%d of %d), %d entries",
+                    cache.getHitRate(), cache.getHits(), cache.getHits() + cache.getMisses(), cache.getSize()));
+            }
+        }
+        DatabaseHealthMonitor health = DAOFactory.getHealthMonitor();
+        if (health != null) {
+            CircuitBreaker breaker = health.getBreaker();
+            long lastProbe = health.getLastProbeMillis();
+            text.append(String.format("<br><b>Database:</b> circuit %s for %d s, %d calls rejected, opened %d times; last probe %s",
+                breaker.getState(), (System.currentTimeMillis() - breaker.getStateSinceMillis()) / 1000,
+                breaker.getRejectedCalls(), breaker.getTimesOpened(),
+                lastProbe < 0 ? "pending" : String.format("%d s ago, %.1f ms (%d of %d failed)",
+                    (System.currentTimeMillis() - lastProbe) / 1000, health.getLastProbeLatencyMillis(),
+                    health.getFailedProbeCount(), health.getProbeCount())));
+        }
+        return text.append("</html>").toString();
+    }
+    
+    private static String formatMillis(long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+    
     private JPanel createStatsCard(String title, String value, String description) {
         JPanel card = new JPanel(new BorderLayout());
         card.setBackground(Color.WHITE);
@@ -1390,28 +3751,28 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
     
     // Data loading methods
     private void loadApplicationData() {
-        applicationTableModel.setRowCount(0);
-        List<Application> applications = dao.findAllApplications();
-        for (Application app : applications) {
-            applicationTableModel.addRow(new Object[]{
-                app.getAppId(),
-                app.getApplicantUsername(),
-                app.getName(),
-                app.getMobileNo(),
-                app.getNumConnections(),
-                app.getStatus(),
-                "Recent" // Placeholder for created date
-            });
-        }
+        EdtTimings.time("loadApplicationData", () -> {
+            applicationTableModel.setFilter(app -> true);
+            applicationLoader.reset((cursor, pageSize) -> asyncDao.findApplicationSummaries(null, cursor, pageSize));
+        });
+    }
+    
+    private Object[] toApplicationRow(ApplicationSummary app) {
+        return new Object[]{
+            app.getAppId(),
+            app.getApplicantUsername(),
+            app.getName(),
+            app.getMobileNo(),
+            app.getNumConnections(),
+            app.getStatus(),
+            app.getCreatedAt() != null ? app.getCreatedAt().format(CREATED_FORMAT) : ""
+        };
     }
     
     private void loadUserData() {
-        userTableModel.setRowCount(0);
-        
-        try {
-            // Load users from database
-            List<User> users = dao.findAllUsers();
-            
+        // Load users from database
+        AsyncApplicationDAO.onEdt(asyncDao.findAllUsers(), users -> {
+            userTableModel.setRowCount(0);
             for (User user : users) {
                 String actionText = "System User";
                 if (!user.getUsername().equals("admin")) {
@@ -1425,65 +3786,56 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
                     actionText
                 });
             }
-        } catch (Exception e) {
-            System.err.println("Error loading users: " + e.getMessage());
+        }, error -> {
+            System.err.println("Error loading users: " + AsyncApplicationDAO.describe(error));
             // Fallback to showing error
+            userTableModel.setRowCount(0);
             userTableModel.addRow(new Object[]{"Error", "Error", "Error", "Failed to load users"});
-        }
+        });
     }
     
     private void loadStatistics() {
-        try {
-            // Load applications from database
-            List<Application> applications = dao.findAllApplications();
-            
-            // Calculate statistics
-            int totalApplications = applications.size();
-            int pendingCount = 0;
-            int approvedCount = 0;
-            int rejectedCount = 0;
-            
-            for (Application app : applications) {
-                switch (app.getStatus()) {
-                    case "PENDING":
-                        pendingCount++;
-                        break;
-                    case "APPROVED":
-                        approvedCount++;
-                        break;
-                    case "REJECTED":
-                        rejectedCount++;
-                        break;
-                }
-            }
-            
-            // Calculate approval rate
-            double approvalRate = totalApplications > 0 ? (double) approvedCount / totalApplications * 100 : 0;
-            
-            // Get user count from database
-            int totalUsers = dao.findAllUsers().size();
-            
-            // Update statistics cards
-            if (statsValue1 != null) statsValue1.setText(String.valueOf(totalUsers));
-            if (statsValue2 != null) statsValue2.setText(String.valueOf(totalApplications));
-            if (statsValue3 != null) statsValue3.setText(String.valueOf(pendingCount));
-            if (statsValue4 != null) statsValue4.setText(String.valueOf(approvedCount));
-            if (statsValue5 != null) statsValue5.setText(String.valueOf(rejectedCount));
-            if (statsValue6 != null) statsValue6.setText(String.format("%.1f%%", approvalRate));
-            
-            // Update card colors based on values
-            updateStatsCardColors();
-            
-        } catch (Exception e) {
-            System.err.println("Error loading statistics: " + e.getMessage());
-            // Show error in statistics
-            if (statsValue1 != null) statsValue1.setText("Error");
-            if (statsValue2 != null) statsValue2.setText("Error");
-            if (statsValue3 != null) statsValue3.setText("Error");
-            if (statsValue4 != null) statsValue4.setText("Error");
-            if (statsValue5 != null) statsValue5.setText("Error");
-            if (statsValue6 != null) statsValue6.setText("Error");
-        }
+        // Counts are aggregated by the store in a single call
+        AsyncApplicationDAO.onEdt(asyncDao.getApplicationStats(),
+            stats -> EdtTimings.time("loadStatistics", () -> showStatistics(stats)), this::showStatisticsError);
+    }
+    
+    // Data entered on the in-memory fallback never reaches MySQL, so say so where it is seen
+    private void showStoreInTitle() {
+        String fallback = DAOFactory.describeFallback();
+        setTitle(fallback == null ? TITLE : TITLE + " [" + fallback + "]");
+    }
+    
+    private void showStatistics(ApplicationStats stats) {
+        showStoreInTitle();
+        long totalApplications = stats.getTotalApplications();
+        long pendingCount = stats.getPendingCount();
+        long approvedCount = stats.getApprovedCount();
+        long rejectedCount = stats.getRejectedCount();
+        double approvalRate = stats.getApprovalRate();
+        long totalUsers = stats.getTotalUsers();
+        
+        // Update statistics cards
+        if (statsValue1 != null) statsValue1.setText(String.valueOf(totalUsers));
+        if (statsValue2 != null) statsValue2.setText(String.valueOf(totalApplications));
+        if (statsValue3 != null) statsValue3.setText(String.valueOf(pendingCount));
+        if (statsValue4 != null) statsValue4.setText(String.valueOf(approvedCount));
+        if (statsValue5 != null) statsValue5.setText(String.valueOf(rejectedCount));
+        if (statsValue6 != null) statsValue6.setText(String.format("%.1f%%", approvalRate));
+        
+        // Update card colors based on values
+        updateStatsCardColors();
+    }
+    
+    private void showStatisticsError(Throwable error) {
+        System.err.println("Error loading statistics: " + AsyncApplicationDAO.describe(error));
+        // Show error in statistics
+        if (statsValue1 != null) statsValue1.setText("Error");
+        if (statsValue2 != null) statsValue2.setText("Error");
+        if (statsValue3 != null) statsValue3.setText("Error");
+        if (statsValue4 != null) statsValue4.setText("Error");
+        if (statsValue5 != null) statsValue5.setText("Error");
+        if (statsValue6 != null) statsValue6.setText("Error");
     }
     
     private void updateStatsCardColors() {
@@ -1514,36 +3866,140 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
         }
         
         int appId = (int) applicationTableModel.getValueAt(selectedRow, 0);
-        Optional<Application> appOpt = dao.findApplicationById(appId);
-        
-        if (appOpt.isPresent()) {
-            Application selectedApp = appOpt.get();
-            String[] statuses = {"PENDING", "APPROVED", "REJECTED"};
-            JComboBox<String> statusCombo = new JComboBox<>(statuses);
-            statusCombo.setSelectedItem(selectedApp.getStatus());
-            
-            int result = JOptionPane.showConfirmDialog(this, statusCombo, 
-                "Change Status for Application ID: " + appId,
-                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
-            
-            if (result == JOptionPane.OK_OPTION) {
-                updateApplicationStatus(appId, (String) statusCombo.getSelectedItem());
+        AsyncApplicationDAO.onEdt(asyncDao.findApplicationById(appId), appOpt -> {
+            if (appOpt.isPresent()) {
+                Application selectedApp = appOpt.get();
+                String[] statuses = {"PENDING", "APPROVED", "REJECTED"};
+                JComboBox<String> statusCombo = new JComboBox<>(statuses);
+                statusCombo.setSelectedItem(selectedApp.getStatus());
+                
+                int result = JOptionPane.showConfirmDialog(this, statusCombo, 
+                    "Change Status for Application ID: " + appId,
+                    JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+                
+                if (result == JOptionPane.OK_OPTION) {
+                    updateApplicationStatus(appId, (String) statusCombo.getSelectedItem());
+                }
             }
-        }
+        }, this::showDatabaseError);
     }
     
     private void updateApplicationStatus(int appId, String status) {
-        Optional<Application> appOpt = dao.findApplicationById(appId);
-        if (appOpt.isPresent()) {
-            Application app = appOpt.get();
-            app.setStatus(status);
-            dao.updateApplication(app);
-            loadApplicationData();
-            loadStatistics(); // Refresh statistics after status update
+        CompletableFuture<Integer> updated = asyncDao.updateApplicationStatuses(List.of(appId), status);
+        AsyncApplicationDAO.onEdt(updated, count -> {
+            if (count > 0) {
+                // The table and statistics update themselves from the change event
+                JOptionPane.showMessageDialog(this, 
+                    "Application " + appId + " status updated to " + status + ".", 
+                    "Status Updated", JOptionPane.INFORMATION_MESSAGE);
+            }
+        }, this::showDatabaseError);
+    }
+    
+    /**
+     * Applies one status to every selected application. IDs are sent in chunks, each
+     * committed as a single transaction, so progress can be shown and the run cancelled
+     * between chunks.
+     */
+    private void handleBulkStatusUpdate(String status) {
+        int[] selectedRows = applicationTable.getSelectedRows();
+        if (selectedRows.length == 0) {
+            JOptionPane.showMessageDialog(this, "Please select one or more applications.", "Selection Required", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        
+        List<Integer> appIds = new ArrayList<>();
+        for (int row : selectedRows) {
+            appIds.add((int) applicationTableModel.getValueAt(applicationTable.convertRowIndexToModel(row), 0));
+        }
+        int confirm = JOptionPane.showConfirmDialog(this, 
+            "Set " + appIds.size() + " selected application(s) to " + status + "?", 
+            "Confirm Bulk Update", JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE);
+        if (confirm != JOptionPane.YES_OPTION) {
+            return;
+        }
+        
+        ProgressMonitor progress = new ProgressMonitor(this, "Updating applications to " + status, "", 0, appIds.size());
+        progress.setMillisToDecideToPopup(200);
+        updateStatusesInChunks(appIds, status, 0, 0, progress);
+    }
+    
+    private void updateStatusesInChunks(List<Integer> appIds, String status, int offset, int updatedSoFar, ProgressMonitor progress) {
+        if (offset >= appIds.size() || progress.isCanceled()) {
+            progress.close();
             JOptionPane.showMessageDialog(this, 
-                "Application " + appId + " status updated to " + status + ".", 
+                updatedSoFar + " of " + appIds.size() + " application(s) updated to " + status + ".", 
                 "Status Updated", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        
+        List<Integer> chunk = new ArrayList<>(appIds.subList(offset, Math.min(offset + BULK_UPDATE_CHUNK, appIds.size())));
+        AsyncApplicationDAO.onEdt(asyncDao.updateApplicationStatuses(chunk, status), updated -> {
+            int done = offset + chunk.size();
+            progress.setProgress(done);
+            progress.setNote(done + " / " + appIds.size());
+            updateStatusesInChunks(appIds, status, done, updatedSoFar + updated, progress);
+        }, error -> {
+            progress.close();
+            showDatabaseError(error);
+        });
+    }
+    
+    /**
+     * Streams the chosen applications to a CSV or NDJSON file (gzip if the name ends in .gz).
+     * The export runs off the EDT with a cancellable progress dialog sized from the
+     * dashboard counts.
+     */
+    private void handleExport() {
+        String[] choices = {"ALL", "PENDING", "APPROVED", "REJECTED"};
+        Object choice = JOptionPane.showInputDialog(this, "Export which applications?", "Export Applications",
+            JOptionPane.QUESTION_MESSAGE, null, choices, choices[0]);
+        if (choice == null) {
+            return;
+        }
+        String status = "ALL".equals(choice) ? null : (String) choice;
+        
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Export to .csv or .ndjson (add .gz to compress)");
+        chooser.setSelectedFile(new File("applications.csv"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
         }
+        Path target = chooser.getSelectedFile().toPath();
+        
+        AsyncApplicationDAO.onEdt(asyncDao.getApplicationStats(), stats -> {
+            long total = status == null ? stats.getTotalApplications() : stats.getCount(status);
+            ProgressMonitor progress = new ProgressMonitor(this, "Exporting applications to " + target.getFileName(), "",
+                0, (int) Math.min(Integer.MAX_VALUE, Math.max(1, total)));
+            progress.setMillisToDecideToPopup(200);
+            AtomicBoolean cancelled = new AtomicBoolean();
+            
+            CompletableFuture<ExportResult> export = asyncDao.withTimeout(EXPORT_TIMEOUT_MILLIS).call(d -> {
+                try {
+                    return new ApplicationExporter(d).export(status, target, count -> SwingUtilities.invokeLater(() -> {
+                        progress.setProgress((int) Math.min(count, Integer.MAX_VALUE));
+                        progress.setNote(count + " / " + total);
+                        if (progress.isCanceled()) {
+                            cancelled.set(true);
+                        }
+                    }), cancelled::get);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            AsyncApplicationDAO.onEdt(export, result -> {
+                progress.close();
+                JOptionPane.showMessageDialog(this, result.getMessage(), "Export",
+                    result.isComplete() ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+            }, error -> {
+                progress.close();
+                showDatabaseError(error);
+            });
+        }, this::showDatabaseError);
+    }
+    
+    private void showDatabaseError(Throwable error) {
+        JOptionPane.showMessageDialog(this, AsyncApplicationDAO.describe(error), "Database Error", JOptionPane.ERROR_MESSAGE);
     }
     
     private void handleDeleteApplication() {
@@ -1559,11 +4015,10 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
             "Confirm Delete", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
         
         if (confirm == JOptionPane.YES_OPTION) {
-            dao.deleteApplication(appId);
-            loadApplicationData();
-            loadStatistics(); // Refresh statistics after deletion
-            JOptionPane.showMessageDialog(this, "Application " + appId + " deleted successfully.", 
-                "Delete Successful", JOptionPane.INFORMATION_MESSAGE);
+            AsyncApplicationDAO.onEdt(asyncDao.deleteApplication(appId), v -> {
+                JOptionPane.showMessageDialog(this, "Application " + appId + " deleted successfully.", 
+                    "Delete Successful", JOptionPane.INFORMATION_MESSAGE);
+            }, this::showDatabaseError);
         }
     }
     
@@ -1575,12 +4030,8 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
         }
         
         int appId = (int) applicationTableModel.getValueAt(selectedRow, 0);
-        Optional<Application> appOpt = dao.findApplicationById(appId);
-        
-        if (appOpt.isPresent()) {
-            Application app = appOpt.get();
-            showApplicationDetails(app);
-        }
+        AsyncApplicationDAO.onEdt(asyncDao.findApplicationById(appId),
+            appOpt -> appOpt.ifPresent(this::showApplicationDetails), this::showDatabaseError);
     }
     
     private void showApplicationDetails(Application app) {
@@ -1601,13 +4052,25 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
             app.getMobileNo(),
             app.getAddress(),
             app.getNumConnections(),
-            app.getStatus().equals("APPROVED") ? "green" : app.getStatus().equals("REJECTED") ? "red" : "orange",
+            statusColor(app.getStatus()),
             app.getStatus()
         );
         
         JOptionPane.showMessageDialog(this, details, "Application Details", JOptionPane.INFORMATION_MESSAGE);
     }
     
+    private static String statusColor(String status) {
+        ApplicationStatus parsed = ApplicationStatus.parse(status);
+        if (parsed == null) {
+            return "orange";
+        }
+        switch (parsed) {
+            case APPROVED: return "green";
+            case REJECTED: return "red";
+            default: return "orange";
+        }
+    }
+    
     // User management methods
     private void showAddUserDialog() {
         JDialog dialog = new JDialog(this, "Add New User", true);
@@ -1651,35 +4114,33 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
                 return;
             }
             
-            // Check if username already exists
-            List<User> existingUsers = dao.findAllUsers();
-            boolean usernameExists = existingUsers.stream()
-                .anyMatch(u -> u.getUsername().equals(username));
-            
-            if (usernameExists) {
-                JOptionPane.showMessageDialog(dialog, "Username already exists. Please choose a different username.", "User Exists", JOptionPane.ERROR_MESSAGE);
-                return;
+            // Create user based on role
+            User newUser;
+            if ("ADMIN".equals(role)) {
+                newUser = new AdminUser(username, password);
+            } else {
+                newUser = new RegularUser(username, password);
             }
             
-            try {
-                // Create user based on role
-                User newUser;
-                if ("ADMIN".equals(role)) {
-                    newUser = new AdminUser(username, password);
-                } else {
-                    newUser = new RegularUser(username, password);
+            // Check if username already exists, then register user in database
+            CompletableFuture<Boolean> added = asyncDao.findAllUsers().thenCompose(existingUsers -> {
+                boolean usernameExists = existingUsers.stream()
+                    .anyMatch(u -> u.getUsername().equals(username));
+                return usernameExists
+                    ? CompletableFuture.completedFuture(false)
+                    : asyncDao.registerUser(newUser).thenApply(v -> true);
+            });
+            
+            AsyncApplicationDAO.onEdt(added, success -> {
+                if (!success) {
+                    JOptionPane.showMessageDialog(dialog, "Username already exists. Please choose a different username.", "User Exists", JOptionPane.ERROR_MESSAGE);
+                    return;
                 }
-                
-                // Register user in database
-                dao.registerUser(newUser);
-                
                 JOptionPane.showMessageDialog(dialog, "User '" + username + "' added successfully as " + role + "!", "Success", JOptionPane.INFORMATION_MESSAGE);
                 dialog.dispose();
                 loadUserData();
                 loadStatistics(); // Refresh statistics
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(dialog, "Error adding user: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
-            }
+            }, error -> JOptionPane.showMessageDialog(dialog, "Error adding user: " + AsyncApplicationDAO.describe(error), "Error", JOptionPane.ERROR_MESSAGE));
         });
         
         btnCancel.addActionListener(e -> dialog.dispose());
@@ -1738,22 +4199,30 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
         JOptionPane.showMessageDialog(this, "User statistics functionality", "User Statistics", JOptionPane.INFORMATION_MESSAGE);
     }
     
-    private void filterApplications(String status) {
-        applicationTableModel.setRowCount(0);
-        List<Application> applications = dao.findAllApplications();
-        for (Application app : applications) {
-            if (app.getStatus().equals(status)) {
-                applicationTableModel.addRow(new Object[]{
-                    app.getAppId(),
-                    app.getApplicantUsername(),
-                    app.getName(),
-                    app.getMobileNo(),
-                    app.getNumConnections(),
-                    app.getStatus(),
-                    "Recent"
-                });
-            }
+    // Shows the best matches as a single page; live updates still apply to the rows shown
+    private void searchApplications(String query) {
+        if (query.isBlank()) {
+            loadApplicationData();
+            return;
         }
+        Set<Integer> shownIds = new HashSet<>();
+        applicationTableModel.setFilter(app -> shownIds.contains(app.getAppId()));
+        applicationLoader.reset((cursor, pageSize) -> asyncDao.searchApplications(query, SEARCH_RESULT_LIMIT).thenApply(results -> {
+            results.forEach(app -> shownIds.add(app.getAppId()));
+            return new Page<>(results, null);
+        }));
+    }
+    
+    private void filterApplications(String status) {
+        applicationTableModel.setFilter(app -> status.equals(app.getStatus()));
+        applicationLoader.reset((cursor, pageSize) -> asyncDao.findApplicationSummaries(status, cursor, pageSize));
+    }
+    
+    @Override
+    public void dispose() {
+        applicationTableModel.dispose();
+        diagnosticsTimer.stop();
+        super.dispose();
     }
     
     private void handleLogout() {
@@ -1777,8 +4246,19 @@ class AdminDashboardFrame extends JFrame implements ActionListener {
 
 public class LPGGasSystemMain {
     public static void main(String[] args) {
+        StartupTimings.mark(StartupTimings.MAIN);
+        DAORegistry.start(); // opens the store while the login window is built
         SwingUtilities.invokeLater(() -> {
-            new LoginFrame().setVisible(true);
+            long started = System.nanoTime();
+            LoginFrame login = new LoginFrame();
+            StartupTimings.step("login window", started);
+            login.addWindowListener(new WindowAdapter() {
+                @Override
+                public void windowOpened(WindowEvent e) {
+                    StartupTimings.mark(StartupTimings.FIRST_FRAME);
+                }
+            });
+            login.setVisible(true);
         });
     }
 }
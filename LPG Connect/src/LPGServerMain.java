@@ -0,0 +1,39 @@
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * Headless service mode: opens the database once (pool, cache, statistics and search index)
+ * and serves it to the counter desktops over HTTP.
+ *
+ * Usage: java -cp "lib/mysql-connector-j-9.4.0.jar:out" LPGServerMain [port]
+ * Desktops then start with -Dlpg.server.url=http://<host>:<port>/
+ *
+ * The server listens on 127.0.0.1 unless -Dlpg.server.host says otherwise; when it is
+ * opened to the network, set -Dlpg.server.token on the server and every desktop.
+ */
+public class LPGServerMain {
+    public static void main(String[] args) {
+        String host = System.getProperty("lpg.server.host", "127.0.0.1");
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Integer.getInteger("lpg.server.port", 8765);
+        String token = System.getProperty("lpg.server.token");
+
+        ApplicationDAO dao = DAOFactory.createLocalDAO();
+        try {
+            ApplicationDAOServer server = new ApplicationDAOServer(dao, new InetSocketAddress(host, port), token);
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "lpg-server-shutdown"));
+            System.out.println("LPG service listening on http://" + host + ":" + server.getAddress().getPort() + "/"
+                + (token != null ? " (token required)" : ""));
+        } catch (IOException e) {
+            System.err.println("Could not start the service on " + host + ":" + port + ": " + e.getMessage());
+            System.exit(1);
+        }
+
+        // Build the search index now rather than on the first desktop's search
+        for (ApplicationDAO layer = dao; layer instanceof ForwardingApplicationDAO; layer = ((ForwardingApplicationDAO) layer).getDelegate()) {
+            if (layer instanceof ApplicationSearchIndex) {
+                ((ApplicationSearchIndex) layer).warmUp();
+            }
+        }
+    }
+}
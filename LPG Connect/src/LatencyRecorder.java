@@ -0,0 +1,105 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram for one operation.
+ *
+ * Values are bucketed log-linearly: 128 buckets per power of two, so any reported percentile
+ * is within 1% of the true value while the whole histogram stays a fixed 57 KB no matter how
+ * many samples are recorded. Safe to record from any number of threads; percentiles read
+ * while recording is in progress are approximate.
+ */
+class LatencyRecorder {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS * (64 - SUB_BUCKET_BITS);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        total.increment();
+        sumNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    // Failed calls are timed like the rest but also counted here
+    public void recordError(long nanos) {
+        record(nanos);
+        errors.increment();
+    }
+
+    public long getCount() { return total.sum(); }
+    public long getErrors() { return errors.sum(); }
+    public long getMaxNanos() { return maxNanos.get(); }
+    public long getTotalNanos() { return sumNanos.sum(); }
+
+    public double getMeanNanos() {
+        long count = total.sum();
+        return count == 0 ? 0 : (double) sumNanos.sum() / count;
+    }
+
+    /** Upper bound of the bucket holding the given percentile (0-100), in nanoseconds. */
+    public long getPercentileNanos(double percentile) {
+        return getPercentilesNanos(percentile)[0];
+    }
+
+    // Several percentiles from one pass over the buckets; percentiles must be ascending
+    public long[] getPercentilesNanos(double... percentiles) {
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        long[] values = new long[percentiles.length];
+        if (count == 0) {
+            return values;
+        }
+        long max = getMaxNanos();
+        long seen = 0;
+        int bucket = -1;
+        for (int p = 0; p < percentiles.length; p++) {
+            long rank = Math.max(1, (long) Math.ceil(count * Math.min(100.0, percentiles[p]) / 100.0));
+            while (seen < rank && bucket < BUCKETS - 1) {
+                seen += snapshot[++bucket];
+            }
+            values[p] = Math.min(upperBound(Math.max(bucket, 0)), max);
+        }
+        return values;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        sumNanos.reset();
+        errors.reset();
+        maxNanos.reset();
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return SUB_BUCKETS * (shift + 1) + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long low = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return low + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,321 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * ApplicationDAO backed by a shared ApplicationDAOServer instead of a database connection,
+ * so every desktop goes through the server's one connection pool and caches.
+ *
+ * Failures are reported the way MySQLDAO reports database errors: logged, with an empty
+ * result returned. Changes made by any client reach this one through the server's event
+ * feed, which a daemon thread long-polls and republishes on the given ApplicationEventBus;
+ * this client's own writes arrive the same way, so the tables see each change exactly once.
+ * When the feed reports that changes were missed (the client fell behind the server's log,
+ * or the server restarted), a reset is published on the bus so open views reload.
+ */
+class RemoteApplicationDAO implements ApplicationDAO {
+    private static final long RETRY_MAX_MILLIS = 10_000;
+    private static final int STREAM_PAGE_SIZE = 1000;
+
+    private final URI baseUri;
+    private final String token;
+    private final Duration timeout;
+    private final HttpClient client;
+    private final ApplicationEventBus bus;
+    private volatile boolean closed;
+
+    public RemoteApplicationDAO(String baseUrl, String token, long timeoutMillis, ApplicationEventBus bus) {
+        this.bus = bus;
+        this.baseUri = URI.create(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/");
+        this.token = token;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(timeout)
+            .build();
+
+        Thread feed = new Thread(this::followEvents, "lpg-remote-events");
+        feed.setDaemon(true);
+        feed.start();
+    }
+
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public Optional<User> validateUser(String username, String password) {
+        Map<String, Object> args = new HashMap<>();
+        args.put("username", username);
+        args.put("password", password);
+        Object user = call("validateUser", args, "user validation");
+        return user != null ? Optional.of(DaoProtocol.toUser(user)) : Optional.empty();
+    }
+
+    @Override
+    public void registerUser(User user) {
+        call("registerUser", Map.of("user", DaoProtocol.user(user)), "user registration");
+    }
+
+    @Override
+    public List<User> findAllUsers() {
+        Object users = call("findAllUsers", Map.of(), "users retrieval");
+        return users != null ? DaoProtocol.toList(users, DaoProtocol::toUser) : new ArrayList<>();
+    }
+
+    @Override
+    public void saveApplication(Application app) {
+        Object saved = call("saveApplication", Map.of("application", DaoProtocol.application(app)), "application save");
+        if (saved != null) {
+            copyStoredFields(DaoProtocol.toApplication(saved), app);
+        }
+    }
+
+    @Override
+    public SubmissionResult submitApplication(Application app) {
+        Object result = call("submitApplication", Map.of("application", DaoProtocol.application(app)), "application submission");
+        if (result == null) {
+            return SubmissionResult.failed("Server unavailable, please try again.");
+        }
+        SubmissionResult submission = DaoProtocol.toSubmission(result);
+        if (submission.isCreated()) {
+            app.setAppId(submission.getAppId());
+            app.setCreatedAt(DaoProtocol.toDateTime(DaoProtocol.object(result).get("createdAt")));
+        }
+        return submission;
+    }
+
+    @Override
+    public int saveApplications(List<Application> apps) {
+        Object result = call("saveApplications",
+            Map.of("applications", DaoProtocol.list(apps, DaoProtocol::application)), "bulk application save");
+        if (result == null) {
+            return 0;
+        }
+        Map<String, Object> map = DaoProtocol.object(result);
+        List<Application> stored = DaoProtocol.toList(map.get("applications"), DaoProtocol::toApplication);
+        for (int i = 0; i < apps.size() && i < stored.size(); i++) {
+            copyStoredFields(stored.get(i), apps.get(i));
+        }
+        return DaoProtocol.integer(map, "saved");
+    }
+
+    @Override
+    public List<Application> findAllApplications() {
+        return applications(call("findAllApplications", Map.of(), "applications retrieval"));
+    }
+
+    @Override
+    public Optional<Application> findApplicationById(int id) {
+        Object app = call("findApplicationById", Map.of("id", id), "application lookup");
+        return app != null ? Optional.of(DaoProtocol.toApplication(app)) : Optional.empty();
+    }
+
+    @Override
+    public List<Application> findApplicationsByUsername(String username) {
+        return applications(call("findApplicationsByUsername", Map.of("username", username), "user applications retrieval"));
+    }
+
+    @Override
+    public void updateApplication(Application app) {
+        call("updateApplication", Map.of("application", DaoProtocol.application(app)), "application update");
+    }
+
+    @Override
+    public void deleteApplication(int id) {
+        call("deleteApplication", Map.of("id", id), "application deletion");
+    }
+
+    @Override
+    public int updateApplicationStatuses(List<Integer> appIds, String status) {
+        Map<String, Object> args = new HashMap<>();
+        args.put("appIds", appIds);
+        args.put("status", status);
+        Object updated = call("updateApplicationStatuses", args, "bulk status update");
+        return updated != null ? ((Number) updated).intValue() : 0;
+    }
+
+    @Override
+    public Page<Application> findApplicationsPage(String status, PageCursor after, int pageSize) {
+        return page("findApplicationsPage", "status", status, after, pageSize, DaoProtocol::toApplication);
+    }
+
+    @Override
+    public Page<Application> findApplicationsByUsernamePage(String username, PageCursor after, int pageSize) {
+        return page("findApplicationsByUsernamePage", "username", username, after, pageSize, DaoProtocol::toApplication);
+    }
+
+    @Override
+    public Page<ApplicationSummary> findApplicationSummaries(String status, PageCursor after, int pageSize) {
+        return page("findApplicationSummaries", "status", status, after, pageSize, DaoProtocol::toSummary);
+    }
+
+    @Override
+    public Page<ApplicationSummary> findApplicationSummariesByUsername(String username, PageCursor after, int pageSize) {
+        return page("findApplicationSummariesByUsername", "username", username, after, pageSize, DaoProtocol::toSummary);
+    }
+
+    @Override
+    public List<ApplicationSummary> searchApplications(String query, int limit) {
+        Map<String, Object> args = new HashMap<>();
+        args.put("query", query);
+        args.put("limit", limit);
+        Object found = call("searchApplications", args, "application search");
+        return found != null ? DaoProtocol.toList(found, DaoProtocol::toSummary) : new ArrayList<>();
+    }
+
+    // The service has no streaming call; pages keep this client's memory flat instead
+    @Override
+    public long forEachApplication(String status, Consumer<Application> action) {
+        long count = 0;
+        PageCursor cursor = null;
+        do {
+            Object json = pageJson("findApplicationsPage", "status", status, cursor, STREAM_PAGE_SIZE);
+            if (json == null) {
+                return -1;
+            }
+            Page<Application> page = DaoProtocol.toPage(json, DaoProtocol::toApplication);
+            for (Application app : page.getItems()) {
+                action.accept(app);
+                count++;
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return count;
+    }
+
+    @Override
+    public long countUsers() {
+        Object count = call("countUsers", Map.of(), "user count");
+        return count != null ? ((Number) count).longValue() : 0;
+    }
+
+    @Override
+    public Map<String, Long> countApplicationsByStatus() {
+        Object counts = call("countApplicationsByStatus", Map.of(), "status count");
+        return counts != null ? DaoProtocol.toCounts(counts) : new TreeMap<>();
+    }
+
+    @Override
+    public Map<String, Long> countApplicationsByUser() {
+        Object counts = call("countApplicationsByUser", Map.of(), "per-user count");
+        return counts != null ? DaoProtocol.toCounts(counts) : new TreeMap<>();
+    }
+
+    @Override
+    public ApplicationStats getApplicationStats() {
+        Object stats = call("getApplicationStats", Map.of(), "statistics");
+        return stats != null ? DaoProtocol.toStats(stats) : ApplicationStats.unavailable();
+    }
+
+    private <T> Page<T> page(String operation, String filterName, String filter, PageCursor after, int pageSize,
+                             Function<Object, T> item) {
+        Object page = pageJson(operation, filterName, filter, after, pageSize);
+        return page != null ? DaoProtocol.toPage(page, item) : new Page<>(new ArrayList<>(), null);
+    }
+
+    private Object pageJson(String operation, String filterName, String filter, PageCursor after, int pageSize) {
+        Map<String, Object> args = new HashMap<>();
+        args.put(filterName, filter);
+        args.put("after", DaoProtocol.cursor(after));
+        args.put("pageSize", pageSize);
+        return call(operation, args, "page retrieval");
+    }
+
+    private static List<Application> applications(Object json) {
+        return json != null ? DaoProtocol.toList(json, DaoProtocol::toApplication) : new ArrayList<>();
+    }
+
+    // The server stores a copy; bring back what it assigned so callers see the same as with a local DAO
+    private static void copyStoredFields(Application stored, Application app) {
+        app.setAppId(stored.getAppId());
+        app.setCreatedAt(stored.getCreatedAt());
+    }
+
+    // Result of the operation, or null when the call failed (already logged)
+    private Object call(String operation, Map<String, Object> args, String description) {
+        try {
+            HttpRequest request = request(baseUri.resolve("api/" + operation), timeout)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(Json.write(args), StandardCharsets.UTF_8))
+                .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            Map<String, Object> body = DaoProtocol.object(Json.parse(response.body()));
+            if (response.statusCode() != 200) {
+                System.err.println("Server error during " + description + ": " + body.get("error"));
+                return null;
+            }
+            return body.get("result");
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Server unreachable during " + description + ": " + e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private HttpRequest.Builder request(URI uri, Duration requestTimeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(requestTimeout);
+        if (token != null) {
+            builder.header(ApplicationDAOServer.TOKEN_HEADER, token);
+        }
+        return builder;
+    }
+
+    private void followEvents() {
+        long seq = -1; // start from the server's current position
+        String epoch = null; // of the server's numbering, which starts over when it restarts
+        long retryMillis = 500;
+        while (!closed) {
+            try {
+                HttpRequest request = request(baseUri.resolve("api/events?after=" + seq + "&waitMs=25000"
+                    + (epoch != null ? "&epoch=" + epoch : "")), timeout.plusSeconds(30)).GET().build();
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+                if (response.statusCode() != 200) {
+                    throw new IOException("HTTP " + response.statusCode());
+                }
+                Map<String, Object> body = DaoProtocol.object(Json.parse(response.body()));
+                List<ApplicationEvent> events = DaoProtocol.toList(body.get("events"), DaoProtocol::toEvent);
+                seq = DaoProtocol.number(body, "seq");
+                epoch = DaoProtocol.string(body, "epoch");
+                if (Boolean.TRUE.equals(body.get("reset"))) {
+                    System.err.println("Missed some application changes from the server; reloading open views");
+                    bus.publishReset();
+                }
+                bus.publish(events);
+                retryMillis = 500;
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Event feed from server interrupted, retrying: " + e.getMessage());
+                sleepQuietly(retryMillis);
+                retryMillis = Math.min(RETRY_MAX_MILLIS, retryMillis * 2);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteApplicationDAO[" + baseUri + "]";
+    }
+}
@@ -0,0 +1,230 @@
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies versioned schema changes to the lpg_system database.
+ *
+ * Each migration runs once; its version is then recorded in schema_version. On a database
+ * that is already current, startup costs a single SELECT and no DDL is executed. New schema
+ * changes are added by appending a migration with the next version number to
+ * {@link #MIGRATIONS} - existing entries must never be edited once released.
+ */
+class SchemaMigrator {
+    private static final String LOCK_NAME = "lpg_system.schema_migration";
+
+    static final List<Migration> MIGRATIONS = List.of(
+        new Migration(1, "Create users and applications tables", conn -> execute(conn,
+            """
+                CREATE TABLE IF NOT EXISTS users (
+                    username VARCHAR(50) PRIMARY KEY,
+                    password VARCHAR(100) NOT NULL,
+                    role VARCHAR(20) NOT NULL
+                )
+            """,
+            """
+                CREATE TABLE IF NOT EXISTS applications (
+                    app_id INT AUTO_INCREMENT PRIMARY KEY,
+                    applicant_username VARCHAR(50) NOT NULL,
+                    name VARCHAR(100) NOT NULL,
+                    mobile_no VARCHAR(15) NOT NULL,
+                    address TEXT NOT NULL,
+                    num_connections INT NOT NULL,
+                    status VARCHAR(20) DEFAULT 'PENDING',
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    FOREIGN KEY (applicant_username) REFERENCES users(username)
+                )
+            """)),
+
+        new Migration(2, "Seed default accounts and sample application", conn -> {
+            execute(conn, """
+                INSERT IGNORE INTO users (username, password, role) VALUES
+                ('admin', 'admin123', 'ADMIN'),
+                ('user1', 'user123', 'USER')
+            """);
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM applications")) {
+                if (rs.next() && rs.getInt(1) == 0) {
+                    execute(conn, """
+                        INSERT INTO applications (applicant_username, name, mobile_no, address, num_connections, status)
+                        VALUES ('user1', 'Priya Sharma', '9876543210', '123, Main St.', 2, 'PENDING')
+                    """);
+                }
+            }
+        }),
+
+        // Indexes match the keyset ordering (created_at DESC, app_id DESC) used by paging,
+        // so each filtered page is a single index range scan with no filesort.
+        new Migration(3, "Index applications for listing, per-user and per-status queries", conn -> {
+            createIndexIfMissing(conn, "applications", "idx_applications_created", "created_at, app_id");
+            createIndexIfMissing(conn, "applications", "idx_applications_user_created", "applicant_username, created_at, app_id");
+            createIndexIfMissing(conn, "applications", "idx_applications_status_created", "status, created_at, app_id");
+        }),
+
+        // Settled applications moved out of the hot table by ApplicationArchiver. app_id keeps
+        // the value it had in applications; history lookups read both tables by applicant.
+        new Migration(4, "Create applications_archive table", conn -> execute(conn, """
+            CREATE TABLE IF NOT EXISTS applications_archive (
+                app_id INT PRIMARY KEY,
+                applicant_username VARCHAR(50) NOT NULL,
+                name VARCHAR(100) NOT NULL,
+                mobile_no VARCHAR(15) NOT NULL,
+                address TEXT NOT NULL,
+                num_connections INT NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                created_at TIMESTAMP NOT NULL,
+                archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                INDEX idx_archive_user_created (applicant_username, created_at, app_id)
+            )
+        """)),
+
+        // Last CSV line committed per bulk import, written in the same transaction as its chunk
+        new Migration(5, "Create import_progress table", conn -> execute(conn, """
+            CREATE TABLE IF NOT EXISTS import_progress (
+                source VARCHAR(500) PRIMARY KEY,
+                last_line BIGINT NOT NULL,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+            )
+        """))
+    );
+
+    private final Connection conn;
+
+    public SchemaMigrator(Connection conn) {
+        this.conn = conn;
+    }
+
+    /**
+     * Brings the schema up to the latest version and returns the version it ended at.
+     */
+    public int migrate() throws SQLException {
+        int latest = MIGRATIONS.get(MIGRATIONS.size() - 1).getVersion();
+        int current = currentVersion();
+        if (current >= latest) {
+            return current;
+        }
+
+        // Several desktops may start at once; only one of them should run the DDL
+        acquireLock();
+        try {
+            current = currentVersion();
+            for (Migration migration : pending(current)) {
+                System.out.println("Applying schema migration " + migration.getVersion() + ": " + migration.getDescription());
+                migration.apply(conn);
+                recordVersion(migration);
+                current = migration.getVersion();
+            }
+        } finally {
+            releaseLock();
+        }
+        return current;
+    }
+
+    private List<Migration> pending(int current) {
+        List<Migration> pending = new ArrayList<>();
+        for (Migration migration : MIGRATIONS) {
+            if (migration.getVersion() > current) {
+                pending.add(migration);
+            }
+        }
+        return pending;
+    }
+
+    private int currentVersion() throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(version), 0) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            if (!"42S02".equals(e.getSQLState())) { // anything other than "table doesn't exist"
+                throw e;
+            }
+        }
+        execute(conn, """
+            CREATE TABLE IF NOT EXISTS schema_version (
+                version INT PRIMARY KEY,
+                description VARCHAR(200) NOT NULL,
+                applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+        """);
+        return 0;
+    }
+
+    private void recordVersion(Migration migration) throws SQLException {
+        String sql = "INSERT INTO schema_version (version, description) VALUES (?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, migration.getVersion());
+            pstmt.setString(2, migration.getDescription());
+            pstmt.executeUpdate();
+        }
+    }
+
+    private void acquireLock() throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT GET_LOCK(?, 30)")) {
+            pstmt.setString(1, LOCK_NAME);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out waiting for another client to finish schema migration");
+                }
+            }
+        }
+    }
+
+    private void releaseLock() {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            pstmt.setString(1, LOCK_NAME);
+            pstmt.executeQuery().close();
+        } catch (SQLException e) {
+            System.err.println("Failed to release schema migration lock: " + e.getMessage());
+        }
+    }
+
+    static void execute(Connection conn, String... statements) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : statements) {
+                stmt.execute(sql);
+            }
+        }
+    }
+
+    // Databases set up from the SQL scripts may already carry the index
+    static void createIndexIfMissing(Connection conn, String table, String index, String columns) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, table);
+            pstmt.setString(2, index);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next() && rs.getInt(1) > 0) {
+                    return;
+                }
+            }
+        }
+        execute(conn, "CREATE INDEX " + index + " ON " + table + " (" + columns + ")");
+    }
+}
+
+class Migration {
+    interface Step {
+        void apply(Connection conn) throws SQLException;
+    }
+
+    private final int version;
+    private final String description;
+    private final Step step;
+
+    public Migration(int version, String description, Step step) {
+        this.version = version;
+        this.description = description;
+        this.step = step;
+    }
+
+    public int getVersion() { return version; }
+    public String getDescription() { return description; }
+
+    public void apply(Connection conn) throws SQLException {
+        step.apply(conn);
+    }
+}
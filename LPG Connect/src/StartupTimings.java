@@ -0,0 +1,69 @@
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Startup timing breakdown: when main() ran, when the first window became visible and when
+ * the store was ready, each in milliseconds after JVM start, plus the duration of each
+ * startup step (building the login window, loading the driver, checking the schema, ...).
+ *
+ * The store is opened on a background thread while the login window is built, so "first
+ * frame visible" should not depend on the database. The breakdown is logged once both the
+ * first frame and the store are ready, and shown on the admin Diagnostics tab.
+ */
+class StartupTimings {
+    public static final String MAIN = "main";
+    public static final String FIRST_FRAME = "first frame visible";
+    public static final String STORE_READY = "store ready";
+
+    // Wall-clock time of each milestone, in the order reached; guarded by the class lock
+    private static final Map<String, Long> milestones = new LinkedHashMap<>();
+    private static final Map<String, Long> stepMillis = new LinkedHashMap<>();
+    private static String store;
+    private static boolean reported;
+
+    private StartupTimings() {}
+
+    // Only the first time a milestone is reached counts
+    public static synchronized void mark(String milestone) {
+        milestones.putIfAbsent(milestone, System.currentTimeMillis());
+        if (!reported && milestones.containsKey(FIRST_FRAME) && milestones.containsKey(STORE_READY)) {
+            reported = true;
+            System.out.println("Startup: " + describe());
+        }
+    }
+
+    public static synchronized void storeReady(String storeName) {
+        store = storeName;
+        mark(STORE_READY);
+    }
+
+    public static synchronized void step(String name, long startedNanos) {
+        stepMillis.putIfAbsent(name, (System.nanoTime() - startedNanos) / 1_000_000);
+    }
+
+    // e.g. "main 140 ms, first frame visible 610 ms, store ready (MySQL) 1210 ms; login window 85 ms, ..."
+    public static synchronized String describe() {
+        if (milestones.isEmpty()) {
+            return "not recorded";
+        }
+        long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, Long> milestone : milestones.entrySet()) {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append(milestone.getKey());
+            if (STORE_READY.equals(milestone.getKey()) && store != null) {
+                text.append(" (").append(store).append(')');
+            }
+            text.append(' ').append(milestone.getValue() - jvmStart).append(" ms");
+        }
+        String separator = "; ";
+        for (Map.Entry<String, Long> step : stepMillis.entrySet()) {
+            text.append(separator).append(step.getKey()).append(' ').append(step.getValue()).append(" ms");
+            separator = ", ";
+        }
+        return text.toString();
+    }
+}
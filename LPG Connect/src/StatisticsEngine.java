@@ -0,0 +1,296 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves dashboard statistics from counters instead of queries.
+ *
+ * Counters per status and per applicant are seeded once from the wrapped store, on the
+ * first statistics read, and from then on follow the ApplicationEventBus: every create,
+ * status change and delete adjusts them, so reading the statistics is O(1) however many
+ * applications exist. LongAdder keeps concurrent writers from contending on one counter.
+ *
+ * A background task periodically recounts from the store. Any difference (for example a
+ * change made by another client against the same database) is logged as drift and the
+ * counters are corrected. While the seed or a recount reads the store, arriving events
+ * are held back. An event that arrives during a read may or may not be in what was read,
+ * so the counters are only set from a read during which no event arrived; otherwise the
+ * held events are applied and the read is retried, up to QUIET_READ_ATTEMPTS times. A
+ * recount that never gets a quiet read changes nothing and waits for the next run. The
+ * seed, which must finish, then uses its last read and drops the held events rather than
+ * count some of them twice, and schedules a recount at once to settle the difference.
+ *
+ * A read that fails leaves the counters as they are: the store reports unavailable
+ * statistics, and a failed per-user count comes back empty, so its total disagrees with
+ * the per-status total although no event arrived in between.
+ */
+class StatisticsEngine extends ForwardingApplicationDAO {
+    private static final int QUIET_READ_ATTEMPTS = 3;
+
+    private final Map<String, LongAdder> byStatus = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> byUser = new ConcurrentHashMap<>();
+    private final AtomicLong totalUsers = new AtomicLong();
+    private volatile boolean usersStale;
+    private volatile boolean seeded;
+    // Events published while the store is being read; non-null only then, guarded by eventLock
+    private final Object eventLock = new Object();
+    private List<ApplicationEvent> heldEvents;
+
+    private final AtomicLong reconciliations = new AtomicLong();
+    private final AtomicLong busyReconciliations = new AtomicLong();
+    private final AtomicLong driftsDetected = new AtomicLong();
+    private final ScheduledExecutorService reconciler;
+    private final Runnable unsubscribe;
+
+    public StatisticsEngine(ApplicationDAO delegate, ApplicationEventBus bus, long reconcileMillis) {
+        super(delegate);
+        this.unsubscribe = bus.subscribe(this::apply);
+        this.reconciler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "lpg-stats-reconciler");
+            t.setDaemon(true);
+            return t;
+        });
+        reconciler.scheduleWithFixedDelay(this::reconcileInBackground, reconcileMillis, reconcileMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public ApplicationStats getApplicationStats() {
+        ensureSeeded();
+        if (usersStale) {
+            usersStale = false;
+            totalUsers.set(delegate.countUsers());
+        }
+        return new ApplicationStats(totalUsers.get(), snapshot(byStatus));
+    }
+
+    @Override
+    public Map<String, Long> countApplicationsByStatus() {
+        ensureSeeded();
+        return snapshot(byStatus);
+    }
+
+    @Override
+    public Map<String, Long> countApplicationsByUser() {
+        ensureSeeded();
+        return snapshot(byUser);
+    }
+
+    @Override
+    public long countUsers() {
+        return getApplicationStats().getTotalUsers();
+    }
+
+    public long getApplicationCount(String username) {
+        ensureSeeded();
+        LongAdder counter = byUser.get(username);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    @Override
+    public void registerUser(User user) {
+        delegate.registerUser(user);
+        usersStale = true; // a duplicate username is not an error here, so recount on next read
+    }
+
+    public long getReconciliationCount() { return reconciliations.get(); }
+    public long getDriftCount() { return driftsDetected.get(); }
+    // Recounts skipped because events kept arriving while the store was read
+    public long getBusyReconciliationCount() { return busyReconciliations.get(); }
+
+    public void shutdown() {
+        unsubscribe.run();
+        reconciler.shutdownNow();
+    }
+
+    /**
+     * Recounts from the store and corrects the counters. Returns true if they had drifted.
+     */
+    public synchronized boolean reconcile() {
+        if (!seeded) {
+            return false;
+        }
+        StringBuilder drift = new StringBuilder();
+        boolean quiet = false;
+        for (int attempt = 0; attempt < QUIET_READ_ATTEMPTS && !quiet; attempt++) {
+            holdEvents();
+            try {
+                ApplicationStats truth = delegate.getApplicationStats();
+                if (!truth.isAvailable()) {
+                    return false;
+                }
+                Map<String, Long> truthByUser = delegate.countApplicationsByUser();
+
+                synchronized (eventLock) {
+                    quiet = heldEvents.isEmpty();
+                    if (quiet && !sameTotal(truth, truthByUser)) {
+                        return false; // the per-user count failed
+                    }
+                    if (quiet) {
+                        correct(byStatus, truth.getCountsByStatus(), "status", drift);
+                        correct(byUser, truthByUser, "user", drift);
+                        long users = totalUsers.getAndSet(truth.getTotalUsers());
+                        if (users != truth.getTotalUsers()) {
+                            drift.append(" users ").append(users).append("->").append(truth.getTotalUsers());
+                        }
+                    }
+                }
+            } finally {
+                releaseEvents();
+            }
+        }
+        if (!quiet) {
+            busyReconciliations.incrementAndGet();
+            return false;
+        }
+        reconciliations.incrementAndGet();
+        if (drift.length() == 0) {
+            return false;
+        }
+        driftsDetected.incrementAndGet();
+        System.err.println("Statistics counters drifted from the store, corrected:" + drift);
+        return true;
+    }
+
+    private void reconcileInBackground() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            System.err.println("Statistics reconciliation failed: " + e.getMessage());
+        }
+    }
+
+    private void apply(List<ApplicationEvent> events) {
+        synchronized (eventLock) {
+            if (heldEvents != null) {
+                heldEvents.addAll(events);
+            } else if (seeded) {
+                count(events);
+            }
+            // else not seeded: the seed has not started reading yet, so it will include these changes
+        }
+    }
+
+    // Callers hold eventLock
+    private void count(List<ApplicationEvent> events) {
+        for (ApplicationEvent event : events) {
+            switch (event.getType()) {
+                case CREATED:
+                    counter(byStatus, event.getNewStatus()).increment();
+                    counter(byUser, event.getApplicantUsername()).increment();
+                    break;
+                case STATUS_CHANGED:
+                case UPDATED: // the status may or may not have changed with the other fields
+                    counter(byStatus, event.getOldStatus()).decrement();
+                    counter(byStatus, event.getNewStatus()).increment();
+                    break;
+                case DELETED:
+                case ARCHIVED: // the counts, like the admin views, cover the hot table only
+                    counter(byStatus, event.getOldStatus()).decrement();
+                    counter(byUser, event.getApplicantUsername()).decrement();
+                    break;
+            }
+        }
+    }
+
+    private void ensureSeeded() {
+        if (!seeded) {
+            seed(); // checked first so reads never wait on a running recount
+        }
+    }
+
+    private synchronized void seed() {
+        if (seeded) {
+            return;
+        }
+        for (int attempt = 1; !seeded; attempt++) {
+            holdEvents();
+            try {
+                ApplicationStats stats = delegate.getApplicationStats();
+                if (!stats.isAvailable()) {
+                    return; // counters stay empty and the next read retries
+                }
+                Map<String, Long> statsByUser = delegate.countApplicationsByUser();
+                synchronized (eventLock) {
+                    boolean quiet = heldEvents.isEmpty();
+                    if (quiet && !sameTotal(stats, statsByUser)) {
+                        return; // the per-user count failed; the next read retries
+                    }
+                    if (quiet || attempt == QUIET_READ_ATTEMPTS) {
+                        stats.getCountsByStatus().forEach((status, count) -> counter(byStatus, status).add(count));
+                        statsByUser.forEach((user, count) -> counter(byUser, user).add(count));
+                        totalUsers.set(stats.getTotalUsers());
+                        seeded = true;
+                    }
+                    if (seeded && !quiet && !reconciler.isShutdown()) {
+                        heldEvents.clear(); // each may already be in the read
+                        reconciler.execute(this::reconcileInBackground);
+                    }
+                }
+            } finally {
+                releaseEvents();
+            }
+        }
+    }
+
+    private void holdEvents() {
+        synchronized (eventLock) {
+            heldEvents = new ArrayList<>();
+        }
+    }
+
+    // Applies what arrived during the read once seeded; before that the next seed read includes them
+    private void releaseEvents() {
+        synchronized (eventLock) {
+            List<ApplicationEvent> held = heldEvents;
+            heldEvents = null;
+            if (seeded) {
+                count(held);
+            }
+        }
+    }
+
+    // Both reads cover the same applications, so with no change in between their totals agree
+    private static boolean sameTotal(ApplicationStats stats, Map<String, Long> byUser) {
+        return byUser.values().stream().mapToLong(Long::longValue).sum() == stats.getTotalApplications();
+    }
+
+    private static void correct(Map<String, LongAdder> counters, Map<String, Long> truth, String label, StringBuilder drift) {
+        for (Map.Entry<String, Long> entry : truth.entrySet()) {
+            long delta = entry.getValue() - counter(counters, entry.getKey()).sum();
+            if (delta != 0) {
+                counters.get(entry.getKey()).add(delta);
+                drift.append(' ').append(label).append(' ').append(entry.getKey()).append(delta > 0 ? " +" : " ").append(delta);
+            }
+        }
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            long count = entry.getValue().sum();
+            if (!truth.containsKey(entry.getKey()) && count != 0) {
+                entry.getValue().add(-count);
+                drift.append(' ').append(label).append(' ').append(entry.getKey()).append(' ').append(-count);
+            }
+        }
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counters, String key) {
+        return counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    // Zero counters are left out, matching what a GROUP BY over the store returns
+    private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+        Map<String, Long> counts = new TreeMap<>();
+        counters.forEach((key, counter) -> {
+            long count = counter.sum();
+            if (count != 0) {
+                counts.put(key, count);
+            }
+        });
+        return counts;
+    }
+}
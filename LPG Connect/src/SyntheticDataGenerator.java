@@ -0,0 +1,142 @@
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Produces realistic users and applications for load and scale testing.
+ *
+ * Names, localities and cities are drawn from Indian lists, mobile numbers are 10 digits
+ * starting with 6-9, and each user gets a short history: earlier applications were settled
+ * (mostly rejected, since an approved connection would make a new request pointless) and
+ * only the newest one carries the configured status mix, so generated data obeys the
+ * one-active-application rule. Output is deterministic for a given seed.
+ */
+class SyntheticDataGenerator {
+    public static final String USER_PREFIX = "cust";
+    public static final String DEFAULT_PASSWORD = "welcome123";
+
+    private static final String[] FIRST_NAMES = {
+        "Aarav", "Aditi", "Aishwarya", "Amit", "Ananya", "Anil", "Arjun", "Deepak", "Divya", "Gaurav",
+        "Harish", "Isha", "Karthik", "Kavya", "Krishna", "Lakshmi", "Mohammad", "Neha", "Nikhil", "Pooja",
+        "Pradeep", "Priya", "Rahul", "Rajesh", "Ravi", "Rekha", "Sandeep", "Sanjay", "Shreya", "Sneha",
+        "Suresh", "Sunita", "Tanvi", "Varun", "Vijay", "Yusuf", "Zainab", "Farhan", "Gurpreet", "Meera"
+    };
+    private static final String[] LAST_NAMES = {
+        "Sharma", "Verma", "Gupta", "Singh", "Kumar", "Patel", "Shah", "Reddy", "Rao", "Iyer",
+        "Nair", "Menon", "Pillai", "Chaudhary", "Srivastava", "Mishra", "Joshi", "Kulkarni", "Deshmukh", "Banerjee",
+        "Chatterjee", "Mukherjee", "Das", "Bose", "Khan", "Qureshi", "Ansari", "Gill", "Sandhu", "Naidu"
+    };
+    private static final String[] STREETS = {
+        "MG Road", "Station Road", "Gandhi Nagar", "Nehru Street", "Temple Street", "Church Road",
+        "Main Bazaar", "Lake View Road", "Park Street", "Market Road", "Ring Road", "College Road"
+    };
+    private static final String[][] LOCALITIES = { // locality, city, PIN prefix
+        {"Andheri East", "Mumbai", "400"}, {"Borivali West", "Mumbai", "400"}, {"Koramangala", "Bengaluru", "560"},
+        {"Whitefield", "Bengaluru", "560"}, {"Anna Nagar", "Chennai", "600"}, {"Velachery", "Chennai", "600"},
+        {"Salt Lake", "Kolkata", "700"}, {"Banjara Hills", "Hyderabad", "500"}, {"Kothrud", "Pune", "411"},
+        {"Gomti Nagar", "Lucknow", "226"}, {"Sector 62", "Noida", "201"}, {"Civil Lines", "Jaipur", "302"},
+        {"Navrangpura", "Ahmedabad", "380"}, {"Kakkanad", "Kochi", "682"}, {"Model Town", "Ludhiana", "141"}
+    };
+
+    private final long seed;
+    private final double pendingShare;
+    private final double approvedShare;
+    private final int maxHistory;
+
+    // Default mix of newest applications: 30% pending, 55% approved, 15% rejected
+    public SyntheticDataGenerator(long seed) {
+        this(seed, 0.30, 0.55, 3);
+    }
+
+    public SyntheticDataGenerator(long seed, double pendingShare, double approvedShare, int maxHistory) {
+        if (pendingShare < 0 || approvedShare < 0 || pendingShare + approvedShare > 1 || maxHistory < 1) {
+            throw new IllegalArgumentException("Invalid status mix or history length");
+        }
+        this.seed = seed;
+        this.pendingShare = pendingShare;
+        this.approvedShare = approvedShare;
+        this.maxHistory = maxHistory;
+    }
+
+    public static String username(int index) {
+        return USER_PREFIX + String.format("%06d", index);
+    }
+
+    public User user(int index) {
+        return new RegularUser(username(index), DEFAULT_PASSWORD);
+    }
+
+    /**
+     * The application history of user number index, oldest first. Each user always gets the
+     * same history for the same seed.
+     */
+    public List<Application> applicationsFor(int index) {
+        SplittableRandom random = new SplittableRandom(seed * 1_000_003L + index);
+        String username = username(index);
+        String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+        String mobile = mobileNumber(random);
+        String address = address(random);
+
+        int count = 1 + random.nextInt(maxHistory);
+        LocalDateTime created = LocalDateTime.now().withNano(0).minusDays(30L * count + random.nextInt(30));
+        List<Application> history = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean newest = i == count - 1;
+            String status = newest ? newestStatus(random) : "REJECTED";
+            Application app = new Application(0, username, name, mobile, address, 1 + random.nextInt(3), status, created);
+            history.add(app);
+            created = created.plusDays(20 + random.nextInt(40)).plusMinutes(random.nextInt(24 * 60));
+        }
+        return history;
+    }
+
+    /**
+     * Registers users [0, userCount) and stores their applications in chunks of chunkSize,
+     * each chunk one saveApplications call. Returns the number of applications stored.
+     */
+    public long populate(ApplicationDAO dao, int userCount, int chunkSize) {
+        long stored = 0;
+        List<Application> chunk = new ArrayList<>(chunkSize);
+        for (int i = 0; i < userCount; i++) {
+            dao.registerUser(user(i));
+            chunk.addAll(applicationsFor(i));
+            if (chunk.size() >= chunkSize) {
+                stored += dao.saveApplications(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            stored += dao.saveApplications(chunk);
+        }
+        return stored;
+    }
+
+    // A fresh application for a workload submit; not part of any generated history
+    public Application newApplication(SplittableRandom random, String username) {
+        return new Application(username, pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES),
+            mobileNumber(random), address(random), 1 + random.nextInt(3));
+    }
+
+    private String newestStatus(SplittableRandom random) {
+        double roll = random.nextDouble();
+        if (roll < pendingShare) {
+            return "PENDING";
+        }
+        return roll < pendingShare + approvedShare ? "APPROVED" : "REJECTED";
+    }
+
+    private static String mobileNumber(SplittableRandom random) {
+        return (6 + random.nextInt(4)) + String.format("%09d", random.nextInt(1_000_000_000));
+    }
+
+    private static String address(SplittableRandom random) {
+        String[] locality = LOCALITIES[random.nextInt(LOCALITIES.length)];
+        return (1 + random.nextInt(499)) + ", " + pick(random, STREETS) + ", " + locality[0] + ", "
+            + locality[1] + " - " + locality[2] + String.format("%03d", random.nextInt(100));
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,228 @@
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Simulates concurrent customers and admins against any ApplicationDAO.
+ *
+ * Each customer session logs in, views its application history and submits a new request
+ * (a BLOCKED answer is the normal outcome while an earlier request is still active). Each
+ * admin session logs in, loads the pending queue and approves or rejects a few requests from
+ * it. Sessions repeat until the run ends, pausing for the think time between them.
+ * Credentials come from the store's own users, so any populated database can be driven.
+ */
+class WorkloadDriver {
+    enum Operation {
+        LOGIN("login"),
+        VIEW_HISTORY("view-history"),
+        SUBMIT("submit"),
+        PENDING_QUEUE("pending-queue"),
+        APPROVE("approve");
+
+        private final String label;
+
+        Operation(String label) { this.label = label; }
+
+        public String getLabel() { return label; }
+    }
+
+    private static final int QUEUE_PAGE_SIZE = 50;
+    private static final int DECISIONS_PER_SESSION = 5;
+    private static final double APPROVE_SHARE = 0.8;
+
+    private final ApplicationDAO dao;
+    private final SyntheticDataGenerator generator;
+
+    public WorkloadDriver(ApplicationDAO dao, SyntheticDataGenerator generator) {
+        this.dao = dao;
+        this.generator = generator;
+    }
+
+    /**
+     * Runs userClients customer sessions and adminClients admin sessions concurrently for
+     * durationMillis and returns the measurements. Throws IllegalStateException if the
+     * store has no customer accounts (or no admin account while admins were requested).
+     */
+    public WorkloadReport run(int userClients, int adminClients, long durationMillis, long thinkMillis) {
+        List<User> customers = new ArrayList<>();
+        List<User> admins = new ArrayList<>();
+        for (User user : dao.findAllUsers()) {
+            ("ADMIN".equals(user.getRole()) ? admins : customers).add(user);
+        }
+        if (customers.isEmpty() && userClients > 0) {
+            throw new IllegalStateException("No customer accounts to log in with; generate data first");
+        }
+        if (admins.isEmpty() && adminClients > 0) {
+            throw new IllegalStateException("No admin account to log in with");
+        }
+
+        WorkloadReport report = new WorkloadReport(userClients, adminClients);
+        CountDownLatch finished = new CountDownLatch(userClients + adminClients);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        BooleanSupplier running = () -> System.nanoTime() < deadline;
+
+        ExecutorService executor = DaoExecutors.newTaskExecutor("lpg-workload");
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < userClients + adminClients; i++) {
+                boolean admin = i >= userClients;
+                SplittableRandom random = new SplittableRandom(31L * i + 7);
+                executor.execute(() -> {
+                    try {
+                        while (running.getAsBoolean()) {
+                            if (admin) {
+                                adminSession(admins.get(random.nextInt(admins.size())), random, report);
+                            } else {
+                                customerSession(customers.get(random.nextInt(customers.size())), random, report);
+                            }
+                            pause(thinkMillis, random);
+                        }
+                    } catch (RuntimeException e) {
+                        System.err.println("Workload client stopped: " + e);
+                    } finally {
+                        finished.countDown();
+                    }
+                });
+            }
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    private void customerSession(User user, SplittableRandom random, WorkloadReport report) {
+        if (!login(user, report)) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        dao.findApplicationSummariesByUsername(user.getUsername(), null, PagedTableLoader.DEFAULT_PAGE_SIZE);
+        report.recorder(Operation.VIEW_HISTORY).record(System.nanoTime() - started);
+
+        started = System.nanoTime();
+        SubmissionResult result = dao.submitApplication(generator.newApplication(random, user.getUsername()));
+        long elapsed = System.nanoTime() - started;
+        if (result == null || result.getOutcome() == SubmissionResult.Outcome.FAILED) {
+            report.recorder(Operation.SUBMIT).recordError(elapsed);
+        } else {
+            report.recorder(Operation.SUBMIT).record(elapsed);
+            (result.isCreated() ? report.created : report.blocked).increment();
+        }
+    }
+
+    private void adminSession(User admin, SplittableRandom random, WorkloadReport report) {
+        if (!login(admin, report)) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        Page<ApplicationSummary> queue = dao.findApplicationSummaries("PENDING", null, QUEUE_PAGE_SIZE);
+        report.recorder(Operation.PENDING_QUEUE).record(System.nanoTime() - started);
+        if (queue == null || queue.getItems().isEmpty()) {
+            return;
+        }
+
+        // Concurrent admins see the same queue head, so decide on a random sample of it
+        List<ApplicationSummary> items = queue.getItems();
+        List<Integer> ids = new ArrayList<>(DECISIONS_PER_SESSION);
+        for (int i = 0; i < DECISIONS_PER_SESSION && i < items.size(); i++) {
+            ids.add(items.get(random.nextInt(items.size())).getAppId());
+        }
+        String decision = random.nextDouble() < APPROVE_SHARE ? "APPROVED" : "REJECTED";
+
+        started = System.nanoTime();
+        int changed = dao.updateApplicationStatuses(ids, decision);
+        report.recorder(Operation.APPROVE).record(System.nanoTime() - started);
+        report.decided.add(Math.max(0, changed));
+    }
+
+    private boolean login(User user, WorkloadReport report) {
+        long started = System.nanoTime();
+        Optional<User> session = dao.validateUser(user.getUsername(), user.getPassword());
+        long elapsed = System.nanoTime() - started;
+        if (session == null || !session.isPresent()) {
+            report.recorder(Operation.LOGIN).recordError(elapsed);
+            return false;
+        }
+        report.recorder(Operation.LOGIN).record(elapsed);
+        return true;
+    }
+
+    // Think time with +/-50% jitter so clients do not move in lockstep
+    private static void pause(long thinkMillis, SplittableRandom random) {
+        if (thinkMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(thinkMillis / 2 + random.nextLong(thinkMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
+
+/**
+ * Measurements from one WorkloadDriver run: a latency histogram per operation plus
+ * submission and decision outcome counts.
+ */
+class WorkloadReport {
+    private final int userClients;
+    private final int adminClients;
+    private final Map<WorkloadDriver.Operation, LatencyRecorder> recorders = new EnumMap<>(WorkloadDriver.Operation.class);
+    final LongAdder created = new LongAdder();
+    final LongAdder blocked = new LongAdder();
+    final LongAdder decided = new LongAdder();
+    private volatile long elapsedNanos;
+
+    WorkloadReport(int userClients, int adminClients) {
+        this.userClients = userClients;
+        this.adminClients = adminClients;
+        for (WorkloadDriver.Operation operation : WorkloadDriver.Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+    }
+
+    public LatencyRecorder recorder(WorkloadDriver.Operation operation) { return recorders.get(operation); }
+    public long getElapsedNanos() { return elapsedNanos; }
+    void setElapsedNanos(long elapsedNanos) { this.elapsedNanos = elapsedNanos; }
+
+    public double getThroughput(WorkloadDriver.Operation operation) {
+        return recorder(operation).getCount() / Math.max(elapsedNanos / 1_000_000_000.0, 0.001);
+    }
+
+    public void print(PrintStream out) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        out.printf("Clients: %d customer(s), %d admin(s) | Elapsed: %.1f s%n", userClients, adminClients, seconds);
+        out.printf("%-14s %10s %7s %10s %10s %10s %10s %10s %10s%n",
+            "operation", "count", "errors", "ops/s", "p50 us", "p95 us", "p99 us", "p99.9 us", "max us");
+        for (WorkloadDriver.Operation operation : WorkloadDriver.Operation.values()) {
+            LatencyRecorder r = recorder(operation);
+            if (r.getCount() == 0) {
+                continue;
+            }
+            out.printf("%-14s %10d %7d %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                operation.getLabel(), r.getCount(), r.getErrors(), getThroughput(operation),
+                micros(r.getPercentileNanos(50)), micros(r.getPercentileNanos(95)),
+                micros(r.getPercentileNanos(99)), micros(r.getPercentileNanos(99.9)), micros(r.getMaxNanos()));
+        }
+        out.printf("Submissions: %d created, %d blocked | Decisions applied: %d%n",
+            created.sum(), blocked.sum(), decided.sum());
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+}
@@ -0,0 +1,61 @@
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+
+/**
+ * Command-line export of applications.
+ *
+ * Usage: java -cp "lib/mysql-connector-j-9.4.0.jar:out" bulk_export <file> [status]
+ *
+ * The file name picks the format: .csv or .ndjson (.jsonl), plus .gz for gzip, for example
+ * applications.ndjson.gz. Status is PENDING, APPROVED or REJECTED; omit it to export all.
+ * The export always reads the MySQL database: if it cannot be reached the command fails
+ * instead of exporting the local in-memory fallback.
+ */
+public class bulk_export {
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: bulk_export <file.csv|file.ndjson>[.gz] [status]");
+            System.exit(2);
+        }
+
+        Path target = Paths.get(args[0]);
+        String status = args.length > 1 ? args[1].trim().toUpperCase() : null;
+        if (status != null) {
+            try {
+                Validator.validateStatus(status);
+            } catch (ValidationException e) {
+                System.err.println(e.getMessage());
+                System.exit(2);
+            }
+        }
+
+        System.out.println("APPLICATION EXPORT");
+        System.out.println("==================");
+        System.out.println("File: " + target + " | Format: " + ApplicationExporter.formatFor(target)
+            + (ApplicationExporter.isGzip(target) ? " (gzip)" : "") + " | Status: " + (status != null ? status : "ALL"));
+
+        try {
+            MySQLDAO.initialize();
+        } catch (SQLException e) {
+            System.err.println("Export failed: the MySQL database is not available (" + e.getMessage() + ")");
+            System.exit(1);
+        }
+
+        try {
+            long start = System.nanoTime();
+            ApplicationExporter exporter = new ApplicationExporter(new MySQLDAO());
+            ExportResult result = exporter.export(status, target,
+                count -> System.out.println("Exported " + count + " rows"), () -> false);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            System.out.println();
+            System.out.println(result.getMessage());
+            System.out.printf("Elapsed: %.1f s (%.0f rows/s)%n", seconds, result.getExported() / Math.max(seconds, 0.001));
+            System.exit(result.isComplete() ? 0 : 1);
+        } catch (Exception e) {
+            System.err.println("Export failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+
+/**
+ * Command-line loader for distributor camp files.
+ *
+ * Usage: java -cp "lib/mysql-connector-j-9.4.0.jar:out" bulk_import <file.csv> [chunkSize]
+ *
+ * Rerunning the same command after a failure resumes from the last committed chunk.
+ * The import always goes to the MySQL database: if it cannot be reached the command fails
+ * instead of loading the file into the local in-memory fallback, which no other counter sees.
+ */
+public class bulk_import {
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: bulk_import <file.csv> [chunkSize]");
+            System.exit(2);
+        }
+
+        Path csv = Paths.get(args[0]);
+        int chunkSize = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        if (!Files.isRegularFile(csv)) {
+            System.err.println("File not found: " + csv);
+            System.exit(2);
+        }
+
+        System.out.println("BULK APPLICATION IMPORT");
+        System.out.println("=======================");
+        System.out.println("File: " + csv + " | Chunk size: " + chunkSize);
+
+        try {
+            MySQLDAO.initialize();
+        } catch (SQLException e) {
+            System.err.println("Import failed: the MySQL database is not available (" + e.getMessage() + ")");
+            System.exit(1);
+        }
+
+        try {
+            long start = System.nanoTime();
+            ApplicationImporter importer = new ApplicationImporter(new MySQLDAO(), chunkSize);
+            ImportResult result = importer.importCsv(csv);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            System.out.println();
+            System.out.println(result.getMessage());
+            System.out.println("Imported: " + result.getImported() + " | Rejected: " + result.getRejected()
+                + " | Skipped (already imported): " + result.getSkipped());
+            System.out.printf("Elapsed: %.1f s (%.0f rows/s)%n", seconds, result.getImported() / Math.max(seconds, 0.001));
+            if (result.getRejected() > 0) {
+                System.out.println("Rejected rows: " + ApplicationImporter.rejectsFor(csv));
+            }
+            System.exit(result.isComplete() ? 0 : 1);
+        } catch (Exception e) {
+            System.err.println("Import failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
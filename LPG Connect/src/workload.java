@@ -0,0 +1,140 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command-line synthetic data generation and load driving.
+ *
+ * Usage: java -cp "lib/mysql-connector-j-9.4.0.jar:out" workload generate <users> [seed]
+ *        java -cp "lib/mysql-connector-j-9.4.0.jar:out" workload run <customers> <admins> <seconds> [thinkMs]
+ *        java -cp out workload memory <users> <customers> <admins> <seconds> [thinkMs]
+ *        java -cp out workload footprint <users>
+ *
+ * generate registers users cust000000.. (password welcome123) with one to three
+ * applications each. run drives the store DAOFactory picks (a service started with
+ * LPGServerMain when lpg.server.url is set). memory generates into a fresh in-process
+ * InMemoryDAO and drives that, which needs no database. footprint generates into an
+ * InMemoryDAO and reports the heap it takes per user and per application.
+ */
+public class workload {
+    private static final int CHUNK_SIZE = 1000;
+
+    public static void main(String[] args) {
+        String mode = args.length > 0 ? args[0] : "";
+        try {
+            switch (mode) {
+                case "generate":
+                    requireArgs(args, 2, 3);
+                    generate(DAOFactory.createDAO(), intArg(args[1]), args.length > 2 ? Long.parseLong(args[2]) : 1L);
+                    break;
+                case "run":
+                    requireArgs(args, 4, 5);
+                    run(DAOFactory.createDAO(), args, 1);
+                    break;
+                case "memory":
+                    requireArgs(args, 5, 6);
+                    ApplicationDAO dao = new InMemoryDAO();
+                    generate(dao, intArg(args[1]), 1L);
+                    run(dao, args, 2);
+                    break;
+                case "footprint":
+                    requireArgs(args, 2, 2);
+                    footprint(intArg(args[1]));
+                    break;
+                default:
+                    usage();
+            }
+            System.exit(0);
+        } catch (NumberFormatException e) {
+            System.err.println("Not a number: " + e.getMessage());
+            usage();
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            System.err.println("Workload failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void generate(ApplicationDAO dao, int users, long seed) {
+        System.out.println("SYNTHETIC DATA");
+        System.out.println("==============");
+        long start = System.nanoTime();
+        long stored = new SyntheticDataGenerator(seed).populate(dao, users, CHUNK_SIZE);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("Users: %d | Applications stored: %d | Elapsed: %.1f s%n", users, stored, seconds);
+    }
+
+    // args[from..] = customers admins seconds [thinkMs]
+    private static void run(ApplicationDAO dao, String[] args, int from) {
+        int customers = intArg(args[from]);
+        int admins = intArg(args[from + 1]);
+        long seconds = intArg(args[from + 2]);
+        long thinkMillis = args.length > from + 3 ? intArg(args[from + 3]) : 0;
+
+        System.out.println();
+        System.out.println("WORKLOAD");
+        System.out.println("========");
+        System.out.println("Customers: " + customers + " | Admins: " + admins + " | Duration: " + seconds
+            + " s | Think time: " + thinkMillis + " ms");
+        WorkloadReport report = new WorkloadDriver(dao, new SyntheticDataGenerator(System.nanoTime()))
+            .run(customers, admins, seconds * 1000, thinkMillis);
+        System.out.println();
+        report.print(System.out);
+    }
+
+    // Heap retained by the store itself, measured after full collections
+    private static void footprint(int users) {
+        System.out.println("IN-MEMORY FOOTPRINT");
+        System.out.println("===================");
+        ApplicationDAO dao = new InMemoryDAO();
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1L);
+        long empty = usedHeap();
+        for (int i = 0; i < users; i++) {
+            dao.registerUser(generator.user(i));
+        }
+        long withUsers = usedHeap();
+        long stored = 0;
+        List<Application> chunk = new ArrayList<>(CHUNK_SIZE * 2);
+        for (int i = 0; i < users; i++) {
+            chunk.addAll(generator.applicationsFor(i));
+            if (chunk.size() >= CHUNK_SIZE || i == users - 1) {
+                stored += dao.saveApplications(chunk);
+                chunk = new ArrayList<>(CHUNK_SIZE * 2);
+            }
+        }
+        chunk = null;
+        long withApplications = usedHeap();
+        System.out.printf("Users: %d | %.1f MB | %.0f bytes per user%n",
+            users, (withUsers - empty) / 1e6, (withUsers - empty) / (double) Math.max(1, users));
+        System.out.printf("Applications: %d | %.1f MB | %.0f bytes per application%n",
+            stored, (withApplications - withUsers) / 1e6, (withApplications - withUsers) / (double) Math.max(1, stored));
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static int intArg(String value) {
+        int parsed = Integer.parseInt(value.trim());
+        if (parsed < 0) {
+            throw new IllegalArgumentException("Negative value: " + value);
+        }
+        return parsed;
+    }
+
+    private static void requireArgs(String[] args, int min, int max) {
+        if (args.length < min || args.length > max) {
+            usage();
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: workload generate <users> [seed]");
+        System.err.println("       workload run <customers> <admins> <seconds> [thinkMs]");
+        System.err.println("       workload memory <users> <customers> <admins> <seconds> [thinkMs]");
+        System.err.println("       workload footprint <users>");
+        System.exit(2);
+    }
+}